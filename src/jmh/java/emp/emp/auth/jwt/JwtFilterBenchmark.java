@@ -0,0 +1,103 @@
+package emp.emp.auth.jwt;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import emp.emp.auth.custom.CustomUserDetails;
+import emp.emp.auth.dto.LoginDto;
+import emp.emp.util.jwt.JwtTokenProvider;
+import emp.emp.util.jwt.TokenVerification;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+// JwtFilter 의 토큰 처리 구간 (검증 → claims → CustomUserDetails) 비교
+// - legacy: 기존 validateToken + getClaims. 호출마다 Key 와 JwtParser 를 새로 만들고 HS512 검증을 두 번 한다
+// - singleParse: 캐시한 Key/JwtParser 로 한 번만 파싱 (검증 캐시 끔)
+// - cached: 검증을 마친 토큰 캐시까지 사용 (같은 토큰으로 계속 요청하는 경우)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+	private static final String SECRET = "MySuperSecretKeyForHS512ThatIsAtLeast64BytesLongAndSuperSafeIndeed!";
+
+	private JwtTokenProvider uncachedProvider;
+	private JwtTokenProvider cachedProvider;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		uncachedProvider = provider(0);
+		cachedProvider = provider(10_000);
+
+		LoginDto loginDto = LoginDto.builder()
+			.email("bench@example.com")
+			.verifyId("BenchVerifyId123456")
+			.role("ROLE_USER")
+			.password("")
+			.build();
+		accessToken = cachedProvider.generateAccessToken(CustomUserDetails.create(loginDto));
+	}
+
+	@Benchmark
+	public CustomUserDetails legacy() {
+		if (!legacyValidateToken(accessToken)) {
+			throw new IllegalStateException();
+		}
+		return CustomUserDetails.createCustomUserDetailsFromClaims(legacyGetClaims(accessToken));
+	}
+
+	@Benchmark
+	public CustomUserDetails singleParse() {
+		return toUserDetails(uncachedProvider.verify(accessToken));
+	}
+
+	@Benchmark
+	public CustomUserDetails cached() {
+		return toUserDetails(cachedProvider.verify(accessToken));
+	}
+
+	private static CustomUserDetails toUserDetails(TokenVerification verification) {
+		if (!verification.isValid()) {
+			throw new IllegalStateException(String.valueOf(verification.getFailure()));
+		}
+		return CustomUserDetails.createCustomUserDetailsFromClaims(verification.getClaims());
+	}
+
+	// 변경 전 JwtTokenProvider.validateToken
+	private static boolean legacyValidateToken(String token) {
+		try {
+			Key key = JwtTokenProvider.getKeyFromString(SECRET);
+			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+			return true;
+		} catch (Exception ex) {
+			return false;
+		}
+	}
+
+	// 변경 전 JwtTokenProvider.getClaims
+	private static Claims legacyGetClaims(String token) {
+		Key key = JwtTokenProvider.getKeyFromString(SECRET);
+		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+	}
+
+	private static JwtTokenProvider provider(int verifiedCacheMaxSize) {
+		return new JwtTokenProvider(null, null, SECRET, verifiedCacheMaxSize, 300_000L);
+	}
+}
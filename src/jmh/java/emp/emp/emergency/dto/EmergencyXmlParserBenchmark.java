@@ -0,0 +1,97 @@
+package emp.emp.emergency.dto;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 기존 문자열 split 파서와 StAX 파서 비교
+// 녹화해 둔 응답 item(room-item.xml, aed-item.xml)을 itemCount 만큼 반복해서 큰 응답을 만든다.
+// 기존 방식은 커넥션에서 줄 단위로 읽어 String 으로 모으는 비용까지 포함해서 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmergencyXmlParserBenchmark {
+
+    @Param({"100", "5000", "50000"})
+    private int itemCount;
+
+    private byte[] roomPayload;
+    private byte[] aedPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        roomPayload = buildPayload(readFixture("/emergency/room-item.xml"), itemCount);
+        aedPayload = buildPayload(readFixture("/emergency/aed-item.xml"), itemCount);
+    }
+
+    @Benchmark
+    public List<EmergencyRoomDTO> roomLegacy() throws IOException {
+        return LegacyEmergencyRoomXmlParser.parse(readLines(new ByteArrayInputStream(roomPayload)));
+    }
+
+    @Benchmark
+    public List<EmergencyRoomDTO> roomStax() throws IOException {
+        return EmergencyRoomXmlParser.parse(new ByteArrayInputStream(roomPayload));
+    }
+
+    @Benchmark
+    public List<EmergencyAedDTO> aedLegacy() throws IOException {
+        return LegacyEmergencyAedXmlParser.parse(readLines(new ByteArrayInputStream(aedPayload)));
+    }
+
+    @Benchmark
+    public List<EmergencyAedDTO> aedStax() throws IOException {
+        return EmergencyAedXmlParser.parse(new ByteArrayInputStream(aedPayload));
+    }
+
+    // 기존 EmergencyClient 가 응답을 읽던 방식 그대로
+    private static String readLines(InputStream in) throws IOException {
+        BufferedReader rd = new BufferedReader(new InputStreamReader(in));
+        StringBuilder sb = new StringBuilder();
+        String line;
+        while ((line = rd.readLine()) != null) {
+            sb.append(line);
+        }
+        rd.close();
+        return sb.toString();
+    }
+
+    private static String readFixture(String path) throws IOException {
+        try (InputStream in = EmergencyXmlParserBenchmark.class.getResourceAsStream(path)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+    }
+
+    private static byte[] buildPayload(String item, int count) {
+        StringBuilder xml = new StringBuilder(item.length() * count + 256);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n")
+            .append("<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>\n")
+            .append("<body><items>\n");
+        for (int i = 0; i < count; i++) {
+            xml.append(item).append('\n');
+        }
+        xml.append("</items><numOfRows>").append(count).append("</numOfRows><pageNo>1</pageNo>")
+            .append("<totalCount>").append(count).append("</totalCount></body></response>");
+        return xml.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
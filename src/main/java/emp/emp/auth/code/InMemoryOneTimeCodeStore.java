@@ -0,0 +1,60 @@
+package emp.emp.auth.code;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 들고 있는 OneTimeCodeStore. 테스트와 Redis 없이 띄우는 로컬 환경용이다 (auth.one-time-code.store=memory).
+ * 코드를 발급한 인스턴스에서만 교환할 수 있으므로 여러 대로 띄울 때는 쓰지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.one-time-code.store", havingValue = "memory")
+public class InMemoryOneTimeCodeStore implements OneTimeCodeStore {
+
+	private final long ttlMillis;
+	private final LongSupplier clock;
+	private final Map<String, Entry> codes = new ConcurrentHashMap<>();
+
+	@Autowired
+	public InMemoryOneTimeCodeStore(@Value("${auth.one-time-code.ttl-seconds:300}") long ttlSeconds) {
+		this(ttlSeconds * 1000, System::currentTimeMillis);
+	}
+
+	InMemoryOneTimeCodeStore(long ttlMillis, LongSupplier clock) {
+		this.ttlMillis = ttlMillis;
+		this.clock = clock;
+	}
+
+	@Override
+	public String issue(LoginTokens tokens) {
+		long now = clock.getAsLong();
+		codes.values().removeIf(entry -> entry.expiresAt <= now);
+
+		String code = OneTimeCodeStore.newCode();
+		codes.put(code, new Entry(tokens.serialize(), now + ttlMillis));
+		return code;
+	}
+
+	@Override
+	public Optional<LoginTokens> redeem(String code) {
+		if (code == null) {
+			return Optional.empty();
+		}
+		// remove 로 꺼내므로 같은 코드는 한 번만 교환된다
+		Entry entry = codes.remove(code);
+		if (entry == null || entry.expiresAt <= clock.getAsLong()) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(LoginTokens.deserialize(entry.value));
+	}
+
+	private record Entry(String value, long expiresAt) {
+	}
+}
@@ -0,0 +1,56 @@
+package emp.emp.auth.code;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인 직후 임시 코드로 넘겨주는 토큰 묶음.
+ * 교환할 때 JSON 파싱이나 JWT 파싱 없이 바로 돌려줄 수 있도록 role 까지 담아서 한 줄 문자열로 저장한다.
+ */
+@Getter
+@AllArgsConstructor
+public class LoginTokens {
+
+	// JWT 와 role 에는 줄바꿈이 들어가지 않는다
+	private static final char SEPARATOR = '\n';
+
+	private final String accessToken;
+	private final String refreshToken;
+	private final String role;
+
+	/**
+	 * @return "accessToken\nrefreshToken\nrole"
+	 */
+	public String serialize() {
+		return accessToken + SEPARATOR + refreshToken + SEPARATOR + role;
+	}
+
+	/**
+	 * @return 형식이 맞지 않으면 null
+	 */
+	public static LoginTokens deserialize(String value) {
+		if (value == null) {
+			return null;
+		}
+		int first = value.indexOf(SEPARATOR);
+		int second = first < 0 ? -1 : value.indexOf(SEPARATOR, first + 1);
+		if (second < 0) {
+			return null;
+		}
+		return new LoginTokens(value.substring(0, first), value.substring(first + 1, second),
+			value.substring(second + 1));
+	}
+
+	/**
+	 * @return 토큰 교환 응답 (accessToken, refreshToken, role)
+	 */
+	public Map<String, String> toResponse() {
+		return Map.of(
+			"accessToken", accessToken,
+			"refreshToken", refreshToken,
+			"role", role
+		);
+	}
+}
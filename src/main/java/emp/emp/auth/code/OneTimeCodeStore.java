@@ -0,0 +1,31 @@
+package emp.emp.auth.code;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 로그인 성공 후 프론트로 리다이렉트할 때 쓰는 임시 코드 저장소.
+ * 코드는 한 번만 교환할 수 있다. 같은 코드로 동시에 교환해도 한 요청만 토큰을 받는다.
+ */
+public interface OneTimeCodeStore {
+
+	/**
+	 * 토큰을 저장하고 임시 코드를 발급한다
+	 *
+	 * @param tokens 넘겨줄 토큰
+	 * @return 16자리 임시 코드
+	 */
+	String issue(LoginTokens tokens);
+
+	/**
+	 * 임시 코드를 꺼내면서 지운다
+	 *
+	 * @param code 임시 코드
+	 * @return 저장된 토큰, 없거나 이미 교환했거나 만료됐으면 empty
+	 */
+	Optional<LoginTokens> redeem(String code);
+
+	static String newCode() {
+		return UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+	}
+}
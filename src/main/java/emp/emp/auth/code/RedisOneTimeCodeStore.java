@@ -0,0 +1,45 @@
+package emp.emp.auth.code;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 에 임시 코드를 저장하는 OneTimeCodeStore.
+ * 교환은 GETDEL 한 번으로 읽기와 삭제를 같이 해서 왕복 한 번에 끝나고 두 번 교환되지 않는다.
+ * 기본 저장소이고, auth.one-time-code.store=memory 면 InMemoryOneTimeCodeStore 를 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.one-time-code.store", havingValue = "redis", matchIfMissing = true)
+public class RedisOneTimeCodeStore implements OneTimeCodeStore {
+
+	private static final String KEY_PREFIX = "login-code:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final Duration ttl;
+
+	public RedisOneTimeCodeStore(StringRedisTemplate redisTemplate,
+		@Value("${auth.one-time-code.ttl-seconds:300}") long ttlSeconds) {
+		this.redisTemplate = redisTemplate;
+		this.ttl = Duration.ofSeconds(ttlSeconds);
+	}
+
+	@Override
+	public String issue(LoginTokens tokens) {
+		String code = OneTimeCodeStore.newCode();
+		redisTemplate.opsForValue().set(KEY_PREFIX + code, tokens.serialize(), ttl);
+		return code;
+	}
+
+	@Override
+	public Optional<LoginTokens> redeem(String code) {
+		if (code == null || code.isBlank()) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(LoginTokens.deserialize(redisTemplate.opsForValue().getAndDelete(KEY_PREFIX + code)));
+	}
+}
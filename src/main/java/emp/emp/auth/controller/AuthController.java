@@ -1,27 +1,27 @@
 package emp.emp.auth.controller;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import emp.emp.auth.code.LoginTokens;
+import emp.emp.auth.code.OneTimeCodeStore;
 import emp.emp.auth.custom.CustomUserDetails;
 import emp.emp.auth.exception.AuthErrorCode;
 import emp.emp.auth.own.dto.LoginRequest;
@@ -31,7 +31,7 @@ import emp.emp.exception.BusinessException;
 import emp.emp.util.api_response.Response;
 import emp.emp.util.api_response.error_code.GeneralErrorCode;
 import emp.emp.util.jwt.JwtTokenProvider;
-import io.jsonwebtoken.Claims;
+import emp.emp.util.jwt.RefreshSession;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
@@ -51,8 +51,7 @@ public class AuthController {
 	private final AuthService authService;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final PasswordEncoder passwordEncoder;
-	private final StringRedisTemplate redisTemplate;
-	private final ObjectMapper objectMapper;
+	private final OneTimeCodeStore oneTimeCodeStore;
 	@Value("${redirect-url.frontend.main}")
 	private String REDIRECT_URL_MAIN;
 
@@ -90,16 +89,9 @@ public class AuthController {
 
 		String accessToken = jwtTokenProvider.generateAccessToken(userDetails);
 		String refreshToken = jwtTokenProvider.generateRefreshToken(userDetails);
+		String role = userDetails.getAuthorities().iterator().next().getAuthority();
 
-		String tempCode = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
-
-		Map<String, String> tokenData = Map.of(
-			"accessToken", accessToken,
-			"refreshToken", refreshToken
-		);
-
-		redisTemplate.opsForValue().set(tempCode, objectMapper.writeValueAsString(tokenData),
-			5, TimeUnit.MINUTES);
+		String tempCode = oneTimeCodeStore.issue(new LoginTokens(accessToken, refreshToken, role));
 
 		response.setStatus(HttpStatus.OK.value());
 		response.sendRedirect(REDIRECT_URL_MAIN + "?code=" + tempCode);
@@ -145,36 +137,45 @@ public class AuthController {
 	}
 
 	/**
-	 * 임시 코드를 이용해 AT, RT를 주는 메서드
+	 * 로그인 중인 세션(기기) 목록 조회
 	 *
-	 * @param tempCode 임시 코드
-	 * @return 200 AT, RT
-	 * @throws IOException
+	 * @param userDetails 로그인된 유저
+	 * @return 세션 목록 (오래된 순)
 	 */
-	@PostMapping("/token/exchange")
-	public ResponseEntity<Response<Map<String, String>>> exchangeToken(@RequestParam("code") String tempCode) throws
-		IOException {
-
-		String tokenDataJson = redisTemplate.opsForValue().get(tempCode);
+	@GetMapping("/sessions")
+	public ResponseEntity<Response<List<RefreshSession>>> sessions(
+		@AuthenticationPrincipal CustomUserDetails userDetails) {
+		return Response.ok(jwtTokenProvider.getSessions(userDetails.getName())).toResponseEntity();
+	}
 
-		if (tokenDataJson == null) {
-			throw new BusinessException(GeneralErrorCode.BAD_REQUEST);
-		}
+	/**
+	 * 세션(기기) 하나 로그아웃. 해당 기기의 리프레시 토큰은 더 이상 쓸 수 없다.
+	 *
+	 * @param userDetails 로그인된 유저
+	 * @param sessionId   세션 id
+	 * @return 200 ok
+	 */
+	@DeleteMapping("/sessions/{sessionId}")
+	public ResponseEntity<Response<Void>> revokeSession(@AuthenticationPrincipal CustomUserDetails userDetails,
+		@PathVariable String sessionId) {
+		jwtTokenProvider.revokeSession(userDetails.getName(), sessionId);
 
-		redisTemplate.delete(tempCode);
+		return Response.ok().toResponseEntity();
+	}
 
-		Map<String, String> tokenData = objectMapper.readValue(
-			tokenDataJson, new TypeReference<Map<String, String>>() {
-			});
+	/**
+	 * 임시 코드를 이용해 AT, RT를 주는 메서드
+	 *
+	 * @param tempCode 임시 코드
+	 * @return 200 AT, RT, role
+	 */
+	@PostMapping("/token/exchange")
+	public ResponseEntity<Response<Map<String, String>>> exchangeToken(@RequestParam("code") String tempCode) {
 
-		String accessToken = tokenData.get("accessToken");
-		if (accessToken != null) {
-			Claims claims = jwtTokenProvider.getClaims(accessToken);
-			String role = (String) claims.get("role");
-			tokenData.put("role", role);
-		}
+		LoginTokens tokens = oneTimeCodeStore.redeem(tempCode)
+			.orElseThrow(() -> new BusinessException(GeneralErrorCode.BAD_REQUEST));
 
-		return Response.ok(tokenData).toResponseEntity();
+		return Response.ok(tokens.toResponse()).toResponseEntity();
 	}
 
 }
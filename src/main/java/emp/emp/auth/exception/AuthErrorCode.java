@@ -15,6 +15,8 @@ public enum AuthErrorCode implements ErrorCode {
 	INVALID_ACCESS_TOKEN("AUTH-006", HttpStatus.UNAUTHORIZED, "잘못된 엑세스 토큰, 리프레시 토큰으로 요청하세요"),
 	INVALID_REFRESH_TOKEN("AUTH-007", HttpStatus.UNAUTHORIZED, "잘못된 리프레시 토큰"),
 	INVALID_ROLE("AUTH-008", HttpStatus.UNAUTHORIZED, "잘못된 권한으로 요청"),
+	SESSION_NOT_FOUND("AUTH-009", HttpStatus.NOT_FOUND, "존재하지 않는 세션"),
+	TOKEN_REVOCATION_FAILED("AUTH-010", HttpStatus.SERVICE_UNAVAILABLE, "토큰 폐기 실패, 잠시 후 다시 시도하세요"),
 	;
 
 	private final String code;
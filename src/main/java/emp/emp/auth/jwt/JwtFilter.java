@@ -12,7 +12,8 @@ import emp.emp.auth.custom.CustomUserDetails;
 import emp.emp.auth.exception.AuthErrorCode;
 import emp.emp.util.api_response.Response;
 import emp.emp.util.jwt.JwtTokenProvider;
-import io.jsonwebtoken.Claims;
+import emp.emp.util.jwt.TokenRevocationService;
+import emp.emp.util.jwt.TokenVerification;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -39,6 +40,7 @@ public class JwtFilter extends OncePerRequestFilter {
 //		"/api/emergency/both"
 	);
 	private final JwtTokenProvider jwtTokenProvider;
+	private final TokenRevocationService tokenRevocationService;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -73,11 +75,14 @@ public class JwtFilter extends OncePerRequestFilter {
 		}
 
 		try {
-			if (jwtTokenProvider.validateToken(accessToken)) {
-				Claims claims = jwtTokenProvider.getClaims(accessToken);
-				CustomUserDetails userDetails = CustomUserDetails.createCustomUserDetailsFromClaims(claims);
+			// 서명 검증과 claims 추출을 한 번의 파싱으로 처리한다 (이미 검증한 토큰은 캐시에서)
+			TokenVerification verification = jwtTokenProvider.verify(accessToken);
+			// 권한 변경 등으로 폐기된 토큰인지는 메모리의 폐기 목록으로 확인한다 (Redis 조회 없음)
+			if (verification.isValid() && !tokenRevocationService.isRevoked(verification.getClaims())) {
+				CustomUserDetails userDetails = CustomUserDetails.createCustomUserDetailsFromClaims(verification.getClaims());
 				setUserAuthentication(userDetails);
 			} else {
+				log.debug("access token rejected: {}", verification.isValid() ? "revoked" : verification.getFailure());
 				sendTokenRefreshResponse(response);
 				return false;
 			}
@@ -1,18 +1,14 @@
 package emp.emp.auth.oauth2.handler;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import emp.emp.auth.code.LoginTokens;
+import emp.emp.auth.code.OneTimeCodeStore;
 import emp.emp.auth.custom.CustomUserDetails;
 import emp.emp.util.jwt.JwtTokenProvider;
 import jakarta.servlet.ServletException;
@@ -27,8 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final StringRedisTemplate redisTemplate;
-	private final ObjectMapper objectMapper;
+	private final OneTimeCodeStore oneTimeCodeStore;
 
 	/*@Value("${redirect-url.frontend.user}")
 	private String REDIRECT_URL_USER;
@@ -47,15 +42,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
 		String accessToken = jwtTokenProvider.generateAccessToken(userDetails);
 		String refreshToken = jwtTokenProvider.generateRefreshToken(userDetails);
+		String role = userDetails.getAuthorities().iterator().next().getAuthority();
 
-		String tempCode = UUID.randomUUID().toString().replace("-", "").substring(0, 16);
-
-		Map<String, String> tokenData = Map.of(
-			"accessToken", accessToken,
-			"refreshToken", refreshToken
-		);
-		redisTemplate.opsForValue().set(tempCode, objectMapper.writeValueAsString(tokenData),
-			5, TimeUnit.MINUTES);
+		String tempCode = oneTimeCodeStore.issue(new LoginTokens(accessToken, refreshToken, role));
 
 		getRedirectStrategy().sendRedirect(request, response, REDIRECT_URL_MAIN + "?code=" + tempCode);
 
@@ -5,8 +5,8 @@ import emp.emp.calendar.dto.request.CalendarEventRequest;
 import emp.emp.calendar.dto.response.CalendarEventResponse;
 import emp.emp.calendar.entity.CalendarEvent;
 import emp.emp.calendar.repository.CalendarRepository;
-import emp.emp.member.entity.Member;
 import emp.emp.member.repository.MemberRepository;
+import emp.emp.util.security.MemberIdentity;
 import emp.emp.util.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -31,10 +31,10 @@ public class CalendarServiceImpl implements CalendarService {
   @Override
   @Transactional
   public CalendarEventResponse createEvent(CustomUserDetails userDetails, CalendarEventRequest request) {
-    Member currentMember = securityUtil.getCurrentMember();
+    MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
     CalendarEvent calendarEvent = CalendarEvent.builder()
-            .member(currentMember)
+            .member(securityUtil.getCurrentMemberReference())
             .eventType(request.getEventType()) // 진료일정, 진료결과, 복약관리
             .title(request.getTitle())
             .startDate(request.getStartDate())
@@ -44,7 +44,7 @@ public class CalendarServiceImpl implements CalendarService {
 
     calendarRepository.save(calendarEvent);
 
-    return toResponse(calendarEvent);
+    return toResponse(calendarEvent, currentMember);
   }
 
   /**
@@ -55,13 +55,13 @@ public class CalendarServiceImpl implements CalendarService {
   @Override
   @Transactional
   public CalendarEventResponse updateEvent(CustomUserDetails userDetails, Long eventId, CalendarEventRequest request) {
-    Member currentMember = securityUtil.getCurrentMember();
+    MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
     CalendarEvent calendarEvent = findByIdAndValidate(eventId, currentMember);
 
     calendarEvent.update(request);
 
-    return toResponse(calendarEvent);
+    return toResponse(calendarEvent, currentMember);
   }
 
   /**
@@ -72,7 +72,7 @@ public class CalendarServiceImpl implements CalendarService {
   @Override
   @Transactional
   public void deleteEvent(CustomUserDetails userDetails, Long eventId) {
-    Member currentMember = securityUtil.getCurrentMember();
+    MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
     CalendarEvent calendarEvent = findByIdAndValidate(eventId, currentMember);
 
     calendarRepository.delete(calendarEvent);
@@ -85,10 +85,10 @@ public class CalendarServiceImpl implements CalendarService {
    */
   @Override
   public CalendarEventResponse getEvent(CustomUserDetails userDetails, Long eventId) {
-    Member currentMember = securityUtil.getCurrentMember();
+    MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
     CalendarEvent calendarEvent = findByIdAndValidate(eventId, currentMember);
 
-    return toResponse(calendarEvent);
+    return toResponse(calendarEvent, currentMember);
   }
 
   /**
@@ -96,10 +96,10 @@ public class CalendarServiceImpl implements CalendarService {
    */
   @Override
   public List<CalendarEventResponse> getAllEvents(CustomUserDetails userDetails) {
-    Member currentMember = securityUtil.getCurrentMember();
+    MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
-    return calendarRepository.findByMember(currentMember).stream()
-            .map(this::toResponse)
+    return calendarRepository.findByMember(securityUtil.getCurrentMemberReference()).stream()
+            .map(calendarEvent -> toResponse(calendarEvent, currentMember))
             .collect(Collectors.toList());
   }
 
@@ -107,11 +107,12 @@ public class CalendarServiceImpl implements CalendarService {
    * [일정 ID로 조회 + 현재 사용자의 일정인지 검증]
    * 본인이 소유한 일정이 아닐 경우 예외 발생
    */
-  private CalendarEvent findByIdAndValidate(Long eventId, Member currentMember) {
+  private CalendarEvent findByIdAndValidate(Long eventId, MemberIdentity currentMember) {
     CalendarEvent calendarEvent = calendarRepository.findById(eventId)
             .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다."));
 
-    if (!calendarEvent.getMember().equals(currentMember)) {
+    // 프록시의 id 만 비교하므로 회원을 불러오지 않는다
+    if (!calendarEvent.getMember().getId().equals(currentMember.getId())) {
       throw new RuntimeException("접근 권한이 없습니다.");
     }
 
@@ -126,16 +127,16 @@ public class CalendarServiceImpl implements CalendarService {
    */
   @Override
   public List<CalendarEventResponse> getEventsByDate(CustomUserDetails userDetails, LocalDateTime date) {
-    Member currentMember = securityUtil.getCurrentMember();
+    MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
     // 해당 날짜의 시작과 끝 시간 설정
     LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
     LocalDateTime endOfDay = startOfDay.plusDays(1).minusNanos(1);
 
     return calendarRepository.findByMemberAndStartDateBetweenOrderByPriorityAsc(
-                    currentMember, startOfDay, endOfDay)
+                    securityUtil.getCurrentMemberReference(), startOfDay, endOfDay)
             .stream()
-            .map(this::toResponse)
+            .map(calendarEvent -> toResponse(calendarEvent, currentMember))
             .collect(Collectors.toList());
   }
 
@@ -149,22 +150,23 @@ public class CalendarServiceImpl implements CalendarService {
   @Override
   @Transactional
   public CalendarEventResponse updatePriority(CustomUserDetails userDetails, Long eventId, Integer priority) {
-    Member currentMember = securityUtil.getCurrentMember();
+    MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
     CalendarEvent calendarEvent = findByIdAndValidate(eventId, currentMember);
 
     calendarEvent.setPriority(priority);
 
-    return toResponse(calendarEvent);
+    return toResponse(calendarEvent, currentMember);
   }
 
   /**
    * CalendarEvent 엔티티를 CalendarEventResponse DTO로 변환
+   * (모두 로그인한 사용자의 일정이라 verifyId 는 회원을 불러오지 않고 식별 정보에서 꺼낸다)
    */
-  private CalendarEventResponse toResponse(CalendarEvent calendarEvent) {
+  private CalendarEventResponse toResponse(CalendarEvent calendarEvent, MemberIdentity owner) {
     return CalendarEventResponse.builder()
             .eventId(calendarEvent.getEventId())
             // .verifyId(calendarEvent.getMember().getId())
-            .verifyId(calendarEvent.getMember().getVerifyId())
+            .verifyId(owner.getVerifyId())
             .eventType(calendarEvent.getEventType())
             .title(calendarEvent.getTitle())
             .startDate(calendarEvent.getStartDate())
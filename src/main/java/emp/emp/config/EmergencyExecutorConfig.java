@@ -0,0 +1,84 @@
+package emp.emp.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class EmergencyExecutorConfig {
+
+	// 병원 좌표 조회(카카오 키워드 검색)를 동시에 몇 개까지 보낼지
+	@Value("${emergency.geocode.concurrency:8}")
+	private int geocodeConcurrency;
+
+	// 대기열이 가득 차면 바로 거절하고 해당 병원은 "위치 조회 중"으로 응답한다
+	@Value("${emergency.geocode.queue-capacity:256}")
+	private int geocodeQueueCapacity;
+
+	// 통합 조회에서 응급실/AED 를 동시에 가져올 때 쓰는 스레드 수. 병원 좌표 조회와 풀을 나눠서 서로 막지 않게 한다
+	@Value("${emergency.combined.concurrency:16}")
+	private int combinedConcurrency;
+
+	@Value("${emergency.combined.queue-capacity:256}")
+	private int combinedQueueCapacity;
+
+	// SSE 스트리밍은 스트림 하나가 마감 시간 동안 스레드 하나를 잡고 있으므로 통합 조회 풀과 따로 둔다
+	// (열린 스트림이 많아도 /both 가 TIMEOUT 이나 거절로 밀리지 않게). 가득 차면 새 스트림은 거절한다
+	@Value("${emergency.stream.concurrency:32}")
+	private int streamConcurrency;
+
+	@Value("${emergency.stream.queue-capacity:32}")
+	private int streamQueueCapacity;
+
+	@Bean(name = "geocodeExecutor", destroyMethod = "shutdown")
+	public ExecutorService geocodeExecutor() {
+		return new ThreadPoolExecutor(
+			geocodeConcurrency,
+			geocodeConcurrency,
+			60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(geocodeQueueCapacity),
+			namedDaemonThreads("geocode-"),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	@Bean(name = "emergencyExecutor", destroyMethod = "shutdown")
+	public ExecutorService emergencyExecutor() {
+		return new ThreadPoolExecutor(
+			combinedConcurrency,
+			combinedConcurrency,
+			60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(combinedQueueCapacity),
+			namedDaemonThreads("emergency-"),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	@Bean(name = "emergencyStreamExecutor", destroyMethod = "shutdown")
+	public ExecutorService emergencyStreamExecutor() {
+		return new ThreadPoolExecutor(
+			streamConcurrency,
+			streamConcurrency,
+			60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(streamQueueCapacity),
+			namedDaemonThreads("emergency-stream-"),
+			new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	private ThreadFactory namedDaemonThreads(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
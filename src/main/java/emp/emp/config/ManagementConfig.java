@@ -0,0 +1,40 @@
+package emp.emp.config;
+
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * actuator(health, prometheus) 설정.
+ * 기본값은 management.properties 에 있고 (관리 포트 9090), application.yml 의 값이 있으면 그쪽이 우선한다.
+ * actuator 요청은 JwtFilter 가 있는 서비스 체인보다 먼저 이 체인이 받는다.
+ * 관리 포트가 서비스 포트와 다르면 EndpointRequest 는 관리 포트로 들어온 요청에만 맞으므로
+ * 서비스 포트의 /actuator/** 는 서비스 체인에서 인증을 요구받는다.
+ */
+@Configuration
+@PropertySource("classpath:management.properties")
+public class ManagementConfig {
+
+	@Bean
+	@Order(1)
+	public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+		http
+			.securityMatcher(EndpointRequest.toAnyEndpoint())
+			.csrf(AbstractHttpConfigurer::disable)
+			.formLogin(AbstractHttpConfigurer::disable)
+			.httpBasic(AbstractHttpConfigurer::disable)
+			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+			.authorizeHttpRequests(auth -> auth
+				.requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+				.anyRequest().denyAll()
+			);
+
+		return http.build();
+	}
+}
@@ -0,0 +1,130 @@
+package emp.emp.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * 외부 API(카카오, 공공데이터, Gemini) 호출이 같이 쓰는 HTTP 클라이언트 설정
+ * <p>
+ * 커넥션 풀로 keep-alive 연결을 재사용해서 매 요청마다 TCP/TLS 연결을 새로 맺지 않는다.
+ * 연결/응답 제한 시간과 최대 연결 수는 대상 호스트별로 따로 두고, 응답은 gzip 으로 받는다.
+ */
+@Configuration
+public class OutboundHttpConfig {
+
+	@Value("${outbound.http.max-total:100}")
+	private int maxTotal;
+
+	// 아래에 따로 설정하지 않은 호스트에 적용
+	@Value("${outbound.http.default.max-connections:10}")
+	private int defaultMaxConnections;
+
+	@Value("${outbound.http.default.connect-timeout-ms:2000}")
+	private long defaultConnectTimeoutMillis;
+
+	@Value("${outbound.http.default.read-timeout-ms:5000}")
+	private long defaultReadTimeoutMillis;
+
+	// 카카오 로컬 API (역지오코딩, 병원 키워드 검색). 병원 좌표 동시 조회 수보다 여유 있게 잡는다
+	@Value("${outbound.http.kakao.host:dapi.kakao.com}")
+	private String kakaoHost;
+
+	@Value("${outbound.http.kakao.max-connections:20}")
+	private int kakaoMaxConnections;
+
+	@Value("${outbound.http.kakao.connect-timeout-ms:1000}")
+	private long kakaoConnectTimeoutMillis;
+
+	@Value("${outbound.http.kakao.read-timeout-ms:2000}")
+	private long kakaoReadTimeoutMillis;
+
+	// 공공데이터포털 (응급실 병상, AED). 전국 AED 페이지는 응답이 커서 읽기 제한 시간을 길게 둔다
+	@Value("${outbound.http.public-data.host:apis.data.go.kr}")
+	private String publicDataHost;
+
+	@Value("${outbound.http.public-data.max-connections:16}")
+	private int publicDataMaxConnections;
+
+	@Value("${outbound.http.public-data.connect-timeout-ms:2000}")
+	private long publicDataConnectTimeoutMillis;
+
+	@Value("${outbound.http.public-data.read-timeout-ms:10000}")
+	private long publicDataReadTimeoutMillis;
+
+	// Gemini (건강 기록 AI 코멘트)
+	@Value("${outbound.http.gemini.host:generativelanguage.googleapis.com}")
+	private String geminiHost;
+
+	@Value("${outbound.http.gemini.max-connections:8}")
+	private int geminiMaxConnections;
+
+	@Value("${outbound.http.gemini.connect-timeout-ms:2000}")
+	private long geminiConnectTimeoutMillis;
+
+	@Value("${outbound.http.gemini.read-timeout-ms:30000}")
+	private long geminiReadTimeoutMillis;
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient outboundHttpClient() {
+		Map<String, HostPolicy> policies = new HashMap<>();
+		policies.put(kakaoHost, new HostPolicy(kakaoMaxConnections, kakaoConnectTimeoutMillis, kakaoReadTimeoutMillis));
+		policies.put(publicDataHost,
+			new HostPolicy(publicDataMaxConnections, publicDataConnectTimeoutMillis, publicDataReadTimeoutMillis));
+		policies.put(geminiHost, new HostPolicy(geminiMaxConnections, geminiConnectTimeoutMillis, geminiReadTimeoutMillis));
+		HostPolicy defaultPolicy =
+			new HostPolicy(defaultMaxConnections, defaultConnectTimeoutMillis, defaultReadTimeoutMillis);
+
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotal)
+			.setMaxConnPerRoute(defaultPolicy.maxConnections())
+			.setConnectionConfigResolver(route ->
+				policies.getOrDefault(route.getTargetHost().getHostName(), defaultPolicy).connectionConfig())
+			.build();
+
+		// 호스트별 최대 연결 수 (http, https 둘 다)
+		policies.forEach((host, policy) -> {
+			connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("http", host, 80)), policy.maxConnections());
+			connectionManager.setMaxPerRoute(new HttpRoute(new HttpHost("https", host, 443)), policy.maxConnections());
+		});
+
+		// 압축 해제(gzip, deflate)는 기본으로 켜져 있어 Accept-Encoding 을 붙여 보낸다
+		return HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofSeconds(30))
+			.build();
+	}
+
+	@Bean
+	public ClientHttpRequestFactory outboundRequestFactory(CloseableHttpClient outboundHttpClient) {
+		return new HttpComponentsClientHttpRequestFactory(outboundHttpClient);
+	}
+
+	private record HostPolicy(int maxConnections, long connectTimeoutMillis, long readTimeoutMillis) {
+
+		private ConnectionConfig connectionConfig() {
+			return ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+				.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+				// 서버가 먼저 끊은 연결을 재사용하지 않도록 잠깐 쉬었던 연결은 꺼내기 전에 확인
+				.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+				.setTimeToLive(TimeValue.ofMinutes(5))
+				.build();
+		}
+	}
+}
@@ -6,6 +6,11 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import emp.emp.util.jwt.TokenRevocationService;
+import emp.emp.util.security.MemberIdentityCache;
 
 @Configuration
 public class RedisConfig {
@@ -29,4 +34,17 @@ public class RedisConfig {
 
 		return new LettuceConnectionFactory(configuration);
 	}
+
+	/**
+	 * 다른 서버에서 폐기한 액세스 토큰, 바뀐 회원 캐시를 받아오는 pub/sub 구독
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+		TokenRevocationService tokenRevocationService, MemberIdentityCache memberIdentityCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(tokenRevocationService, new ChannelTopic(TokenRevocationService.CHANNEL));
+		container.addMessageListener(memberIdentityCache, new ChannelTopic(MemberIdentityCache.CHANNEL));
+		return container;
+	}
 }
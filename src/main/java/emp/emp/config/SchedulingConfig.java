@@ -0,0 +1,22 @@
+package emp.emp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulingConfig {
+
+	// AED 스냅샷 적재처럼 오래 걸리는 작업이 병상 폴링을 막지 않도록 스레드를 여러 개 둔다
+	@Value("${scheduling.pool-size:4}")
+	private int poolSize;
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(poolSize);
+		scheduler.setThreadNamePrefix("scheduler-");
+		return scheduler;
+	}
+}
@@ -24,6 +24,7 @@ import emp.emp.auth.oauth2.handler.OAuth2FailureHandler;
 import emp.emp.auth.oauth2.handler.OAuth2SuccessHandler;
 import emp.emp.auth.oauth2.service.CustomOAuth2UserService;
 import emp.emp.util.jwt.JwtTokenProvider;
+import emp.emp.util.jwt.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -46,6 +47,7 @@ public class SecurityConfig {
 	private final OAuth2SuccessHandler oAuth2SuccessHandler;
 	private final OAuth2FailureHandler oAuth2FailureHandler;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final TokenRevocationService tokenRevocationService;
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -72,7 +74,7 @@ public class SecurityConfig {
 						);
 
 		http
-						.addFilterBefore(new JwtFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+						.addFilterBefore(new JwtFilter(jwtTokenProvider, tokenRevocationService), UsernamePasswordAuthenticationFilter.class);
 
 		http
 						.sessionManagement((session) -> session
@@ -0,0 +1,50 @@
+package emp.emp.emergency.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최대 개수와 만료 시간이 있는 간단한 LRU 캐시 (프로세스 내부용)
+public class BoundedLruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public BoundedLruCache(int maxSize) {
+        this.maxSize = maxSize;
+        // accessOrder = true 로 두면 get 할 때마다 가장 최근 항목으로 이동한다
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedLruCache.this.maxSize;
+            }
+        };
+    }
+
+    // 없거나 만료되었으면 null
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value, long ttlMillis) {
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,162 @@
+package emp.emp.emergency.cache;
+
+import emp.emp.emergency.dto.HospitalCoordinateDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 병원 이름 -> 좌표 캐시
+// 1차: 프로세스 내부 LRU, 2차: Redis. 병원 위치는 거의 바뀌지 않으니 TTL 을 길게 둔다.
+// 카카오에서 못 찾은 이름도 (짧은 TTL 로) 캐시해서 매 요청마다 다시 검색하지 않게 한다.
+@Slf4j
+@Component
+public class HospitalLocationCache {
+
+    // 검색 결과가 없는 병원. 기존과 동일하게 0.0 좌표로 응답한다
+    public static final HospitalCoordinateDTO NOT_FOUND = new HospitalCoordinateDTO(0.0, 0.0);
+
+    private static final String KEY_PREFIX = "emergency:hospital-coord:";
+    private static final String NOT_FOUND_VALUE = "NONE";
+
+    private final StringRedisTemplate redisTemplate;
+    private final BoundedLruCache<String, HospitalCoordinateDTO> localCache;
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+
+    @Value("${emergency.hospital-cache.ttl:30d}")
+    private Duration ttl;
+
+    @Value("${emergency.hospital-cache.local-ttl:6h}")
+    private Duration localTtl;
+
+    @Value("${emergency.hospital-cache.negative-ttl:1d}")
+    private Duration negativeTtl;
+
+    public HospitalLocationCache(StringRedisTemplate redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${emergency.hospital-cache.local-max-size:5000}") int localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.localCache = new BoundedLruCache<>(localMaxSize);
+
+        FunctionCounter.builder("emergency.hospital.coordinate.cache", localHits, AtomicLong::get)
+                .tag("tier", "local").tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("emergency.hospital.coordinate.cache", redisHits, AtomicLong::get)
+                .tag("tier", "redis").tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("emergency.hospital.coordinate.cache", misses, AtomicLong::get)
+                .tag("tier", "redis").tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("emergency.hospital.coordinate.cache.negative", negativeHits, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("emergency.hospital.coordinate.cache.size", localCache, BoundedLruCache::size)
+                .register(meterRegistry);
+    }
+
+    // 로컬 캐시만 확인한다. 없으면 null (요청 스레드에서 바로 응답할 수 있는지 확인용)
+    public HospitalCoordinateDTO getLocal(String hospitalName) {
+        HospitalCoordinateDTO coordinate = localCache.get(hospitalName);
+        if (coordinate != null) {
+            localHits.incrementAndGet();
+            if (coordinate == NOT_FOUND) {
+                negativeHits.incrementAndGet();
+            }
+        }
+        return coordinate;
+    }
+
+    // 로컬 -> Redis -> loader(카카오) 순서로 조회. 검색 결과가 없으면 NOT_FOUND
+    public HospitalCoordinateDTO get(String hospitalName, Function<String, HospitalCoordinateDTO> loader) {
+        HospitalCoordinateDTO coordinate = getLocal(hospitalName);
+        if (coordinate != null) {
+            return coordinate;
+        }
+
+        coordinate = readRedis(hospitalName);
+        if (coordinate != null) {
+            redisHits.incrementAndGet();
+            if (coordinate == NOT_FOUND) {
+                negativeHits.incrementAndGet();
+            }
+            localCache.put(hospitalName, coordinate, localTtlOf(coordinate));
+            return coordinate;
+        }
+
+        misses.incrementAndGet();
+        // loader 에서 예외가 나면(네트워크 오류 등) 캐시하지 않고 그대로 던진다
+        coordinate = loader.apply(hospitalName);
+        if (coordinate == null) {
+            coordinate = NOT_FOUND;
+        }
+        put(hospitalName, coordinate);
+        return coordinate;
+    }
+
+    public void put(String hospitalName, HospitalCoordinateDTO coordinate) {
+        localCache.put(hospitalName, coordinate, localTtlOf(coordinate));
+        writeRedis(hospitalName, coordinate);
+    }
+
+    public void evict(String hospitalName) {
+        localCache.remove(hospitalName);
+        try {
+            redisTemplate.delete(KEY_PREFIX + hospitalName);
+        } catch (RuntimeException e) {
+            log.warn("병원 좌표 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private HospitalCoordinateDTO readRedis(String hospitalName) {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + hospitalName);
+        } catch (RuntimeException e) {
+            // Redis 장애 시에는 캐시 미스로 보고 원본 조회를 계속한다
+            log.warn("병원 좌표 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+        if (value == null) {
+            return null;
+        }
+        if (NOT_FOUND_VALUE.equals(value)) {
+            return NOT_FOUND;
+        }
+        int comma = value.indexOf(',');
+        if (comma == -1) {
+            return null;
+        }
+        try {
+            return new HospitalCoordinateDTO(
+                    Double.parseDouble(value.substring(0, comma)), Double.parseDouble(value.substring(comma + 1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void writeRedis(String hospitalName, HospitalCoordinateDTO coordinate) {
+        String value = coordinate == NOT_FOUND
+                ? NOT_FOUND_VALUE
+                : coordinate.getLatitude() + "," + coordinate.getLongitude();
+        Duration redisTtl = coordinate == NOT_FOUND ? negativeTtl : ttl;
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + hospitalName, value, redisTtl);
+        } catch (RuntimeException e) {
+            log.warn("병원 좌표 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private long localTtlOf(HospitalCoordinateDTO coordinate) {
+        if (coordinate == NOT_FOUND) {
+            return Math.min(negativeTtl.toMillis(), localTtl.toMillis());
+        }
+        return localTtl.toMillis();
+    }
+}
@@ -0,0 +1,113 @@
+package emp.emp.emergency.cache;
+
+import emp.emp.emergency.dto.UserLocationDTO;
+import emp.emp.emergency.support.SingleFlight;
+import emp.emp.emergency.util.GeoHash;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 사용자 좌표 -> 시도/시군구 캐시
+// 좌표를 geohash 칸 단위로 묶어서, 같은 동네의 요청은 카카오 coord2regioncode 를 다시 부르지 않는다.
+// 1차: 프로세스 내부 LRU, 2차: Redis, 같은 칸에 동시에 들어온 요청은 SingleFlight 로 한 번만 조회한다.
+@Slf4j
+@Component
+public class ReverseGeocodeCache {
+
+    private static final String KEY_PREFIX = "emergency:region:";
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final BoundedLruCache<String, UserLocationDTO> localCache;
+    private final SingleFlight<String, UserLocationDTO> singleFlight = new SingleFlight<>();
+
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong redisHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    // geohash 자릿수. 높을수록 칸이 작아져 경계 근처 오차가 줄지만 적중률도 떨어진다
+    @Value("${emergency.region-cache.precision:6}")
+    private int precision;
+
+    @Value("${emergency.region-cache.ttl:7d}")
+    private Duration ttl;
+
+    @Value("${emergency.region-cache.local-ttl:1h}")
+    private Duration localTtl;
+
+    public ReverseGeocodeCache(StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${emergency.region-cache.local-max-size:10000}") int localMaxSize) {
+        this.redisTemplate = redisTemplate;
+        this.localCache = new BoundedLruCache<>(localMaxSize);
+
+        FunctionCounter.builder("emergency.region.cache", localHits, AtomicLong::get)
+                .tag("tier", "local").tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("emergency.region.cache", redisHits, AtomicLong::get)
+                .tag("tier", "redis").tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("emergency.region.cache", misses, AtomicLong::get)
+                .tag("tier", "redis").tag("result", "miss").register(meterRegistry);
+    }
+
+    public UserLocationDTO get(double latitude, double longitude, Supplier<UserLocationDTO> loader) {
+        String cell = GeoHash.encode(latitude, longitude, precision);
+
+        UserLocationDTO cached = localCache.get(cell);
+        if (cached != null) {
+            localHits.incrementAndGet();
+            return cached;
+        }
+
+        return singleFlight.call(cell, () -> {
+            UserLocationDTO fromRedis = readRedis(cell);
+            if (fromRedis != null) {
+                redisHits.incrementAndGet();
+                localCache.put(cell, fromRedis, localTtl.toMillis());
+                return fromRedis;
+            }
+
+            misses.incrementAndGet();
+            UserLocationDTO loaded = loader.get();
+            // 바다 위 등 지역을 못 찾은 결과는 캐시하지 않는다
+            if (loaded.getSido() != null && !loaded.getSido().isEmpty()) {
+                localCache.put(cell, loaded, localTtl.toMillis());
+                writeRedis(cell, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    private UserLocationDTO readRedis(String cell) {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + cell);
+        } catch (RuntimeException e) {
+            log.warn("지역 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf(SEPARATOR);
+        if (separator == -1) {
+            return null;
+        }
+        return new UserLocationDTO(value.substring(0, separator), value.substring(separator + 1));
+    }
+
+    private void writeRedis(String cell, UserLocationDTO location) {
+        try {
+            redisTemplate.opsForValue()
+                    .set(KEY_PREFIX + cell, location.getSido() + SEPARATOR + location.getSigungu(), ttl);
+        } catch (RuntimeException e) {
+            log.warn("지역 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+}
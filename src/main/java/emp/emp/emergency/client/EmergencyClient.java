@@ -1,32 +1,92 @@
 package emp.emp.emergency.client;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import emp.emp.emergency.cache.HospitalLocationCache;
+import emp.emp.emergency.cache.ReverseGeocodeCache;
 import emp.emp.emergency.dto.EmergencyRoomDTO;
 import emp.emp.emergency.dto.*;
 import emp.emp.emergency.dto.UserLocationDTO;
+import emp.emp.emergency.support.CircuitBreaker;
+import emp.emp.emergency.support.CircuitOpenException;
+import emp.emp.emergency.support.CountingInputStream;
+import emp.emp.emergency.support.QuotaBudget;
+import emp.emp.emergency.support.QuotaPriority;
+import emp.emp.emergency.support.UpstreamCall;
+import emp.emp.emergency.support.UpstreamCircuitBreakers;
+import emp.emp.emergency.support.UpstreamMetrics;
+import emp.emp.emergency.support.UpstreamQuotaBudgeter;
 import emp.emp.health.apiKey.ApiKeyProvider;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 
 // 서비스 계층에서 받아온 도와 시의 이름으로 xml 데이터를 다시  서비스 계층에 리턴한다
+@Slf4j
 @Component
 public class EmergencyClient {
-    private final ApiKeyProvider apiKeyProvider;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    public EmergencyClient(ApiKeyProvider apiKeyProvider) {
+    private final ApiKeyProvider apiKeyProvider;
+    private final ExecutorService geocodeExecutor;
+    private final HospitalLocationCache hospitalLocationCache;
+    private final ReverseGeocodeCache reverseGeocodeCache;
+    private final UpstreamCircuitBreakers circuitBreakers;
+    private final UpstreamQuotaBudgeter quotaBudgeter;
+    private final UpstreamMetrics upstreamMetrics;
+    private final RestTemplate restTemplate;
+
+    // 병원 좌표 조회 전체에 허용하는 시간, 넘기면 남은 병원은 locationPending 으로 응답
+    @Value("${emergency.geocode.deadline-ms:1500}")
+    private long geocodeDeadlineMillis;
+
+    // 외부 API 주소 (테스트/부하 측정 때는 로컬 stub 서버로 바꿔서 쓴다)
+    @Value("${emergency.upstream.public-data-url:http://apis.data.go.kr}")
+    private String publicDataBaseUrl;
+
+    @Value("${emergency.upstream.kakao-url:https://dapi.kakao.com}")
+    private String kakaoBaseUrl;
+
+    public EmergencyClient(ApiKeyProvider apiKeyProvider,
+                           @Qualifier("geocodeExecutor") ExecutorService geocodeExecutor,
+                           HospitalLocationCache hospitalLocationCache,
+                           ReverseGeocodeCache reverseGeocodeCache,
+                           ClientHttpRequestFactory outboundRequestFactory,
+                           UpstreamCircuitBreakers circuitBreakers,
+                           UpstreamQuotaBudgeter quotaBudgeter,
+                           UpstreamMetrics upstreamMetrics) {
         this.apiKeyProvider = apiKeyProvider;
+        this.geocodeExecutor = geocodeExecutor;
+        this.hospitalLocationCache = hospitalLocationCache;
+        this.reverseGeocodeCache = reverseGeocodeCache;
+        this.circuitBreakers = circuitBreakers;
+        this.quotaBudgeter = quotaBudgeter;
+        this.upstreamMetrics = upstreamMetrics;
+        // 외부 API 호출은 모두 공용 커넥션 풀을 거친다 (keep-alive 재사용, 호스트별 제한 시간)
+        this.restTemplate = new RestTemplate(outboundRequestFactory);
     }
 
     // 병원의 이름으로 위도경도를 받아오기
@@ -35,43 +95,123 @@ public class EmergencyClient {
 
     // 병원의 정보를 받아오는 메서드
     public List<EmergencyRoomDTO> GetEmergencyRoomInformationApi(UserLocationDTO userLocationDTO) throws IOException {
+        List<EmergencyRoomDTO> emergencyRooms = GetEmergencyRoomBedsApi(userLocationDTO);
+
+        // 병원 좌표는 병렬로 조회하고, 마감 시간까지 못 받은 병원은 위치 조회 중으로 표시
+        GetEmergencyRoomLocations(emergencyRooms);
+
+        return emergencyRooms;
+    }
+
+    // 병상 정보만 받아온다 (좌표는 0.0 그대로). 좌표는 GetEmergencyRoomLocations / StreamEmergencyRoomLocations 로 채운다
+    public List<EmergencyRoomDTO> GetEmergencyRoomBedsApi(UserLocationDTO userLocationDTO) throws IOException {
         String sido = userLocationDTO.getSido();
         String sigungu = userLocationDTO.getSigungu();
 
-        StringBuilder urlBuilder = new StringBuilder("http://apis.data.go.kr/B552657/ErmctInfoInqireService/getEmrrmRltmUsefulSckbdInfoInqire");
+        StringBuilder urlBuilder = new StringBuilder(publicDataBaseUrl + "/B552657/ErmctInfoInqireService/getEmrrmRltmUsefulSckbdInfoInqire");
         urlBuilder.append("?" + URLEncoder.encode("serviceKey", "UTF-8") + "=" + apiKeyProvider.getPublicDataKey());
         urlBuilder.append("&" + URLEncoder.encode("STAGE1", "UTF-8") + "=" + URLEncoder.encode(sido, "UTF-8"));
         urlBuilder.append("&" + URLEncoder.encode("STAGE2", "UTF-8") + "=" + URLEncoder.encode(sigungu, "UTF-8"));
         urlBuilder.append("&" + URLEncoder.encode("pageNo", "UTF-8") + "=" + URLEncoder.encode("1", "UTF-8"));
         urlBuilder.append("&" + URLEncoder.encode("numOfRows", "UTF-8") + "=" + URLEncoder.encode("999999", "UTF-8"));
-        URL url = new URL(urlBuilder.toString());
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("Content-type", "application/json");
-        System.out.println("Response code: " + conn.getResponseCode());
-        BufferedReader rd;
-        if (conn.getResponseCode() >= 200 && conn.getResponseCode() <= 300) {
-            rd = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-        } else {
-            rd = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
+        return readXml(UpstreamCall.ROOM, urlBuilder.toString(), EmergencyRoomXmlParser::parse);
+    }
+
+    // 병원 목록의 좌표를 geocodeExecutor 에서 동시에 조회한다 (요청 하나당 마감 시간 적용)
+    public void GetEmergencyRoomLocations(List<EmergencyRoomDTO> emergencyRooms) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(geocodeDeadlineMillis);
+
+        List<CompletableFuture<HospitalCoordinateDTO>> futures = new ArrayList<>(emergencyRooms.size());
+        for (EmergencyRoomDTO emergencyRoom : emergencyRooms) {
+            futures.add(submitGeocode(emergencyRoom.getHospitalName()));
         }
-        StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = rd.readLine()) != null) {
-            sb.append(line);
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 끝난 것만 반영하고 나머지는 아래에서 locationPending 처리
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        rd.close();
-        conn.disconnect();
-//        System.out.println(sb.toString());
 
-        List<EmergencyRoomDTO> emergencyRooms = EmergencyRoomXmlParser.parse(sb.toString());
+        for (int i = 0; i < emergencyRooms.size(); i++) {
+            EmergencyRoomDTO emergencyRoom = emergencyRooms.get(i);
+            CompletableFuture<HospitalCoordinateDTO> future = futures.get(i);
+
+            if (!future.isDone()) {
+                future.cancel(false);
+                emergencyRoom.setLocationPending(true);
+                continue;
+            }
+            if (future.isCompletedExceptionally()) {
+                // 대기열이 가득 차 조회하지 못한 병원은 locationPending, 조회 실패 시에는 파서가 넣어둔 0.0 좌표 그대로 둔다
+                if (wasRejected(future)) {
+                    emergencyRoom.setLocationPending(true);
+                }
+                continue;
+            }
+
+            HospitalCoordinateDTO coordinate = future.getNow(HospitalLocationCache.NOT_FOUND);
+            emergencyRoom.setHospitalLatitude(coordinate.getLatitude());
+            emergencyRoom.setHospitalLongitude(coordinate.getLongitude());
+        }
+    }
 
-        // 반복문 역 지오코딩으로 설절
+    // 병원 좌표를 동시에 조회하면서 하나가 끝날 때마다 바로 onResolved 를 부른다 (SSE 스트리밍용)
+    // 조회에 실패한 병원은 0.0 좌표 그대로 넘긴다. 마감 시간은 호출하는 쪽에서 반환된 future 로 처리한다
+    // 대기열이 가득 차 조회하지 못한 병원은 onResolved 없이 실패한 future 로 돌려준다 (locationPending 유지)
+    public List<CompletableFuture<EmergencyRoomDTO>> StreamEmergencyRoomLocations(List<EmergencyRoomDTO> emergencyRooms,
+                                                                               Consumer<EmergencyRoomDTO> onResolved) {
+        List<CompletableFuture<EmergencyRoomDTO>> futures = new ArrayList<>(emergencyRooms.size());
         for (EmergencyRoomDTO emergencyRoom : emergencyRooms) {
-            GetEmergencyRoomLocation(emergencyRoom);
+            futures.add(submitGeocode(emergencyRoom.getHospitalName()).handle((coordinate, error) -> {
+                if (isRejection(error)) {
+                    throw new CompletionException(error);
+                }
+                if (error == null) {
+                    emergencyRoom.setHospitalLatitude(coordinate.getLatitude());
+                    emergencyRoom.setHospitalLongitude(coordinate.getLongitude());
+                }
+                emergencyRoom.setLocationPending(false);
+                onResolved.accept(emergencyRoom);
+                return emergencyRoom;
+            }));
         }
+        return futures;
+    }
 
-        return emergencyRooms;
+    private CompletableFuture<HospitalCoordinateDTO> submitGeocode(String hospitalName) {
+        // 로컬 캐시에 있으면 스레드를 쓰지 않고 바로 완료
+        HospitalCoordinateDTO cached = hospitalLocationCache.getLocal(hospitalName);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        // 조회는 geocodeExecutor 스레드에서 돌기 때문에 호출한 쪽의 호출 한도 우선순위를 넘겨준다
+        QuotaPriority priority = QuotaPriority.current();
+        try {
+            return CompletableFuture.supplyAsync(() -> QuotaPriority.callAs(priority,
+                    () -> hospitalLocationCache.get(hospitalName, this::FindHospitalCoordinate)), geocodeExecutor);
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찬 경우 기다리지 않고 바로 실패로 끝내서 호출한 쪽이 위치 조회 중으로 응답하게 한다
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean wasRejected(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return false;
+        } catch (CompletionException e) {
+            return isRejection(e);
+        } catch (CancellationException e) {
+            return false;
+        }
+    }
+
+    private static boolean isRejection(Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        return cause instanceof RejectedExecutionException;
     }
 
 
@@ -79,63 +219,137 @@ public class EmergencyClient {
 
 
     public List<EmergencyAedDTO> GetEmergencyAedInformationApi(UserLocationDTO userLocationDTO) throws IOException {
-        StringBuilder urlBuilder = new StringBuilder("http://apis.data.go.kr/B552657/AEDInfoInqireService/getEgytAedManageInfoInqire"); /*URL*/
+        StringBuilder urlBuilder = new StringBuilder(publicDataBaseUrl + "/B552657/AEDInfoInqireService/getEgytAedManageInfoInqire"); /*URL*/
         urlBuilder.append("?" + URLEncoder.encode("serviceKey","UTF-8") + "=" + apiKeyProvider.getPublicDataKey()); /*Service Key*/
         urlBuilder.append("&" + URLEncoder.encode("pageNo", "UTF-8") + "=" + URLEncoder.encode("1", "UTF-8"));
         urlBuilder.append("&" + URLEncoder.encode("numOfRows", "UTF-8") + "=" + URLEncoder.encode("10", "UTF-8"));
         urlBuilder.append("&" + URLEncoder.encode("Q0", "UTF-8") + "=" + URLEncoder.encode(userLocationDTO.getSido(), "UTF-8"));
         urlBuilder.append("&" + URLEncoder.encode("Q1", "UTF-8") + "=" + URLEncoder.encode(userLocationDTO.getSigungu(), "UTF-8"));
-        URL url = new URL(urlBuilder.toString());
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("Content-type", "application/json");
-        System.out.println("Response code: " + conn.getResponseCode());
-        BufferedReader rd;
-        if(conn.getResponseCode() >= 200 && conn.getResponseCode() <= 300) {
-            rd = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-        } else {
-            rd = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
-        }
-        StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = rd.readLine()) != null) {
-            sb.append(line);
-        }
-        rd.close();
-        conn.disconnect();
+        List<EmergencyAedDTO> emergencyAeds = readXml(UpstreamCall.AED, urlBuilder.toString(), EmergencyAedXmlParser::parse);
 
-        List<EmergencyAedDTO> emergencyAeds = EmergencyAedXmlParser.parse(sb.toString());
+        return emergencyAeds;
+    }
 
+    // 지역 조건 없이 전국 AED 목록을 페이지 단위로 받아온다 (스냅샷 적재용)
+    public List<EmergencyAedDTO> GetEmergencyAedPage(int pageNo, int numOfRows) throws IOException {
+        StringBuilder urlBuilder = new StringBuilder(publicDataBaseUrl + "/B552657/AEDInfoInqireService/getEgytAedManageInfoInqire");
+        urlBuilder.append("?" + URLEncoder.encode("serviceKey","UTF-8") + "=" + apiKeyProvider.getPublicDataKey());
+        urlBuilder.append("&" + URLEncoder.encode("pageNo", "UTF-8") + "=" + pageNo);
+        urlBuilder.append("&" + URLEncoder.encode("numOfRows", "UTF-8") + "=" + numOfRows);
+        return readXml(UpstreamCall.AED_PAGE, urlBuilder.toString(), EmergencyAedXmlParser::parse);
+    }
 
-        return emergencyAeds;
+    // 전국 응급의료기관 기본정보(hpid, 좌표)를 페이지 단위로 받아온다 (병원 레지스트리 적재용)
+    public List<HospitalBasicInfoDTO> GetEmergencyHospitalPage(int pageNo, int numOfRows) throws IOException {
+        StringBuilder urlBuilder = new StringBuilder(publicDataBaseUrl + "/B552657/ErmctInfoInqireService/getEgytListInfoInqire");
+        urlBuilder.append("?" + URLEncoder.encode("serviceKey","UTF-8") + "=" + apiKeyProvider.getPublicDataKey());
+        urlBuilder.append("&" + URLEncoder.encode("pageNo", "UTF-8") + "=" + pageNo);
+        urlBuilder.append("&" + URLEncoder.encode("numOfRows", "UTF-8") + "=" + numOfRows);
+        return readXml(UpstreamCall.HOSPITAL_PAGE, urlBuilder.toString(), HospitalBasicInfoXmlParser::parse);
     }
 
 
+    // 응답 본문을 문자열로 모으지 않고 커넥션 스트림에서 바로 파싱한다
+    // url 은 이미 인코딩된 값이라(serviceKey 포함) 다시 인코딩되지 않도록 URI 로 넘긴다
+    // 공공데이터 API 가 느려지거나 실패가 이어지면 서킷이 열려서 바로 CircuitOpenException 을 던진다
+    private <T> List<T> readXml(UpstreamCall call, String url, XmlStreamParser<T> parser) throws IOException {
+        return callUpstream(call, () -> {
+            try {
+                List<T> result = restTemplate.execute(URI.create(url), HttpMethod.GET, null, response -> {
+                    long parseStarted = System.nanoTime();
+                    CountingInputStream body = new CountingInputStream(response.getBody());
+                    List<T> parsed = parser.parse(body);
+                    upstreamMetrics.recordParse(call, System.nanoTime() - parseStarted);
+                    upstreamMetrics.recordPayload(call, body.getCount());
+                    return parsed;
+                });
+                return result != null ? result : new ArrayList<>();
+            } catch (RestClientException e) {
+                throw toIOException(e);
+            }
+        });
+    }
 
-    // 사용자의 위도 경도로 시, 도를 조회하는 메서드
+    // 일일 호출 한도에서 현재 우선순위로 한 번을 받아서 서킷 브레이커를 거쳐 호출한다
+    // 한도를 아껴야 하면 QuotaExceededException, 서킷이 열려서 보내지 않은 호출은 한도를 돌려준다
+    // 호출마다 지연 시간과 실패(상태 코드, 예외 종류)를 upstreamMetrics 에 남긴다
+    private <V> V callUpstream(UpstreamCall call, CircuitBreaker.Task<V, IOException> task) throws IOException {
+        QuotaBudget budget = call.isKakao() ? quotaBudgeter.kakao() : quotaBudgeter.publicData();
+        CircuitBreaker breaker = call.isKakao() ? circuitBreakers.kakao() : circuitBreakers.publicData();
+        long started = System.nanoTime();
+        try {
+            budget.acquire(QuotaPriority.current());
+            V value;
+            try {
+                value = breaker.execute(task);
+            } catch (CircuitOpenException e) {
+                budget.release();
+                throw e;
+            }
+            upstreamMetrics.recordSuccess(call, System.nanoTime() - started);
+            return value;
+        } catch (IOException | RuntimeException e) {
+            upstreamMetrics.recordFailure(call, System.nanoTime() - started, e);
+            throw e;
+        }
+    }
+
+    // 호출하는 쪽은 IOException 으로 실패를 처리하므로 RestTemplate 예외를 바꿔서 던진다
+    private static IOException toIOException(RestClientException e) {
+        if (e instanceof ResourceAccessException && e.getCause() instanceof IOException cause) {
+            return cause;
+        }
+        return new IOException(e.getMessage(), e);
+    }
+
+    @FunctionalInterface
+    private interface XmlStreamParser<T> {
+        List<T> parse(InputStream in) throws IOException;
+    }
+
+
+    // 사용자의 위도 경도로 시, 도를 조회하는 메서드 (geohash 칸 단위로 캐시)
     public UserLocationDTO GetUserLocation(String userLatitude, String userLongitude) {
+        double latitude;
+        double longitude;
+        try {
+            latitude = Double.parseDouble(userLatitude);
+            longitude = Double.parseDouble(userLongitude);
+        } catch (NumberFormatException e) {
+            // 숫자가 아니면 캐시 키를 만들 수 없으니 그대로 카카오에 넘긴다
+            return FetchUserLocation(userLatitude, userLongitude);
+        }
+        return reverseGeocodeCache.get(latitude, longitude, () -> FetchUserLocation(userLatitude, userLongitude));
+    }
+
+    // 카카오 coord2regioncode 로 시, 도를 조회
+    private UserLocationDTO FetchUserLocation(String userLatitude, String userLongitude) {
 
         String url = String.format(
-                "https://dapi.kakao.com/v2/local/geo/coord2regioncode.json?x=%s&y=%s",
-                userLongitude, userLatitude
+                "%s/v2/local/geo/coord2regioncode.json?x=%s&y=%s",
+                kakaoBaseUrl, userLongitude, userLatitude
         );
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + apiKeyProvider.getKakaoMapKey());
+        String authorization = "KakaoAK " + apiKeyProvider.getKakaoMapKey();
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        // HTTP 요청
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<JsonNode> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                JsonNode.class
-        );
+        // HTTP 요청 (카카오 서킷이 열려 있거나 호출 한도를 아껴야 하면 바로 실패)
+        JsonNode body;
+        try {
+            body = callUpstream(UpstreamCall.REGION, () -> {
+                try {
+                    return restTemplate.execute(url, HttpMethod.GET,
+                            request -> request.getHeaders().set("Authorization", authorization),
+                            response -> readJson(UpstreamCall.REGION, response.getBody()));
+                } catch (RestClientException e) {
+                    throw toIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
         // 응답 파싱
-        JsonNode documents = response.getBody().get("documents");
+        JsonNode documents = body.get("documents");
 
         String sigungu = "";
         String sido = "";
@@ -169,55 +383,76 @@ public class EmergencyClient {
 
 
     public EmergencyRoomDTO GetEmergencyRoomLocation(EmergencyRoomDTO emergencyRoom) {
-        final String KAKAO_API_KEY = apiKeyProvider.getKakaoMapKey();
         try {
-            String query = emergencyRoom.getHospitalName(); // 병원 이름
-            String encodedQuery = URLEncoder.encode(query, "UTF-8");
-            String apiURL = "https://dapi.kakao.com/v2/local/search/keyword.json?query=" + encodedQuery;
-
-            URL url = new URL(apiURL);
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Authorization", "KakaoAK " + KAKAO_API_KEY);
-
-// 디버깅용으로 응답 코드 찍어보자
-            int responseCode = conn.getResponseCode();
-            System.out.println("Response Code: " + responseCode);
-            BufferedReader rd = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-            StringBuilder sb = new StringBuilder();
-            String line;
-            while ((line = rd.readLine()) != null) {
-                sb.append(line);
-            }
-            rd.close();
-            conn.disconnect();
-
-            String response = sb.toString();
-
-            // 응답 JSON에서 위도(lat), 경도(lng) 추출
-            int xIndex = response.indexOf("\"x\":\"");
-            int yIndex = response.indexOf("\"y\":\"");
+            HospitalCoordinateDTO coordinate =
+                    hospitalLocationCache.get(emergencyRoom.getHospitalName(), this::FindHospitalCoordinate);
+            emergencyRoom.setHospitalLatitude(coordinate.getLatitude());
+            emergencyRoom.setHospitalLongitude(coordinate.getLongitude());
+        } catch (UncheckedIOException e) {
+            emergencyRoom.setHospitalLatitude(0.0);
+            emergencyRoom.setHospitalLongitude(0.0);
+        }
+        return emergencyRoom;
+    }
 
-            if (xIndex != -1 && yIndex != -1) {
-                String xStr = response.substring(xIndex + 5, response.indexOf("\"", xIndex + 5));
-                String yStr = response.substring(yIndex + 5, response.indexOf("\"", yIndex + 5));
 
-                String longitude = xStr;
-                String latitude = yStr;
+    // 병원 이름으로 카카오 키워드 검색을 해서 좌표를 받아온다.
+    // 검색 결과가 없으면 null, 통신 오류는 캐시되지 않도록 UncheckedIOException 으로 던진다
+    public HospitalCoordinateDTO FindHospitalCoordinate(String hospitalName) {
+        final String KAKAO_API_KEY = apiKeyProvider.getKakaoMapKey();
+        try {
+            String encodedQuery = URLEncoder.encode(hospitalName, "UTF-8");
+            String apiURL = kakaoBaseUrl + "/v2/local/search/keyword.json?query=" + encodedQuery;
+
+            String authorization = "KakaoAK " + KAKAO_API_KEY;
+
+            return callUpstream(UpstreamCall.KEYWORD, () -> {
+                try {
+                    return restTemplate.execute(URI.create(apiURL), HttpMethod.GET,
+                            request -> request.getHeaders().set("Authorization", authorization),
+                            response -> {
+                                byte[] body = response.getBody().readAllBytes();
+                                upstreamMetrics.recordPayload(UpstreamCall.KEYWORD, body.length);
+                                long parseStarted = System.nanoTime();
+                                HospitalCoordinateDTO coordinate =
+                                        parseKeywordCoordinate(new String(body, StandardCharsets.UTF_8));
+                                upstreamMetrics.recordParse(UpstreamCall.KEYWORD, System.nanoTime() - parseStarted);
+                                return coordinate;
+                            });
+                } catch (RestClientException e) {
+                    throw toIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("병원 좌표 검색 실패 [{}]: {}", hospitalName, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+    }
 
-                emergencyRoom.setHospitalLatitude(latitude);
-                emergencyRoom.setHospitalLongitude(longitude);
+    // 응답 JSON에서 첫 번째 검색 결과의 위도(y), 경도(x) 추출. 결과가 없거나 좌표 형식이 이상하면 null
+    private static HospitalCoordinateDTO parseKeywordCoordinate(String response) {
+        int xIndex = response.indexOf("\"x\":\"");
+        int yIndex = response.indexOf("\"y\":\"");
+
+        if (xIndex != -1 && yIndex != -1) {
+            String longitude = response.substring(xIndex + 5, response.indexOf("\"", xIndex + 5));
+            String latitude = response.substring(yIndex + 5, response.indexOf("\"", yIndex + 5));
+            try {
+                return new HospitalCoordinateDTO(Double.parseDouble(latitude), Double.parseDouble(longitude));
+            } catch (NumberFormatException e) {
+                // 좌표 형식이 이상하면 검색 결과 없음으로 본다
+                return null;
             }
-
-        } catch (IOException | NumberFormatException e) {
-            System.out.println("역지오코딩 실패: " + e.getMessage());
-            emergencyRoom.setHospitalLatitude("0.0");
-            emergencyRoom.setHospitalLongitude("0.0");
         }
+        return null;
+    }
 
-        System.out.println(emergencyRoom.getHospitalName());
-        return emergencyRoom;
+    private JsonNode readJson(UpstreamCall call, InputStream in) throws IOException {
+        long parseStarted = System.nanoTime();
+        CountingInputStream body = new CountingInputStream(in);
+        JsonNode node = OBJECT_MAPPER.readTree(body);
+        upstreamMetrics.recordParse(call, System.nanoTime() - parseStarted);
+        upstreamMetrics.recordPayload(call, body.getCount());
+        return node;
     }
 }
@@ -2,45 +2,101 @@ package emp.emp.emergency.controller;
 
 import ch.qos.logback.core.model.Model;
 import emp.emp.auth.custom.CustomUserDetails;
+import emp.emp.emergency.dto.CombinedEmergencyResponseDTO;
 import emp.emp.emergency.dto.EmergencyAedDTO;
 import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.enums.EmergencyCapability;
 import emp.emp.emergency.service.EmergencyService;
+import emp.emp.emergency.util.AedOpeningHours;
+import emp.emp.emergency.util.WeakETag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.xml.bind.JAXBException;
 import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
 public class EmergencyController {
+    // 한 번에 돌려줄 수 있는 AED 최대 개수
+    private static final int MAX_AED_LIMIT = 100;
+    // 한 번에 돌려줄 수 있는 응급실 최대 개수
+    private static final int MAX_ROOM_LIMIT = 100;
+    // AED 운영 시간은 한국 시간 기준
+    private static final ZoneId KOREA = ZoneId.of("Asia/Seoul");
+
     private final EmergencyService emergencyService;
 
+    // /api/emergency/room 은 본문(배열)을 그대로 두고 병상 정보의 기준 시각 / stale 여부를 헤더로 내려준다
+    static final String DATA_AS_OF_HEADER = "X-Data-As-Of";
+    static final String DATA_STALE_HEADER = "X-Data-Stale";
+
+    // 몇 초마다 다시 조회하는 앱이 그사이에는 받아둔 응답을 쓰도록 (사용자별 응답이라 private)
+    @Value("${emergency.http.max-age-seconds:5}")
+    private long maxAgeSeconds;
+
 
     @GetMapping("/api/emergency/room")
     public ResponseEntity<List<EmergencyRoomDTO>> emergencyRoom(
             @RequestParam String userLatitude,
             @RequestParam String userLongitude,
-            @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException, JAXBException {
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) Double maxDistanceKm,
+            @RequestParam(required = false) String capabilities,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            ServletWebRequest webRequest) throws IOException, JAXBException {
+
+        // 필요한 역량 (예: capabilities=emergency_bed,ct). 모르는 이름이면 400 Bad Request
+        long requiredCapabilities;
+        try {
+            requiredCapabilities = EmergencyCapability.parseMask(capabilities);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
         try {
-            List<EmergencyRoomDTO> emergencyRooms = emergencyService.getEmergencyRoomInformation(userLatitude, userLongitude);
+            // 역량 조건에 맞는 응급실만 가까운 순서로 정렬하고 거리(distanceKm)를 채워서 limit 개까지만 내려준다
+            int boundedLimit = Math.max(1, Math.min(limit, MAX_ROOM_LIMIT));
+            EmergencyRoomSnapshotDTO regionSnapshot = emergencyService.getEmergencyRoomSnapshot(userLatitude, userLongitude);
+
+            // 지역 스냅샷 버전(기준 시각, stale)과 조회 조건이 같으면 정렬/직렬화 없이 304 Not Modified
+            String eTag = WeakETag.of("room", regionSnapshot.getSido(), regionSnapshot.getSigungu(),
+                    regionSnapshot.getAsOf(), regionSnapshot.isStale(),
+                    userLatitude, userLongitude, boundedLimit, maxDistanceKm, requiredCapabilities);
+            if (notModified(webRequest, eTag)) {
+                return null;
+            }
+
+            EmergencyRoomSnapshotDTO snapshot = emergencyService.rankRooms(
+                    regionSnapshot, userLatitude, userLongitude, boundedLimit, maxDistanceKm, requiredCapabilities);
 
-            if (emergencyRooms.isEmpty()) {
+            if (snapshot.getRooms().isEmpty()) {
                 // 데이터가 없을 경우 204 No Content 반환
-                return ResponseEntity.noContent().build();
+                return ResponseEntity.noContent().cacheControl(cacheControl()).headers(freshnessHeaders(snapshot)).build();
             }
 
-            // 성공적으로 데이터를 가져왔을 경우 200 OK와 함께 데이터 반환
-            return ResponseEntity.ok(emergencyRooms);
+            // 성공적으로 데이터를 가져왔을 경우 200 OK와 함께 데이터 반환 (기준 시각은 헤더로)
+            return ResponseEntity.ok().cacheControl(cacheControl()).headers(freshnessHeaders(snapshot))
+                    .body(snapshot.getRooms());
         } catch (Exception e) {
             // 예외 발생 시 500 Internal Server Error 반환
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -49,22 +105,54 @@ public class EmergencyController {
 
 
 
+    // /api/emergency/room 의 SSE 버전. 시도/시군구 → 병상 정보 → 좌표가 나온 병원부터 하나씩 보내고 끝나면 done
+    @GetMapping(value = "/api/emergency/room/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter emergencyRoomStream(
+            @RequestParam String userLatitude,
+            @RequestParam String userLongitude,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        return emergencyService.streamEmergencyRooms(userLatitude, userLongitude);
+    }
+
+
+
     @GetMapping("/api/emergency/aed")
     public ResponseEntity<List<EmergencyAedDTO>> emergencyAed(
             @RequestParam String userLatitude,
             @RequestParam String userLongitude,
-            @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException, JAXBException {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "3.0") double radiusKm,
+            @RequestParam(defaultValue = "false") boolean availableNow,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime availableAt,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            ServletWebRequest webRequest) throws IOException, JAXBException {
 
         try {
-            List<EmergencyAedDTO> emergencyAed = emergencyService.getEmergencyAedInformation(userLatitude, userLongitude);
+            int boundedLimit = Math.max(1, Math.min(limit, MAX_AED_LIMIT));
+            // availableNow=true 또는 availableAt(한국 시간, 예: 2025-06-09T21:30) 이면 그 시각에 운영 중인 AED 만
+            LocalDateTime openAt = availableNow ? LocalDateTime.now(KOREA) : availableAt;
+
+            // AED 스냅샷이 있으면 적재 시각과 조회 조건으로 304 를 판단한다 (없으면 매번 API 결과라 ETag 없이 응답)
+            Instant aedVersion = emergencyService.getAedSnapshotLoadedAt();
+            if (aedVersion != null) {
+                String eTag = WeakETag.of("aed", aedVersion, userLatitude, userLongitude, boundedLimit, radiusKm,
+                        openAt == null ? null : AedOpeningHours.minuteOfWeek(openAt));
+                if (notModified(webRequest, eTag)) {
+                    return null;
+                }
+            }
+
+            List<EmergencyAedDTO> emergencyAed = emergencyService.getEmergencyAedInformation(
+                    userLatitude, userLongitude, boundedLimit, radiusKm, openAt);
 
             if (emergencyAed.isEmpty()) {
                 // 데이터가 없을 경우 204 No Content 반환
-                return ResponseEntity.noContent().build();
+                return ResponseEntity.noContent().cacheControl(cacheControl()).build();
             }
 
             // 성공적으로 데이터를 가져왔을 경우 200 OK와 함께 데이터 반환
-            return ResponseEntity.ok(emergencyAed);
+            return ResponseEntity.ok().cacheControl(cacheControl()).body(emergencyAed);
         } catch (Exception e) {
             // 예외 발생 시 500 Internal Server Error 반환
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -72,23 +160,56 @@ public class EmergencyController {
     }
 
     @GetMapping("/api/emergency/both")
-    public ResponseEntity<Map<String, Object>> emergencyAedAndRoom(
+    public ResponseEntity<CombinedEmergencyResponseDTO> emergencyAedAndRoom(
             @RequestParam String userLatitude,
             @RequestParam String userLongitude,
-            @AuthenticationPrincipal CustomUserDetails userDetails) throws IOException, JAXBException {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            ServletWebRequest webRequest) throws IOException, JAXBException {
 
-        try {
-            Map<String, Object> result = emergencyService.getCombinedEmergencyInfo(userLatitude, userLongitude);
-            if (result.isEmpty()) {
-                // 데이터가 없을 경우 204 No Content 반환
-                return ResponseEntity.noContent().build();
+        // AED 버전은 조회 전에 읽어둔다 (그사이 스냅샷이 바뀌어도 ETag 가 응답보다 새 버전을 가리키지 않도록)
+        Instant aedVersion = emergencyService.getAedSnapshotLoadedAt();
+
+        // 응급실/AED 중 한쪽만 실패하면 나머지 결과와 항목별 상태를 200 으로 내려준다
+        CombinedEmergencyResponseDTO result = emergencyService.getCombinedEmergencyInfo(userLatitude, userLongitude);
+        if (result.isEmpty()) {
+            // 둘 다 실패했을 경우 500 Internal Server Error 와 함께 항목별 상태 반환
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result);
+        }
+
+        // 두 항목이 모두 버전(병상 기준 시각, AED 스냅샷 적재 시각)을 알 때만 304 를 판단한다 (직렬화/전송만 아낀다)
+        if (result.getEmergencyRoomsAsOf() != null && aedVersion != null) {
+            String eTag = WeakETag.of("both", result.getEmergencyRoomStatus(), result.getEmergencyRoomsAsOf(),
+                    result.isEmergencyRoomsStale(), result.getAedStatus(), aedVersion, userLatitude, userLongitude);
+            if (notModified(webRequest, eTag)) {
+                return null;
             }
+        }
 
-            // 성공적으로 데이터를 가져왔을 경우 200 OK와 함께 데이터 반환
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            // 예외 발생 시 500 Internal Server Error 반환
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        // 성공적으로 데이터를 가져왔을 경우 200 OK와 함께 데이터 반환
+        return ResponseEntity.ok().cacheControl(cacheControl()).body(result);
+    }
+
+
+    // If-None-Match 가 eTag 와 같으면 304 로 끝낸다 (ETag 헤더는 200 응답에도 붙는다)
+    private boolean notModified(ServletWebRequest webRequest, String eTag) {
+        if (!webRequest.checkNotModified(eTag)) {
+            return false;
         }
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl().getHeaderValue());
+        return true;
+    }
+
+    // Age: 기준 시각으로부터 지난 초, X-Data-As-Of: 기준 시각(ISO-8601), X-Data-Stale: upstream 장애로 마지막 데이터를 내려주는 중
+    private static HttpHeaders freshnessHeaders(EmergencyRoomSnapshotDTO snapshot) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AGE, String.valueOf(
+                Math.max(0L, Instant.now().getEpochSecond() - snapshot.getAsOf().getEpochSecond())));
+        headers.set(DATA_AS_OF_HEADER, snapshot.getAsOf().toString());
+        headers.set(DATA_STALE_HEADER, String.valueOf(snapshot.isStale()));
+        return headers;
+    }
+
+    private CacheControl cacheControl() {
+        return CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate();
     }
 }
@@ -0,0 +1,28 @@
+package emp.emp.emergency.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import emp.emp.emergency.enums.SectionStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+// /api/emergency/both 응답. 한쪽 조회가 실패하거나 늦어도 나머지 결과는 내려주고, 항목별 상태를 같이 알려준다
+@Getter
+@Builder
+public class CombinedEmergencyResponseDTO {
+    private SectionStatus emergencyRoomStatus;
+    private Instant emergencyRoomsAsOf; // 병상 정보 기준 시각 (조회 실패 시 null)
+    private boolean emergencyRoomsStale; // upstream 장애로 마지막으로 받아온 병상 정보를 내려주는 중
+    private List<EmergencyRoomDTO> emergencyRooms;
+
+    private SectionStatus aedStatus;
+    private List<EmergencyAedDTO> aedLocations;
+
+    // 둘 다 실패했으면 보여줄 것이 없다
+    @JsonIgnore
+    public boolean isEmpty() {
+        return emergencyRoomStatus != SectionStatus.OK && aedStatus != SectionStatus.OK;
+    }
+}
@@ -1,71 +1,114 @@
 package emp.emp.emergency.dto;
 
-import emp.emp.emergency.dto.EmergencyAedDTO;
-
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+// AED 응답(xml)을 StAX 로 한 번만 훑으면서 DTO 로 만든다
 public class EmergencyAedXmlParser {
-    public static List<EmergencyAedDTO> parse(String xml) {
+
+    public static List<EmergencyAedDTO> parse(InputStream in) throws IOException {
         List<EmergencyAedDTO> result = new ArrayList<>();
 
-        // <body><items> 태그 안의 내용만 추출
-        int bodyStart = xml.indexOf("<body>");
-        int bodyEnd = xml.indexOf("</body>", bodyStart);
+        XMLStreamReader reader = null;
+        try {
+            reader = XmlStreamSupport.createReader(in);
+            EmergencyAedDTO dto = null;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
 
-        if (bodyStart == -1 || bodyEnd == -1) {
-            // body 태그가 없는 경우 처리
-            return result;
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String tag = reader.getLocalName();
+                    if ("item".equals(tag)) {
+                        dto = newEmergencyAed();
+                    } else if (dto != null) {
+                        applyTag(dto, tag, reader);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && dto != null && "item".equals(reader.getLocalName())) {
+                    result.add(dto);
+                    dto = null;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("AED xml 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            XmlStreamSupport.closeQuietly(reader);
         }
 
-        String bodyContent = xml.substring(bodyStart, bodyEnd + 7);
+        return result;
+    }
+
+    public static List<EmergencyAedDTO> parse(String xml) throws IOException {
+        return parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
 
-        // <item> 태그 분리
-        String[] items = bodyContent.split("<item>");
-        for (int i = 1; i < items.length; i++) { // 첫 번째 항목은 분할 결과로 <items> 태그만 포함하므로 건너뜀
-            String itemXml = items[i];
-            EmergencyAedDTO dto = new EmergencyAedDTO();
+    // 기존 파서와 같이 없는 태그는 빈 문자열
+    private static EmergencyAedDTO newEmergencyAed() {
+        EmergencyAedDTO dto = new EmergencyAedDTO();
+        dto.setAedLatitude("");
+        dto.setAedLongitude("");
+        dto.setInstallationOrg("");
+        dto.setBuildPlace("");
+        dto.setTelNumber("");
+        dto.setManagerTelNumber("");
+        dto.setMondayStartDay("");
+        dto.setMondayEndDay("");
+        dto.setTuesdayStartDay("");
+        dto.setTuesdayEndDay("");
+        dto.setWednesdayStartDay("");
+        dto.setWednesdayEndDay("");
+        dto.setThursdayStartDay("");
+        dto.setThursdayEndDay("");
+        dto.setFridayStartDay("");
+        dto.setFridayEndDay("");
+        dto.setSaturdayStartDay("");
+        dto.setSaturdayEndDay("");
+        dto.setSundayStartDay("");
+        dto.setSundayEndDay("");
+        return dto;
+    }
 
+    private static void applyTag(EmergencyAedDTO dto, String tag, XMLStreamReader reader) throws XMLStreamException {
+        switch (tag) {
             // 좌표
-            dto.setAedLatitude(getTagValue(itemXml, "wgs84Lat"));
-            dto.setAedLongitude(getTagValue(itemXml, "wgs84Lon"));
+            case "wgs84Lat" -> dto.setAedLatitude(text(reader));
+            case "wgs84Lon" -> dto.setAedLongitude(text(reader));
 
             // 설치 기관/장소/전화
-            dto.setInstallationOrg(getTagValue(itemXml, "mfg"));           // 제조사
-            dto.setBuildPlace(getTagValue(itemXml, "buildPlace"));         // 설치 위치
-            dto.setTelNumber(getTagValue(itemXml, "clerkTel"));            // 담당자 전화
-            dto.setManagerTelNumber(getTagValue(itemXml, "managerTel"));   // 관리자 전화
+            case "mfg" -> dto.setInstallationOrg(text(reader));             // 제조사
+            case "buildPlace" -> dto.setBuildPlace(text(reader));           // 설치 위치
+            case "clerkTel" -> dto.setTelNumber(text(reader));              // 담당자 전화
+            case "managerTel" -> dto.setManagerTelNumber(text(reader));     // 관리자 전화
 
             // 요일별 운영 시간
-            dto.setMondayStartDay(getTagValue(itemXml, "monSttTme"));
-            dto.setMondayEndDay(getTagValue(itemXml, "monEndTme"));
-            dto.setTuesdayStartDay(getTagValue(itemXml, "tueSttTme"));
-            dto.setTuesdayEndDay(getTagValue(itemXml, "tueEndTme"));
-            dto.setWednesdayStartDay(getTagValue(itemXml, "wedSttTme"));
-            dto.setWednesdayEndDay(getTagValue(itemXml, "wedEndTme"));
-            dto.setThursdayStartDay(getTagValue(itemXml, "thuSttTme"));
-            dto.setThursdayEndDay(getTagValue(itemXml, "thuEndTme"));
-            dto.setFridayStartDay(getTagValue(itemXml, "friSttTme"));
-            dto.setFridayEndDay(getTagValue(itemXml, "friEndTme"));
-            dto.setSaturdayStartDay(getTagValue(itemXml, "satSttTme"));
-            dto.setSaturdayEndDay(getTagValue(itemXml, "satEndTme"));
-            dto.setSundayStartDay(getTagValue(itemXml, "sunSttTme"));
-            dto.setSundayEndDay(getTagValue(itemXml, "sunEndTme"));
-
-            result.add(dto);
+            case "monSttTme" -> dto.setMondayStartDay(text(reader));
+            case "monEndTme" -> dto.setMondayEndDay(text(reader));
+            case "tueSttTme" -> dto.setTuesdayStartDay(text(reader));
+            case "tueEndTme" -> dto.setTuesdayEndDay(text(reader));
+            case "wedSttTme" -> dto.setWednesdayStartDay(text(reader));
+            case "wedEndTme" -> dto.setWednesdayEndDay(text(reader));
+            case "thuSttTme" -> dto.setThursdayStartDay(text(reader));
+            case "thuEndTme" -> dto.setThursdayEndDay(text(reader));
+            case "friSttTme" -> dto.setFridayStartDay(text(reader));
+            case "friEndTme" -> dto.setFridayEndDay(text(reader));
+            case "satSttTme" -> dto.setSaturdayStartDay(text(reader));
+            case "satEndTme" -> dto.setSaturdayEndDay(text(reader));
+            case "sunSttTme" -> dto.setSundayStartDay(text(reader));
+            case "sunEndTme" -> dto.setSundayEndDay(text(reader));
+            default -> {
+                // 사용하지 않는 태그는 건너뜀
+            }
         }
-        return result;
     }
 
-    private static String getTagValue(String xml, String tagName) {
-        String open = "<" + tagName + ">";
-        String close = "</" + tagName + ">";
-        int start = xml.indexOf(open);
-        int end = xml.indexOf(close, start); // start 위치 이후부터 닫는 태그 검색
-
-        if (start != -1 && end != -1) {
-            return xml.substring(start + open.length(), end).trim();
-        }
-        return "";
+    private static String text(XMLStreamReader reader) throws XMLStreamException {
+        return reader.getElementText().trim();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package emp.emp.emergency.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,10 +10,48 @@ public class EmergencyRoomDTO {
     private boolean isMriAvailable;; // MRI 가용여부
     private boolean isCtAvailable; // CT가용여부
     private int emergencyBedCount;; // 응급실 병상 수
+    private boolean angiographyAvailable; // 혈관촬영기 가용여부 (hvangioayn)
+    private boolean ventilatorAvailable; // 인공호흡기 가용여부 (hvventiayn)
+    private int operatingRoomCount; // 수술실 가용 수 (hvoc)
+    private int icuBedCount; // 일반 중환자실 가용 병상 수 (hvicc)
+    private int neonatalIcuBedCount; // 신생아 중환자실 가용 병상 수 (hvncc)
     private String hospitalTel; // 응급실 전화
     private String hospitalName; // 병원 이름
-    private String hospitalLatitude; // 병원 위도
-    private String hospitalLongitude; // 병원 경도
+    private String hpid; // 기관 ID (병원 레지스트리와 조인하는 키)
+    // 내부에서는 double 로 계산하고, JSON 은 예전처럼 문자열("37.5665", 모르면 "0.0")로 내려준다
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private double hospitalLatitude; // 병원 위도
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private double hospitalLongitude; // 병원 경도
+    private boolean locationPending; // 마감 시간 안에 좌표를 못 받아온 경우 true
+    private Double distanceKm; // 사용자 위치로부터의 거리(km), 좌표를 모르면 null
+
+
+    // 좌표를 알고 있는지 (조회 실패/마감 초과면 0.0 그대로)
+    public boolean hasLocation() {
+        return !locationPending && !(hospitalLatitude == 0.0 && hospitalLongitude == 0.0);
+    }
+
+    // 스냅샷의 DTO 는 여러 요청이 같이 쓰므로 거리는 복사본에 넣는다
+    public EmergencyRoomDTO withDistanceKm(Double distanceKm) {
+        EmergencyRoomDTO copy = new EmergencyRoomDTO();
+        copy.isMriAvailable = isMriAvailable;
+        copy.isCtAvailable = isCtAvailable;
+        copy.emergencyBedCount = emergencyBedCount;
+        copy.angiographyAvailable = angiographyAvailable;
+        copy.ventilatorAvailable = ventilatorAvailable;
+        copy.operatingRoomCount = operatingRoomCount;
+        copy.icuBedCount = icuBedCount;
+        copy.neonatalIcuBedCount = neonatalIcuBedCount;
+        copy.hospitalTel = hospitalTel;
+        copy.hospitalName = hospitalName;
+        copy.hpid = hpid;
+        copy.hospitalLatitude = hospitalLatitude;
+        copy.hospitalLongitude = hospitalLongitude;
+        copy.locationPending = locationPending;
+        copy.distanceKm = distanceKm;
+        return copy;
+    }
 
 
     @Override
@@ -21,10 +60,18 @@ public class EmergencyRoomDTO {
                 "isMriAvailable=" + isMriAvailable +
                 ", isCtAvailable=" + isCtAvailable +
                 ", emergencyBedCount=" + emergencyBedCount +
+                ", angiographyAvailable=" + angiographyAvailable +
+                ", ventilatorAvailable=" + ventilatorAvailable +
+                ", operatingRoomCount=" + operatingRoomCount +
+                ", icuBedCount=" + icuBedCount +
+                ", neonatalIcuBedCount=" + neonatalIcuBedCount +
                 ", hospitalTel='" + hospitalTel + '\'' +
                 ", hospitalName='" + hospitalName + '\'' +
-                ", hospitalLatitude='" + hospitalLatitude + '\'' +
-                ", hospitalLongitude='" + hospitalLongitude + '\'' +
+                ", hpid='" + hpid + '\'' +
+                ", hospitalLatitude=" + hospitalLatitude +
+                ", hospitalLongitude=" + hospitalLongitude +
+                ", locationPending=" + locationPending +
+                ", distanceKm=" + distanceKm +
                 '}';
     }
 }
@@ -0,0 +1,27 @@
+package emp.emp.emergency.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+// /api/emergency/room/stream 의 beds 이벤트. 병상 정보가 언제 기준인지(asOf) 같이 내려준다
+// (/api/emergency/room 은 기존처럼 배열을 내려주고 같은 정보를 헤더로 보낸다)
+@Getter
+@Builder
+public class EmergencyRoomResponseDTO {
+    private Instant asOf; // 병상 정보 기준 시각
+    private long ageSeconds; // asOf 로부터 지난 시간(초)
+    private boolean stale; // upstream 장애로 마지막으로 받아온 데이터를 내려주는 중
+    private List<EmergencyRoomDTO> rooms;
+
+    public static EmergencyRoomResponseDTO from(EmergencyRoomSnapshotDTO snapshot) {
+        return EmergencyRoomResponseDTO.builder()
+                .asOf(snapshot.getAsOf())
+                .ageSeconds(Math.max(0L, Instant.now().getEpochSecond() - snapshot.getAsOf().getEpochSecond()))
+                .stale(snapshot.isStale())
+                .rooms(snapshot.getRooms())
+                .build();
+    }
+}
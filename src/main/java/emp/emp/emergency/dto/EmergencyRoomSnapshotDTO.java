@@ -0,0 +1,51 @@
+package emp.emp.emergency.dto;
+
+import emp.emp.emergency.index.EmergencyRoomIndex;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+// 한 지역(시도 + 시군구)의 응급실 가용병상 스냅샷. 만든 뒤에는 바꾸지 않는다
+@Getter
+public class EmergencyRoomSnapshotDTO {
+    private final String sido;
+    private final String sigungu;
+    private final List<EmergencyRoomDTO> rooms;
+    private final Instant asOf; // 공공데이터 API 에서 받아온 시각
+    private final boolean stale; // 최근 갱신에 실패해서 마지막으로 받아온 데이터를 그대로 쓰는 중
+    // 역량 필터 + 거리순 조회용 인덱스. 처음 조회할 때 한 번 만들고 같은 스냅샷을 쓰는 요청이 같이 쓴다
+    private volatile EmergencyRoomIndex index;
+
+    public EmergencyRoomSnapshotDTO(String sido, String sigungu, List<EmergencyRoomDTO> rooms, Instant asOf) {
+        this(sido, sigungu, rooms, asOf, false);
+    }
+
+    public EmergencyRoomSnapshotDTO(String sido, String sigungu, List<EmergencyRoomDTO> rooms, Instant asOf,
+                                    boolean stale) {
+        this.sido = sido;
+        this.sigungu = sigungu;
+        this.rooms = List.copyOf(rooms);
+        this.asOf = asOf;
+        this.stale = stale;
+    }
+
+    public EmergencyRoomSnapshotDTO asStale() {
+        if (stale) {
+            return this;
+        }
+        EmergencyRoomSnapshotDTO copy = new EmergencyRoomSnapshotDTO(sido, sigungu, rooms, asOf, true);
+        copy.index = index;
+        return copy;
+    }
+
+    // 동시에 처음 조회하면 두 번 만들어질 수 있지만 결과는 같으므로 락을 걸지 않는다
+    public EmergencyRoomIndex index() {
+        EmergencyRoomIndex current = index;
+        if (current == null) {
+            current = EmergencyRoomIndex.build(rooms);
+            index = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,14 @@
+package emp.emp.emergency.dto;
+
+import emp.emp.emergency.enums.SectionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// /api/emergency/room/stream 의 마지막 done 이벤트
+@Getter
+@AllArgsConstructor
+public class EmergencyRoomStreamSummaryDTO {
+    private SectionStatus status; // OK: 모두 보냄, TIMEOUT: 마감 시간까지 좌표를 못 받은 병원이 있음, FAILED: 조회 실패
+    private int resolved; // 좌표까지 보낸 병원 수 (beds 에 레지스트리 좌표로 채운 병원 + hospital 이벤트)
+    private int pending; // 마감 시간까지 좌표를 못 받은 병원 수
+}
@@ -1,51 +1,89 @@
 package emp.emp.emergency.dto;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
+// 응급실 실시간 가용병상 응답(xml)을 StAX 로 한 번만 훑으면서 DTO 로 만든다
 public class EmergencyRoomXmlParser {
 
-    public static List<EmergencyRoomDTO> parse(String xml) {
+    // 커넥션의 InputStream 을 그대로 받아서 문자열로 모으지 않고 바로 파싱
+    public static List<EmergencyRoomDTO> parse(InputStream in) throws IOException {
         List<EmergencyRoomDTO> result = new ArrayList<>();
 
-        String[] items = xml.split("<item>");
-        for (int i = 1; i < items.length; i++) { // 첫 번째는 <response> 앞 부분이라 skip
-            String itemXml = items[i];
-            EmergencyRoomDTO dto = new EmergencyRoomDTO();
-
-            dto.setHospitalName(getTagValue(itemXml, "dutyName"));
-            dto.setHospitalTel(getTagValue(itemXml, "dutyTel3"));
-            dto.setMriAvailable("Y".equals(getTagValue(itemXml, "hvmriayn")));
-            dto.setCtAvailable("Y".equals(getTagValue(itemXml, "hvctayn")));
-
-            String hvecStr = getTagValue(itemXml, "hvec");
-            try {
-                dto.setEmergencyBedCount(Integer.parseInt(hvecStr));
-            } catch (NumberFormatException e) {
-                dto.setEmergencyBedCount(0); // 값이 이상할 경우 0으로 설정
-            }
+        XMLStreamReader reader = null;
+        try {
+            reader = XmlStreamSupport.createReader(in);
+            EmergencyRoomDTO dto = null;
 
-            // hospitalLatitude, hospitalLongitude는 XML에 없으니 임시로 0.0
-            dto.setHospitalLatitude("0.0");
-            dto.setHospitalLongitude("0.0");
+            while (reader.hasNext()) {
+                int event = reader.next();
 
-            result.add(dto);
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String tag = reader.getLocalName();
+                    if ("item".equals(tag)) {
+                        dto = newEmergencyRoom();
+                    } else if (dto != null) {
+                        applyTag(dto, tag, reader);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && dto != null && "item".equals(reader.getLocalName())) {
+                    result.add(dto);
+                    dto = null;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("응급실 xml 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            XmlStreamSupport.closeQuietly(reader);
         }
 
         return result;
     }
 
-    private static String getTagValue(String xml, String tagName) {
-        String openTag = "<" + tagName + ">";
-        String closeTag = "</" + tagName + ">";
-        int start = xml.indexOf(openTag);
-        int end = xml.indexOf(closeTag);
-
-        if (start != -1 && end != -1) {
-            start += openTag.length();
-            return xml.substring(start, end).trim();
-        } else {
-            return ""; // 태그가 없을 경우 빈 문자열 반환
+    public static List<EmergencyRoomDTO> parse(String xml) throws IOException {
+        return parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static EmergencyRoomDTO newEmergencyRoom() {
+        EmergencyRoomDTO dto = new EmergencyRoomDTO();
+        dto.setHospitalName("");
+        dto.setHospitalTel("");
+        // hospitalLatitude, hospitalLongitude는 XML에 없으니 임시로 0.0
+        dto.setHospitalLatitude(0.0);
+        dto.setHospitalLongitude(0.0);
+        return dto;
+    }
+
+    private static void applyTag(EmergencyRoomDTO dto, String tag, XMLStreamReader reader) throws XMLStreamException {
+        switch (tag) {
+            case "dutyName" -> dto.setHospitalName(reader.getElementText().trim());
+            case "dutyTel3" -> dto.setHospitalTel(reader.getElementText().trim());
+            case "hpid" -> dto.setHpid(reader.getElementText().trim());
+            case "hvmriayn" -> dto.setMriAvailable("Y".equals(reader.getElementText().trim()));
+            case "hvctayn" -> dto.setCtAvailable("Y".equals(reader.getElementText().trim()));
+            case "hvec" -> dto.setEmergencyBedCount(parseIntOrZero(reader.getElementText()));
+            case "hvangioayn" -> dto.setAngiographyAvailable("Y".equals(reader.getElementText().trim()));
+            case "hvventiayn" -> dto.setVentilatorAvailable("Y".equals(reader.getElementText().trim()));
+            case "hvoc" -> dto.setOperatingRoomCount(parseIntOrZero(reader.getElementText()));
+            case "hvicc" -> dto.setIcuBedCount(parseIntOrZero(reader.getElementText()));
+            case "hvncc" -> dto.setNeonatalIcuBedCount(parseIntOrZero(reader.getElementText()));
+            default -> {
+                // 사용하지 않는 태그는 건너뜀
+            }
+        }
+    }
+
+    private static int parseIntOrZero(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0; // 값이 이상할 경우 0으로 설정
         }
     }
-}
\ No newline at end of file
+}
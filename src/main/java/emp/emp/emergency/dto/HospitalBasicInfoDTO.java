@@ -0,0 +1,22 @@
+package emp.emp.emergency.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 응급의료기관 기본정보 (병원 레지스트리 적재용)
+@Getter
+@Setter
+public class HospitalBasicInfoDTO {
+    private String hpid; // 기관 ID
+    private String dutyName; // 병원 이름
+    private String dutyAddr; // 주소
+    private String dutyTel3; // 응급실 전화
+    private Double latitude; // wgs84Lat, 없거나 이상하면 null
+    private Double longitude; // wgs84Lon, 없거나 이상하면 null
+
+
+    // 레지스트리에 넣을 수 있는지 (hpid 와 좌표가 모두 있어야 함)
+    public boolean isValid() {
+        return hpid != null && !hpid.isEmpty() && latitude != null && longitude != null;
+    }
+}
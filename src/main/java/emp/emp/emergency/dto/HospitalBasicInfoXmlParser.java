@@ -0,0 +1,79 @@
+package emp.emp.emergency.dto;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// 응급의료기관 기본정보 응답(xml)을 StAX 로 한 번만 훑으면서 DTO 로 만든다
+public class HospitalBasicInfoXmlParser {
+
+    public static List<HospitalBasicInfoDTO> parse(InputStream in) throws IOException {
+        List<HospitalBasicInfoDTO> result = new ArrayList<>();
+
+        XMLStreamReader reader = null;
+        try {
+            reader = XmlStreamSupport.createReader(in);
+            HospitalBasicInfoDTO dto = null;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String tag = reader.getLocalName();
+                    if ("item".equals(tag)) {
+                        dto = new HospitalBasicInfoDTO();
+                    } else if (dto != null) {
+                        applyTag(dto, tag, reader);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && dto != null && "item".equals(reader.getLocalName())) {
+                    result.add(dto);
+                    dto = null;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("병원 기본정보 xml 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            XmlStreamSupport.closeQuietly(reader);
+        }
+
+        return result;
+    }
+
+    public static List<HospitalBasicInfoDTO> parse(String xml) throws IOException {
+        return parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void applyTag(HospitalBasicInfoDTO dto, String tag, XMLStreamReader reader) throws XMLStreamException {
+        switch (tag) {
+            case "hpid" -> dto.setHpid(text(reader));
+            case "dutyName" -> dto.setDutyName(text(reader));
+            case "dutyAddr" -> dto.setDutyAddr(text(reader));
+            case "dutyTel3" -> dto.setDutyTel3(text(reader));
+            case "wgs84Lat" -> dto.setLatitude(parseDoubleOrNull(text(reader)));
+            case "wgs84Lon" -> dto.setLongitude(parseDoubleOrNull(text(reader)));
+            default -> {
+                // 사용하지 않는 태그는 건너뜀
+            }
+        }
+    }
+
+    private static String text(XMLStreamReader reader) throws XMLStreamException {
+        return reader.getElementText().trim();
+    }
+
+    private static Double parseDoubleOrNull(String value) {
+        try {
+            double parsed = Double.parseDouble(value);
+            // 좌표가 비어 있는 기관은 0 으로 오는 경우가 있다
+            return parsed == 0.0 || Double.isNaN(parsed) ? null : parsed;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package emp.emp.emergency.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 병원 좌표 (병원 레지스트리 또는 카카오 키워드 검색 결과)
+@Getter
+@AllArgsConstructor
+public class HospitalCoordinateDTO {
+    private final double latitude; // 위도
+    private final double longitude; // 경도
+}
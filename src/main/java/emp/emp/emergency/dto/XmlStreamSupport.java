@@ -0,0 +1,38 @@
+package emp.emp.emergency.dto;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+
+// 공공데이터 xml 파서들이 같이 쓰는 StAX 설정
+final class XmlStreamSupport {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private XmlStreamSupport() {
+    }
+
+    static XMLStreamReader createReader(InputStream in) throws XMLStreamException {
+        return FACTORY.createXMLStreamReader(in);
+    }
+
+    static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+            // 이미 다 읽은 뒤라 무시
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티/DTD 는 읽지 않는다 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,49 @@
+package emp.emp.emergency.entity;
+
+import emp.emp.emergency.dto.HospitalBasicInfoDTO;
+import emp.emp.util.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 전국 응급의료기관 기본정보. 실시간 병상 데이터의 hpid 로 조인해서 좌표를 채운다
+@Entity
+@Table(name = "hospital_registry")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HospitalRegistry extends BaseEntity {
+
+    @Id
+    @Column(name = "hpid", length = 20)
+    private String hpid;
+
+    private String dutyName;
+
+    private String dutyAddr;
+
+    private String dutyTel3;
+
+    private double latitude;
+
+    private double longitude;
+
+    public static HospitalRegistry from(HospitalBasicInfoDTO info) {
+        return HospitalRegistry.builder()
+                .hpid(info.getHpid())
+                .dutyName(info.getDutyName())
+                .dutyAddr(info.getDutyAddr())
+                .dutyTel3(info.getDutyTel3())
+                .latitude(info.getLatitude())
+                .longitude(info.getLongitude())
+                .build();
+    }
+
+    public void update(HospitalBasicInfoDTO info) {
+        this.dutyName = info.getDutyName();
+        this.dutyAddr = info.getDutyAddr();
+        this.dutyTel3 = info.getDutyTel3();
+        this.latitude = info.getLatitude();
+        this.longitude = info.getLongitude();
+    }
+}
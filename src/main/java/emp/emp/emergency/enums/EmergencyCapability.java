@@ -0,0 +1,55 @@
+package emp.emp.emergency.enums;
+
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+
+// 응급실 조회 필터로 쓰는 병원 역량. 병원마다 가진 역량을 long 비트셋 하나로 들고 있다가 AND 로 거른다
+public enum EmergencyCapability {
+    EMERGENCY_BED(room -> room.getEmergencyBedCount() > 0),   // 응급실 가용 병상 있음 (hvec)
+    CT(EmergencyRoomDTO::isCtAvailable),                       // hvctayn
+    MRI(EmergencyRoomDTO::isMriAvailable),                     // hvmriayn
+    ANGIOGRAPHY(EmergencyRoomDTO::isAngiographyAvailable),     // hvangioayn
+    VENTILATOR(EmergencyRoomDTO::isVentilatorAvailable),       // hvventiayn
+    OPERATING_ROOM(room -> room.getOperatingRoomCount() > 0),  // hvoc
+    ICU(room -> room.getIcuBedCount() > 0),                    // hvicc
+    NEONATAL_ICU(room -> room.getNeonatalIcuBedCount() > 0);   // hvncc
+
+    private final Predicate<EmergencyRoomDTO> available;
+
+    EmergencyCapability(Predicate<EmergencyRoomDTO> available) {
+        this.available = available;
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    // 병원 하나가 가진 역량 비트셋
+    public static long of(EmergencyRoomDTO room) {
+        long bits = 0L;
+        for (EmergencyCapability capability : values()) {
+            if (capability.available.test(room)) {
+                bits |= capability.bit();
+            }
+        }
+        return bits;
+    }
+
+    // "ct,mri,emergency_bed" 처럼 쉼표로 구분한 이름을 비트셋으로 (null/빈 문자열이면 0 = 조건 없음)
+    // 모르는 이름이 있으면 IllegalArgumentException
+    public static long parseMask(String names) {
+        if (names == null || names.isBlank()) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (String name : names.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                mask |= valueOf(trimmed.toUpperCase(Locale.ROOT)).bit();
+            }
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,8 @@
+package emp.emp.emergency.enums;
+
+// 통합 조회(/api/emergency/both) 응답에서 응급실/AED 각 항목의 조회 결과
+public enum SectionStatus {
+    OK,
+    FAILED,   // upstream 호출 실패
+    TIMEOUT,  // 전체 제한 시간 안에 끝나지 않음
+}
@@ -0,0 +1,232 @@
+package emp.emp.emergency.index;
+
+import emp.emp.emergency.dto.EmergencyAedDTO;
+import emp.emp.emergency.util.AedOpeningHours;
+import emp.emp.emergency.util.GeoDistance;
+import emp.emp.emergency.util.TopKHeap;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 전국 AED 스냅샷으로 만든 읽기 전용 KD-tree
+// 위경도를 단위 구 위의 (x, y, z) 로 바꿔서 저장한다. 직선(현) 거리는 대권 거리와 순서가 같아서
+// 가지치기를 정확하게 할 수 있다. 만든 뒤에는 바뀌지 않으니 여러 스레드가 락 없이 같이 읽는다.
+// 요일별 운영 시간은 적재할 때 한 번만 해석해서 AED 마다 int 7개(AedOpeningHours)로 같이 들고 있다.
+public final class AedSpatialIndex {
+
+    // 운영 시간 조건 없음
+    public static final int ANY_TIME = -1;
+
+    private final EmergencyAedDTO[] items;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] zs;
+    private final int[] openingHours; // AED i 의 요일별 운영 시간은 [i * 7, i * 7 + 7)
+    private final Instant loadedAt;
+
+    private AedSpatialIndex(EmergencyAedDTO[] items, double[] xs, double[] ys, double[] zs, int[] openingHours,
+                            Instant loadedAt) {
+        this.items = items;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.openingHours = openingHours;
+        this.loadedAt = loadedAt;
+    }
+
+    // 좌표가 없거나 이상한 AED 는 빼고 만든다
+    public static AedSpatialIndex build(List<EmergencyAedDTO> aeds, Instant loadedAt) {
+        EmergencyAedDTO[] items = new EmergencyAedDTO[aeds.size()];
+        double[] xs = new double[aeds.size()];
+        double[] ys = new double[aeds.size()];
+        double[] zs = new double[aeds.size()];
+        int[] openingHours = new int[aeds.size() * AedOpeningHours.DAYS];
+
+        int count = 0;
+        for (EmergencyAedDTO aed : aeds) {
+            double latitude = parseOrNaN(aed.getAedLatitude());
+            double longitude = parseOrNaN(aed.getAedLongitude());
+            if (Double.isNaN(latitude) || Double.isNaN(longitude) || (latitude == 0.0 && longitude == 0.0)) {
+                continue;
+            }
+            double latRad = Math.toRadians(latitude);
+            double lngRad = Math.toRadians(longitude);
+            items[count] = aed;
+            xs[count] = Math.cos(latRad) * Math.cos(lngRad);
+            ys[count] = Math.cos(latRad) * Math.sin(lngRad);
+            zs[count] = Math.sin(latRad);
+            AedOpeningHours.encode(aed, openingHours, count * AedOpeningHours.DAYS);
+            count++;
+        }
+
+        AedSpatialIndex index = new AedSpatialIndex(
+                Arrays.copyOf(items, count),
+                Arrays.copyOf(xs, count),
+                Arrays.copyOf(ys, count),
+                Arrays.copyOf(zs, count),
+                Arrays.copyOf(openingHours, count * AedOpeningHours.DAYS),
+                loadedAt);
+        index.buildTree(0, count, 0);
+        return index;
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    // (latitude, longitude) 에서 radiusKm 안에 있는 AED 중 가까운 순서로 최대 k 개
+    public List<EmergencyAedDTO> nearest(double latitude, double longitude, int k, double radiusKm) {
+        return nearest(latitude, longitude, k, radiusKm, ANY_TIME);
+    }
+
+    // minuteOfWeek(AedOpeningHours.minuteOfWeek) 에 운영 중인 AED 만. ANY_TIME 이면 운영 시간을 보지 않는다
+    public List<EmergencyAedDTO> nearest(double latitude, double longitude, int k, double radiusKm, int minuteOfWeek) {
+        if (k < 1 || items.length == 0) {
+            return List.of();
+        }
+
+        double latRad = Math.toRadians(latitude);
+        double lngRad = Math.toRadians(longitude);
+        double[] query = {
+                Math.cos(latRad) * Math.cos(lngRad),
+                Math.cos(latRad) * Math.sin(lngRad),
+                Math.sin(latRad)
+        };
+        double maxChord = chordLength(radiusKm);
+
+        TopKHeap heap = new TopKHeap(Math.min(k, items.length));
+        search(0, items.length, 0, query, maxChord * maxChord, minuteOfWeek, heap);
+
+        int[] found = new int[heap.size()];
+        int count = heap.drainAscending(found, null);
+        List<EmergencyAedDTO> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(items[found[i]]);
+        }
+        return result;
+    }
+
+    private void search(int lo, int hi, int depth, double[] query, double maxDistance2, int minuteOfWeek, TopKHeap heap) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+
+        double dx = query[0] - xs[mid];
+        double dy = query[1] - ys[mid];
+        double dz = query[2] - zs[mid];
+        double distance2 = dx * dx + dy * dy + dz * dz;
+        if (distance2 <= maxDistance2 && isOpen(mid, minuteOfWeek)) {
+            heap.offer(distance2, mid);
+        }
+
+        double diff = query[depth % 3] - coordinate(mid, depth % 3);
+        int nearLo = diff < 0 ? lo : mid + 1;
+        int nearHi = diff < 0 ? mid : hi;
+        int farLo = diff < 0 ? mid + 1 : lo;
+        int farHi = diff < 0 ? hi : mid;
+
+        search(nearLo, nearHi, depth + 1, query, maxDistance2, minuteOfWeek, heap);
+
+        double limit = heap.isFull() ? Math.min(heap.maxKey(), maxDistance2) : maxDistance2;
+        if (diff * diff <= limit) {
+            search(farLo, farHi, depth + 1, query, maxDistance2, minuteOfWeek, heap);
+        }
+    }
+
+    private boolean isOpen(int index, int minuteOfWeek) {
+        return minuteOfWeek == ANY_TIME
+                || AedOpeningHours.isOpen(openingHours, index * AedOpeningHours.DAYS, minuteOfWeek);
+    }
+
+    // [lo, hi) 구간의 중앙값을 mid 에 두고 양쪽을 재귀로 나눈다 (배열 자체가 균형 트리가 됨)
+    private void buildTree(int lo, int hi, int depth) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        select(lo, hi - 1, mid, depth % 3);
+        buildTree(lo, mid, depth + 1);
+        buildTree(mid + 1, hi, depth + 1);
+    }
+
+    // quickselect: target 위치에 axis 기준 target 번째로 작은 점이 오도록 정렬
+    private void select(int left, int right, int target, int axis) {
+        while (left < right) {
+            double pivot = coordinate((left + right) >>> 1, axis);
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinate(i, axis) < pivot) {
+                    i++;
+                }
+                while (coordinate(j, axis) > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private double coordinate(int index, int axis) {
+        return switch (axis) {
+            case 0 -> xs[index];
+            case 1 -> ys[index];
+            default -> zs[index];
+        };
+    }
+
+    private void swap(int a, int b) {
+        EmergencyAedDTO item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+        double x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        double y = ys[a];
+        ys[a] = ys[b];
+        ys[b] = y;
+        double z = zs[a];
+        zs[a] = zs[b];
+        zs[b] = z;
+        int offsetA = a * AedOpeningHours.DAYS;
+        int offsetB = b * AedOpeningHours.DAYS;
+        for (int day = 0; day < AedOpeningHours.DAYS; day++) {
+            int hours = openingHours[offsetA + day];
+            openingHours[offsetA + day] = openingHours[offsetB + day];
+            openingHours[offsetB + day] = hours;
+        }
+    }
+
+    // 지표면 거리 radiusKm 에 해당하는 단위 구 위의 직선 거리
+    private static double chordLength(double radiusKm) {
+        double angle = Math.min(Math.PI, radiusKm / GeoDistance.EARTH_RADIUS_KM);
+        return 2 * Math.sin(angle / 2);
+    }
+
+    private static double parseOrNaN(String value) {
+        if (value == null || value.isBlank()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package emp.emp.emergency.index;
+
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.enums.EmergencyCapability;
+import emp.emp.emergency.util.GeoDistance;
+import emp.emp.emergency.util.TopKHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 한 지역 스냅샷의 응급실을 좌표 배열 + 역량 비트셋 배열로 들고 있는 읽기 전용 인덱스
+// 조회는 (capabilities[i] & required) == required 로 거른 뒤 크기 limit 의 힙으로 거리순 상위만 남긴다.
+// 조회 중에는 결과 DTO 복사본 말고는 객체를 만들지 않는다. 만든 뒤에는 바뀌지 않으니 여러 스레드가 락 없이 같이 읽는다.
+public final class EmergencyRoomIndex {
+
+    private final EmergencyRoomDTO[] rooms;
+    private final double[] latitudes; // 좌표를 모르면 NaN
+    private final double[] longitudes;
+    private final long[] capabilities;
+
+    private EmergencyRoomIndex(EmergencyRoomDTO[] rooms, double[] latitudes, double[] longitudes, long[] capabilities) {
+        this.rooms = rooms;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.capabilities = capabilities;
+    }
+
+    public static EmergencyRoomIndex build(List<EmergencyRoomDTO> rooms) {
+        int size = rooms.size();
+        EmergencyRoomDTO[] items = new EmergencyRoomDTO[size];
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        long[] capabilities = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            EmergencyRoomDTO room = rooms.get(i);
+            items[i] = room;
+            latitudes[i] = room.hasLocation() ? room.getHospitalLatitude() : Double.NaN;
+            longitudes[i] = room.getHospitalLongitude();
+            capabilities[i] = EmergencyCapability.of(room);
+        }
+        return new EmergencyRoomIndex(items, latitudes, longitudes, capabilities);
+    }
+
+    // required 역량을 모두 가진 응급실을 가까운 순서로 최대 limit 개 (distanceKm 를 채운 복사본)
+    // maxDistanceKm 가 null 이면 거리 제한 없이, 좌표를 모르는 병원도 거리순 결과 뒤에 붙인다
+    public List<EmergencyRoomDTO> nearest(double latitude, double longitude, int limit, long required,
+                                          Double maxDistanceKm) {
+        if (limit < 1 || rooms.length == 0) {
+            return List.of();
+        }
+        double maxDistance = maxDistanceKm == null ? Double.POSITIVE_INFINITY : maxDistanceKm;
+
+        TopKHeap heap = new TopKHeap(Math.min(limit, rooms.length));
+        int unlocated = 0;
+        for (int i = 0; i < rooms.length; i++) {
+            if ((capabilities[i] & required) != required) {
+                continue;
+            }
+            if (Double.isNaN(latitudes[i])) {
+                unlocated++;
+                continue;
+            }
+            double distance = GeoDistance.haversineKm(latitude, longitude, latitudes[i], longitudes[i]);
+            if (distance <= maxDistance) {
+                heap.offer(distance, i);
+            }
+        }
+
+        int[] indexes = new int[heap.size()];
+        double[] distances = new double[heap.size()];
+        int count = heap.drainAscending(indexes, distances);
+
+        int appended = maxDistanceKm == null ? Math.min(unlocated, limit - count) : 0;
+        List<EmergencyRoomDTO> result = new ArrayList<>(count + appended);
+        for (int i = 0; i < count; i++) {
+            result.add(rooms[indexes[i]].withDistanceKm(distances[i]));
+        }
+        for (int i = 0; i < rooms.length && appended > 0; i++) {
+            if (Double.isNaN(latitudes[i]) && (capabilities[i] & required) == required) {
+                result.add(rooms[i].withDistanceKm(null));
+                appended--;
+            }
+        }
+        return result;
+    }
+
+    // 사용자 좌표를 모를 때: required 역량을 모두 가진 응급실을 받아온 순서대로 최대 limit 개
+    public List<EmergencyRoomDTO> matching(int limit, long required) {
+        List<EmergencyRoomDTO> result = new ArrayList<>(Math.max(0, Math.min(limit, rooms.length)));
+        for (int i = 0; i < rooms.length && result.size() < limit; i++) {
+            if ((capabilities[i] & required) == required) {
+                result.add(rooms[i]);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return rooms.length;
+    }
+}
@@ -0,0 +1,10 @@
+package emp.emp.emergency.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import emp.emp.emergency.entity.HospitalRegistry;
+
+@Repository
+public interface HospitalRegistryRepository extends JpaRepository<HospitalRegistry, String> {
+}
@@ -0,0 +1,110 @@
+package emp.emp.emergency.service;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.EmergencyAedDTO;
+import emp.emp.emergency.index.AedSpatialIndex;
+import emp.emp.emergency.support.QuotaPriority;
+import emp.emp.emergency.util.AedOpeningHours;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+// 전국 AED 목록을 주기적으로 통째로 받아와서 메모리 KD-tree 로 들고 있는다.
+// 새 스냅샷은 다 만든 뒤에 참조만 바꿔 끼우므로 조회하는 쪽은 기다리지 않는다.
+@Slf4j
+@Service
+public class AedSnapshotService {
+    private final EmergencyClient emergencyClient;
+    private final AtomicReference<AedSpatialIndex> index = new AtomicReference<>();
+
+    @Value("${emergency.aed.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${emergency.aed.snapshot.page-size:1000}")
+    private int pageSize;
+
+    // 페이지 수 상한 (응답이 이상할 때 무한히 돌지 않도록)
+    @Value("${emergency.aed.snapshot.max-pages:200}")
+    private int maxPages;
+
+
+    public AedSnapshotService(EmergencyClient emergencyClient) {
+        this.emergencyClient = emergencyClient;
+    }
+
+
+    @Scheduled(initialDelayString = "${emergency.aed.snapshot.initial-delay-ms:10000}",
+            fixedDelayString = "${emergency.aed.snapshot.refresh-ms:21600000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            List<EmergencyAedDTO> aeds = new ArrayList<>();
+            for (int pageNo = 1; pageNo <= maxPages; pageNo++) {
+                // 전국 스냅샷은 미리 받아두는 작업이라 호출 한도가 부족하면 가장 먼저 멈춘다
+                int requestedPage = pageNo;
+                List<EmergencyAedDTO> page = QuotaPriority.callAs(QuotaPriority.PREFETCH,
+                        () -> emergencyClient.GetEmergencyAedPage(requestedPage, pageSize));
+                aeds.addAll(page);
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+
+            if (aeds.isEmpty()) {
+                // 빈 응답으로 기존 스냅샷을 덮어쓰지 않는다
+                log.warn("AED 스냅샷 갱신 실패: 받아온 데이터가 없습니다");
+                return;
+            }
+
+            AedSpatialIndex loaded = AedSpatialIndex.build(aeds, Instant.now());
+            index.set(loaded);
+            log.info("AED 스냅샷 갱신: {}건 ({}ms)", loaded.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 실패하면 이전 스냅샷을 계속 쓴다
+            log.warn("AED 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+
+    public boolean isReady() {
+        return index.get() != null;
+    }
+
+
+    // 현재 스냅샷의 적재 시각 (아직 없으면 null). 응답 ETag 의 버전으로 쓴다
+    public Instant getLoadedAt() {
+        AedSpatialIndex current = index.get();
+        return current == null ? null : current.getLoadedAt();
+    }
+
+
+    // 스냅샷이 아직 없으면 Optional.empty()
+    public Optional<List<EmergencyAedDTO>> findNearest(double latitude, double longitude, int limit, double radiusKm) {
+        return findNearest(latitude, longitude, limit, radiusKm, null);
+    }
+
+
+    // availableAt 이 있으면 그 시각에 운영 중인 AED 만 (운영 시간은 적재할 때 해석해 둔 값으로 확인)
+    public Optional<List<EmergencyAedDTO>> findNearest(double latitude, double longitude, int limit, double radiusKm,
+                                                       LocalDateTime availableAt) {
+        AedSpatialIndex current = index.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+        int minuteOfWeek = availableAt == null ? AedSpatialIndex.ANY_TIME : AedOpeningHours.minuteOfWeek(availableAt);
+        return Optional.of(current.nearest(latitude, longitude, limit, radiusKm, minuteOfWeek));
+    }
+}
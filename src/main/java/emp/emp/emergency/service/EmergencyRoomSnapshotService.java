@@ -0,0 +1,181 @@
+package emp.emp.emergency.service;
+
+import emp.emp.emergency.cache.BoundedLruCache;
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.dto.UserLocationDTO;
+import emp.emp.emergency.support.QuotaPriority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+
+// 지역별 응급실 가용병상 스냅샷을 들고 있다가 요청에는 스냅샷으로 응답한다.
+// 최근에 요청이 있었던 지역만 주기적으로 다시 받아오고, 한동안 요청이 없던 지역은 폴링 대상에서 뺀다.
+// 지역 하나에 사용자가 몰려도 공공데이터 API 호출은 폴링 주기당 한 번이다.
+// 공공데이터 API 가 실패하거나 서킷이 열려 있으면 그 지역의 마지막 정상 데이터를 stale 표시와 함께 내려준다.
+// 마지막 정상 데이터가 last-good-ttl 보다 오래됐으면 내려주지 않고 다시 받아오며, 그것도 실패하면 오류로 응답한다.
+@Slf4j
+@Service
+public class EmergencyRoomSnapshotService {
+    private final EmergencyClient emergencyClient;
+    private final HospitalRegistryService hospitalRegistryService;
+    private final LongSupplier clock;
+    private final Map<String, RegionState> regions = new ConcurrentHashMap<>();
+    // 폴링 대상에서 빠진 지역도 장애 시 내려줄 수 있도록 마지막 정상 스냅샷을 따로 보관
+    private final BoundedLruCache<String, EmergencyRoomSnapshotDTO> lastGood;
+
+    // 이 시간 동안 요청이 없으면 폴링 대상에서 제외
+    @Value("${emergency.room.region-idle-ms:600000}")
+    private long regionIdleMillis;
+
+    // 이보다 오래된 데이터는 장애 시에도 내려주지 않는다
+    @Value("${emergency.room.last-good-ttl-ms:21600000}")
+    private long lastGoodTtlMillis;
+
+
+    @Autowired
+    public EmergencyRoomSnapshotService(EmergencyClient emergencyClient,
+                                        HospitalRegistryService hospitalRegistryService,
+                                        @Value("${emergency.room.last-good-max-size:1000}") int lastGoodMaxSize) {
+        this(emergencyClient, hospitalRegistryService, lastGoodMaxSize, System::currentTimeMillis);
+    }
+
+    EmergencyRoomSnapshotService(EmergencyClient emergencyClient, HospitalRegistryService hospitalRegistryService,
+                                 int lastGoodMaxSize, LongSupplier clock) {
+        this.emergencyClient = emergencyClient;
+        this.hospitalRegistryService = hospitalRegistryService;
+        this.lastGood = new BoundedLruCache<>(lastGoodMaxSize);
+        this.clock = clock;
+    }
+
+
+    // 지역 스냅샷을 돌려준다. 처음 요청된 지역이거나 스냅샷이 너무 오래됐으면 바로 받아와서 폴링 대상에 추가
+    public EmergencyRoomSnapshotDTO getSnapshot(UserLocationDTO userLocationDTO) throws IOException {
+        RegionState state = regions.computeIfAbsent(regionKey(userLocationDTO), key -> new RegionState(userLocationDTO));
+        state.lastRequestedAt = clock.getAsLong();
+
+        EmergencyRoomSnapshotDTO snapshot = usable(state.snapshot);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        try {
+            return load(state);
+        } catch (IOException e) {
+            EmergencyRoomSnapshotDTO fallback = usable(lastGood.get(regionKey(userLocationDTO)));
+            if (fallback == null) {
+                state.snapshot = null;
+                throw e;
+            }
+            log.warn("응급실 병상 조회 실패, 마지막 정상 데이터로 응답 [{} {}]: {}",
+                    userLocationDTO.getSido(), userLocationDTO.getSigungu(), e.getMessage());
+            state.snapshot = fallback.asStale();
+            return state.snapshot;
+        }
+    }
+
+
+    // 이미 받아둔 스냅샷이 있으면 돌려준다. 없어도 upstream 은 부르지 않는다 (요청 시각은 갱신해서 폴링 대상에 넣어둠)
+    public Optional<EmergencyRoomSnapshotDTO> findSnapshot(UserLocationDTO userLocationDTO) {
+        RegionState state = regions.computeIfAbsent(regionKey(userLocationDTO), key -> new RegionState(userLocationDTO));
+        state.lastRequestedAt = clock.getAsLong();
+        return Optional.ofNullable(usable(state.snapshot));
+    }
+
+
+    // 다른 경로(SSE 스트리밍)로 받아온 결과를 지역 스냅샷으로 저장한다
+    // 그사이 폴링으로 더 최근의 정상 스냅샷이 들어왔으면 그대로 둔다
+    public void offer(UserLocationDTO userLocationDTO, List<EmergencyRoomDTO> rooms, Instant asOf) {
+        RegionState state = regions.computeIfAbsent(regionKey(userLocationDTO), key -> new RegionState(userLocationDTO));
+        EmergencyRoomSnapshotDTO current = state.snapshot;
+        if (current != null && !current.isStale() && !current.getAsOf().isBefore(asOf)) {
+            return;
+        }
+        EmergencyRoomSnapshotDTO snapshot = new EmergencyRoomSnapshotDTO(
+                userLocationDTO.getSido(), userLocationDTO.getSigungu(), List.copyOf(rooms), asOf);
+        state.snapshot = snapshot;
+        lastGood.put(regionKey(userLocationDTO), snapshot, lastGoodTtlMillis);
+    }
+
+
+    @Scheduled(initialDelayString = "${emergency.room.poll-interval-ms:30000}",
+            fixedDelayString = "${emergency.room.poll-interval-ms:30000}")
+    public void pollActiveRegions() {
+        long idleBefore = clock.getAsLong() - regionIdleMillis;
+
+        Iterator<RegionState> iterator = regions.values().iterator();
+        while (iterator.hasNext()) {
+            RegionState state = iterator.next();
+            if (state.lastRequestedAt < idleBefore) {
+                iterator.remove();
+                continue;
+            }
+            try {
+                // 폴링은 사용자 요청보다 뒤라서 호출 한도가 부족하면 이전 스냅샷을 stale 로 내려준다
+                QuotaPriority.callAs(QuotaPriority.REFRESH, () -> load(state));
+            } catch (Exception e) {
+                // 실패하면 이전 스냅샷을 stale 로 표시해서 계속 내려준다. 너무 오래됐으면 버려서 다음 요청이 다시 받아오게 한다
+                EmergencyRoomSnapshotDTO previous = usable(state.snapshot);
+                state.snapshot = previous == null ? null : previous.asStale();
+                log.warn("응급실 병상 폴링 실패 [{} {}]: {}", state.location.getSido(), state.location.getSigungu(), e.getMessage());
+            }
+        }
+    }
+
+
+    public int activeRegionCount() {
+        return regions.size();
+    }
+
+
+    private EmergencyRoomSnapshotDTO load(RegionState state) throws IOException {
+        List<EmergencyRoomDTO> rooms = emergencyClient.GetEmergencyRoomBedsApi(state.location);
+        // 좌표는 병원 레지스트리(hpid)에서 채우고, 레지스트리에 없는 병원만 키워드 검색으로 찾는다
+        List<EmergencyRoomDTO> missing = hospitalRegistryService.attachCoordinates(rooms);
+        if (!missing.isEmpty()) {
+            emergencyClient.GetEmergencyRoomLocations(missing);
+        }
+        EmergencyRoomSnapshotDTO snapshot = new EmergencyRoomSnapshotDTO(
+                state.location.getSido(), state.location.getSigungu(), rooms, Instant.ofEpochMilli(clock.getAsLong()));
+        state.snapshot = snapshot;
+        lastGood.put(regionKey(state.location), snapshot, lastGoodTtlMillis);
+        return snapshot;
+    }
+
+
+    // last-good-ttl 안의 스냅샷만 돌려준다
+    private EmergencyRoomSnapshotDTO usable(EmergencyRoomSnapshotDTO snapshot) {
+        if (snapshot == null || snapshot.getAsOf().toEpochMilli() + lastGoodTtlMillis <= clock.getAsLong()) {
+            return null;
+        }
+        return snapshot;
+    }
+
+
+    private static String regionKey(UserLocationDTO userLocationDTO) {
+        return userLocationDTO.getSido() + "|" + userLocationDTO.getSigungu();
+    }
+
+
+    private static class RegionState {
+        private final UserLocationDTO location;
+        private volatile EmergencyRoomSnapshotDTO snapshot;
+        private volatile long lastRequestedAt;
+
+        private RegionState(UserLocationDTO location) {
+            this.location = location;
+        }
+    }
+}
@@ -1,61 +1,484 @@
 package emp.emp.emergency.service;
 
 import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.CombinedEmergencyResponseDTO;
 import emp.emp.emergency.dto.EmergencyAedDTO;
 import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomResponseDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.dto.EmergencyRoomStreamSummaryDTO;
 import emp.emp.emergency.dto.UserLocationDTO;
-import org.springframework.beans.factory.annotation.Autowired;
+import emp.emp.emergency.enums.SectionStatus;
+import emp.emp.emergency.index.EmergencyRoomIndex;
+import emp.emp.emergency.support.SingleFlight;
+import emp.emp.emergency.util.AedOpeningHours;
+import emp.emp.emergency.util.GeoDistance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 // 사용자의 위도 경도를 받아 도 이름과 시 이름을 추출하고 받아온 데이터를 자바 객체(DTO)로 변환해서 컨트롤러에 넘긴다.
+@Slf4j
 @Service
 public class EmergencyService {
+    // AED 기본 조회 개수 / 반경
+    public static final int DEFAULT_AED_LIMIT = 10;
+    public static final double DEFAULT_AED_RADIUS_KM = 3.0;
+    // 응급실 기본 조회 개수 (가까운 순)
+    public static final int DEFAULT_ROOM_LIMIT = 20;
+    // SseEmitter 제한 시간은 작업 마감 시간보다 이만큼 길게
+    private static final long STREAM_TIMEOUT_MARGIN_MILLIS = 1000L;
+
     private final EmergencyClient emergencyClient;
+    private final AedSnapshotService aedSnapshotService;
+    private final EmergencyRoomSnapshotService emergencyRoomSnapshotService;
+    private final HospitalRegistryService hospitalRegistryService;
+    private final ExecutorService emergencyExecutor;
+    // SSE 스트림 전용 (스트림마다 마감 시간 동안 스레드를 잡고 있으므로 통합 조회 풀과 나눈다)
+    private final ExecutorService streamExecutor;
+
+    // 통합 조회 전체 제한 시간. 이 시간 안에 끝나지 않은 항목은 TIMEOUT 으로 비워서 응답한다
+    @Value("${emergency.combined.deadline-ms:3000}")
+    private long combinedDeadlineMillis;
+
+    // SSE 스트리밍 제한 시간. 이 시간까지 좌표를 못 받은 병원은 남겨두고 done 을 보낸 뒤 연결을 닫는다
+    @Value("${emergency.room.stream-deadline-ms:5000}")
+    private long streamDeadlineMillis;
 
+    // 같은 (endpoint, 시도, 시군구) 로 동시에 들어온 upstream 호출은 하나만 보내고 결과를 나눠 쓴다
+    private final SingleFlight<UpstreamKey, Object> upstreamFlights = new SingleFlight<>();
 
-    public EmergencyService(EmergencyClient emergencyClient) {
+
+    public EmergencyService(EmergencyClient emergencyClient, AedSnapshotService aedSnapshotService,
+                            EmergencyRoomSnapshotService emergencyRoomSnapshotService,
+                            HospitalRegistryService hospitalRegistryService,
+                            @Qualifier("emergencyExecutor") ExecutorService emergencyExecutor,
+                            @Qualifier("emergencyStreamExecutor") ExecutorService streamExecutor) {
         this.emergencyClient = emergencyClient;
+        this.aedSnapshotService = aedSnapshotService;
+        this.emergencyRoomSnapshotService = emergencyRoomSnapshotService;
+        this.hospitalRegistryService = hospitalRegistryService;
+        this.emergencyExecutor = emergencyExecutor;
+        this.streamExecutor = streamExecutor;
     }
 
 
     // 응급실 위치 및 병상정보를 받아오기
     public List<EmergencyRoomDTO> getEmergencyRoomInformation(String userLatitude, String userLongitude) throws IOException {
+        return getEmergencyRoomSnapshot(userLatitude, userLongitude).getRooms();
+    }
+
+
+    // 응급실 병상정보 스냅샷 (asOf 기준 시각 포함)
+    public EmergencyRoomSnapshotDTO getEmergencyRoomSnapshot(String userLatitude, String userLongitude) throws IOException {
          // 시군구 받기
         UserLocationDTO userLocationDTO = emergencyClient.GetUserLocation(userLatitude, userLongitude);
-        return emergencyClient.GetEmergencyRoomInformationApi(userLocationDTO);
+        return fetchRoomSnapshot(userLocationDTO);
+    }
+
+
+    // 사용자 위치에서 가까운 순서로 최대 limit 개. maxDistanceKm 가 있으면 그 거리 안의 응급실만
+    public EmergencyRoomSnapshotDTO getNearestEmergencyRooms(String userLatitude, String userLongitude,
+                                                             int limit, Double maxDistanceKm) throws IOException {
+        return getNearestEmergencyRooms(userLatitude, userLongitude, limit, maxDistanceKm, 0L);
+    }
+
+
+    // requiredCapabilities(EmergencyCapability 비트셋)를 모두 가진 응급실만 가까운 순서로
+    public EmergencyRoomSnapshotDTO getNearestEmergencyRooms(String userLatitude, String userLongitude, int limit,
+                                                             Double maxDistanceKm, long requiredCapabilities) throws IOException {
+        EmergencyRoomSnapshotDTO snapshot = getEmergencyRoomSnapshot(userLatitude, userLongitude);
+        return rankRooms(snapshot, userLatitude, userLongitude, limit, maxDistanceKm, requiredCapabilities);
+    }
+
+
+    // AED 스냅샷 적재 시각 (스냅샷이 없으면 null, 이때 AED 응답은 시군구 단위 API 결과)
+    public Instant getAedSnapshotLoadedAt() {
+        return aedSnapshotService.getLoadedAt();
     }
 
 
     public List<EmergencyAedDTO> getEmergencyAedInformation(String userLatitude, String userLongitude) throws IOException {
-        UserLocationDTO userLocationDTO = emergencyClient.GetUserLocation(userLatitude, userLongitude);
-        return emergencyClient.GetEmergencyAedInformationApi(userLocationDTO);
+        return getEmergencyAedInformation(userLatitude, userLongitude, DEFAULT_AED_LIMIT, DEFAULT_AED_RADIUS_KM);
     }
 
 
+    // 사용자 좌표에서 radiusKm 안의 가까운 AED 를 limit 개까지 (메모리 스냅샷에서 바로 조회)
+    // 스냅샷이 아직 준비되지 않았으면 기존처럼 시군구 단위로 공공데이터 API 를 호출한다
+    public List<EmergencyAedDTO> getEmergencyAedInformation(String userLatitude, String userLongitude,
+                                                            int limit, double radiusKm) throws IOException {
+        return getEmergencyAedInformation(userLatitude, userLongitude, limit, radiusKm, null);
+    }
+
 
+    // availableAt 이 있으면 그 시각에 운영 중인 AED 만 돌려준다 (운영 시간 정보가 없는 AED 는 제외)
+    public List<EmergencyAedDTO> getEmergencyAedInformation(String userLatitude, String userLongitude,
+                                                            int limit, double radiusKm,
+                                                            LocalDateTime availableAt) throws IOException {
+        Optional<List<EmergencyAedDTO>> nearest = findNearestAeds(userLatitude, userLongitude, limit, radiusKm, availableAt);
+        if (nearest.isPresent()) {
+            return nearest.get();
+        }
 
-    public Map<String, Object> getCombinedEmergencyInfo(String userLatitude, String userLongitude) throws IOException {
-        // 매개변수 그대로 사용: userLatitude, userLongitude
         UserLocationDTO userLocationDTO = emergencyClient.GetUserLocation(userLatitude, userLongitude);
+        List<EmergencyAedDTO> aeds = fetchAeds(userLocationDTO);
+        if (availableAt == null) {
+            return aeds;
+        }
+        // 스냅샷이 없을 때 받아오는 목록은 작으므로 그 자리에서 운영 시간을 해석한다
+        List<EmergencyAedDTO> open = new ArrayList<>(aeds.size());
+        for (EmergencyAedDTO aed : aeds) {
+            if (AedOpeningHours.isOpen(aed, availableAt)) {
+                open.add(aed);
+            }
+        }
+        return open;
+    }
 
-        List<EmergencyRoomDTO> emergencyRoomList = emergencyClient.GetEmergencyRoomInformationApi(userLocationDTO);
-        List<EmergencyAedDTO> emergencyAedList = emergencyClient.GetEmergencyAedInformationApi(userLocationDTO);
 
-        Map<String, Object> result = new HashMap<>();
-        result.put("emergencyRooms", emergencyRoomList);
-        result.put("aedLocations", emergencyAedList);
+    // 응급실 목록을 SSE 로 나눠서 보낸다. 가장 느린 병원 좌표 조회를 기다리지 않고 받은 것부터 내려준다
+    // region(시도/시군구) → beds(병상 정보, 병원 레지스트리에 없는 병원은 locationPending) → hospital(좌표가 나오는 대로 병원 하나씩) → done
+    // 이미 스냅샷이 있는 지역이면 beds 에 좌표와 거리까지 채워서 가까운 순으로 보내고 바로 done
+    public SseEmitter streamEmergencyRooms(String userLatitude, String userLongitude) {
+        // done 이벤트를 보낼 여유를 두고 작업 마감 시간보다 조금 길게
+        SseEmitter emitter = new SseEmitter(streamDeadlineMillis + STREAM_TIMEOUT_MARGIN_MILLIS);
+        try {
+            streamExecutor.execute(() -> streamRooms(emitter, userLatitude, userLongitude));
+        } catch (RejectedExecutionException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
 
-        return result;
+    private void streamRooms(SseEmitter emitter, String userLatitude, String userLongitude) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(streamDeadlineMillis);
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(error -> open.set(false));
+
+        List<CompletableFuture<EmergencyRoomDTO>> geocodes = List.of();
+        try {
+            UserLocationDTO userLocationDTO = emergencyClient.GetUserLocation(userLatitude, userLongitude);
+            sendEvent(emitter, "region", userLocationDTO);
+
+            Optional<EmergencyRoomSnapshotDTO> cached = emergencyRoomSnapshotService.findSnapshot(userLocationDTO);
+            if (cached.isPresent()) {
+                EmergencyRoomSnapshotDTO snapshot = cached.get();
+                EmergencyRoomSnapshotDTO ranked =
+                        rankRooms(snapshot, userLatitude, userLongitude, snapshot.getRooms().size(), null);
+                sendEvent(emitter, "beds", EmergencyRoomResponseDTO.from(ranked));
+                sendEvent(emitter, "done",
+                        new EmergencyRoomStreamSummaryDTO(SectionStatus.OK, ranked.getRooms().size(), 0));
+                open.set(false);
+                emitter.complete();
+                return;
+            }
+
+            // 병상 조회는 같은 지역 요청끼리 하나만 보내고, 좌표는 요청마다 복사본에 채운다
+            Instant asOf = Instant.now();
+            List<EmergencyRoomDTO> beds = coalesce("room-beds", userLocationDTO,
+                    () -> emergencyClient.GetEmergencyRoomBedsApi(userLocationDTO));
+            List<EmergencyRoomDTO> rooms = new ArrayList<>(beds.size());
+            for (EmergencyRoomDTO bed : beds) {
+                EmergencyRoomDTO room = bed.withDistanceKm(null);
+                room.setLocationPending(true);
+                rooms.add(room);
+            }
+            // 레지스트리에 있는 병원은 beds 에 좌표와 거리까지 채워서 보내고, 나머지만 hospital 이벤트로 하나씩
+            List<EmergencyRoomDTO> missing = hospitalRegistryService.attachCoordinates(rooms);
+            List<EmergencyRoomDTO> bedsWithDistance = new ArrayList<>(rooms.size());
+            for (EmergencyRoomDTO room : rooms) {
+                bedsWithDistance.add(room.withDistanceKm(distanceKm(room, userLatitude, userLongitude)));
+            }
+            sendEvent(emitter, "beds", EmergencyRoomResponseDTO.builder().asOf(asOf).rooms(bedsWithDistance).build());
+
+            // 좌표 조회 스레드에서 불리므로 done 을 보내고 닫은 뒤에 도착할 수 있다. 보내지 못하면 그냥 버린다
+            geocodes = emergencyClient.StreamEmergencyRoomLocations(missing, room -> {
+                if (!open.get()) {
+                    return;
+                }
+                try {
+                    sendEvent(emitter, "hospital", room.withDistanceKm(distanceKm(room, userLatitude, userLongitude)));
+                } catch (ClientDisconnectedException e) {
+                    open.set(false);
+                }
+            });
+            try {
+                CompletableFuture.allOf(geocodes.toArray(new CompletableFuture[0]))
+                        .get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                // 보낸 병원 수는 아래에서 센다
+            }
+
+            int resolved = rooms.size() - missing.size();
+            for (CompletableFuture<EmergencyRoomDTO> geocode : geocodes) {
+                if (geocode.isDone() && !geocode.isCompletedExceptionally()) {
+                    resolved++;
+                }
+            }
+            int pending = rooms.size() - resolved;
+            cancelAll(geocodes);
+            // 다음 요청은 스트리밍 없이 스냅샷으로 바로 응답할 수 있도록 저장 (좌표 조회 콜백이 고치고 있을 수 있어 복사본으로)
+            emergencyRoomSnapshotService.offer(userLocationDTO, snapshotCopies(rooms, missing, geocodes), asOf);
+
+            sendEvent(emitter, "done", new EmergencyRoomStreamSummaryDTO(
+                    pending == 0 ? SectionStatus.OK : SectionStatus.TIMEOUT, resolved, pending));
+            open.set(false);
+            emitter.complete();
+        } catch (ClientDisconnectedException e) {
+            // 사용자가 연결을 끊었거나 제한 시간이 지나 이미 닫힌 경우. 남은 좌표 조회 결과는 더 보내지 않는다
+            open.set(false);
+            cancelAll(geocodes);
+            emitter.completeWithError(e.getCause());
+        } catch (IOException | UncheckedIOException e) {
+            // 위치(카카오) / 병상 조회 실패, 회로 차단 등 upstream 오류
+            log.warn("응급실 스트리밍 조회 실패: {}", e.getMessage());
+            cancelAll(geocodes);
+            if (open.getAndSet(false)) {
+                trySend(emitter, "done", new EmergencyRoomStreamSummaryDTO(SectionStatus.FAILED, 0, 0));
+                emitter.complete();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(geocodes);
+            emitter.complete();
+        }
     }
-}
 
 
+    // 좌표 조회가 끝난 병원은 끝난 결과를, 끝나지 않은 병원은 좌표 없이(locationPending) 복사한다.
+    // 끝나지 않은 조회의 콜백은 아직 setHospitalLatitude / setHospitalLongitude 중일 수 있어 좌표를 읽지 않는다
+    private static List<EmergencyRoomDTO> snapshotCopies(List<EmergencyRoomDTO> rooms, List<EmergencyRoomDTO> missing,
+                                                         List<CompletableFuture<EmergencyRoomDTO>> geocodes) {
+        Map<EmergencyRoomDTO, CompletableFuture<EmergencyRoomDTO>> geocodeByRoom = new IdentityHashMap<>();
+        for (int i = 0; i < geocodes.size(); i++) {
+            geocodeByRoom.put(missing.get(i), geocodes.get(i));
+        }
+
+        List<EmergencyRoomDTO> copies = new ArrayList<>(rooms.size());
+        for (EmergencyRoomDTO room : rooms) {
+            CompletableFuture<EmergencyRoomDTO> geocode = geocodeByRoom.get(room);
+            if (geocode == null) {
+                copies.add(room.withDistanceKm(null));
+            } else if (geocode.isDone() && !geocode.isCompletedExceptionally()) {
+                copies.add(geocode.join().withDistanceKm(null));
+            } else {
+                EmergencyRoomDTO pending = room.withDistanceKm(null);
+                pending.setHospitalLatitude(0.0);
+                pending.setHospitalLongitude(0.0);
+                pending.setLocationPending(true);
+                copies.add(pending);
+            }
+        }
+        return copies;
+    }
 
 
+    // 보내기 실패(연결 끊김, 제한 시간이 지나 이미 닫힌 emitter)는 upstream 오류와 구분되도록 ClientDisconnectedException 으로
+    private static void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            throw new ClientDisconnectedException(e);
+        }
+    }
+
 
+    private static void trySend(SseEmitter emitter, String name, Object data) {
+        try {
+            sendEvent(emitter, name, data);
+        } catch (ClientDisconnectedException e) {
+            // 이미 닫힌 연결
+        }
+    }
+
+
+    // SSE 로 보내지 못한 경우. 사용자 쪽 문제라 FAILED 이벤트를 보내지 않고 끝낸다
+    private static final class ClientDisconnectedException extends RuntimeException {
+        private ClientDisconnectedException(Exception cause) {
+            super(cause);
+        }
+    }
+
+
+    private static void cancelAll(List<? extends CompletableFuture<?>> futures) {
+        for (CompletableFuture<?> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+
+    private static Double distanceKm(EmergencyRoomDTO room, String userLatitude, String userLongitude) {
+        if (!room.hasLocation()) {
+            return null;
+        }
+        try {
+            return GeoDistance.haversineKm(Double.parseDouble(userLatitude), Double.parseDouble(userLongitude),
+                    room.getHospitalLatitude(), room.getHospitalLongitude());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+
+    private EmergencyRoomSnapshotDTO rankRooms(EmergencyRoomSnapshotDTO snapshot, String userLatitude, String userLongitude,
+                                               int limit, Double maxDistanceKm) {
+        return rankRooms(snapshot, userLatitude, userLongitude, limit, maxDistanceKm, 0L);
+    }
+
+
+    // 스냅샷마다 한 번 만든 인덱스(좌표 배열 + 역량 비트셋)로 거른 뒤 거리순 상위만 남긴다
+    public EmergencyRoomSnapshotDTO rankRooms(EmergencyRoomSnapshotDTO snapshot, String userLatitude, String userLongitude,
+                                               int limit, Double maxDistanceKm, long requiredCapabilities) {
+        EmergencyRoomIndex index = snapshot.index();
+        List<EmergencyRoomDTO> ranked;
+        try {
+            ranked = index.nearest(Double.parseDouble(userLatitude), Double.parseDouble(userLongitude),
+                    limit, requiredCapabilities, maxDistanceKm);
+        } catch (NumberFormatException e) {
+            // 거리를 계산할 수 없으면 받아온 순서 그대로 자른다
+            ranked = index.matching(limit, requiredCapabilities);
+        }
+        return new EmergencyRoomSnapshotDTO(snapshot.getSido(), snapshot.getSigungu(), ranked, snapshot.getAsOf(),
+                snapshot.isStale());
+    }
+
+
+    private EmergencyRoomSnapshotDTO fetchRoomSnapshot(UserLocationDTO userLocationDTO) throws IOException {
+        return coalesce("room", userLocationDTO, () -> emergencyRoomSnapshotService.getSnapshot(userLocationDTO));
+    }
+
+
+    private List<EmergencyAedDTO> fetchAeds(UserLocationDTO userLocationDTO) throws IOException {
+        return coalesce("aed", userLocationDTO, () -> emergencyClient.GetEmergencyAedInformationApi(userLocationDTO));
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(String endpoint, UserLocationDTO userLocationDTO,
+                           SingleFlight.Task<T, IOException> task) throws IOException {
+        UpstreamKey key = new UpstreamKey(endpoint, userLocationDTO.getSido(), userLocationDTO.getSigungu());
+        return (T) upstreamFlights.call(key, task::run);
+    }
+
+
+    private Optional<List<EmergencyAedDTO>> findNearestAeds(String userLatitude, String userLongitude,
+                                                            int limit, double radiusKm) {
+        return findNearestAeds(userLatitude, userLongitude, limit, radiusKm, null);
+    }
+
+
+    private Optional<List<EmergencyAedDTO>> findNearestAeds(String userLatitude, String userLongitude,
+                                                            int limit, double radiusKm, LocalDateTime availableAt) {
+        try {
+            double latitude = Double.parseDouble(userLatitude);
+            double longitude = Double.parseDouble(userLongitude);
+            return aedSnapshotService.findNearest(latitude, longitude, limit, radiusKm, availableAt);
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+
+
+
+    // 응급실과 AED 를 동시에 조회한다. 전체 제한 시간 안에 끝난 쪽만 채우고, 항목별 상태(OK/FAILED/TIMEOUT)를 같이 돌려준다
+    public CombinedEmergencyResponseDTO getCombinedEmergencyInfo(String userLatitude, String userLongitude) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(combinedDeadlineMillis);
+
+        // 시군구 조회는 두 쪽이 같이 쓴다 (AED 스냅샷이 준비되어 있으면 AED 쪽은 필요 없음)
+        CompletableFuture<UserLocationDTO> location =
+                async(() -> emergencyClient.GetUserLocation(userLatitude, userLongitude));
+
+        CompletableFuture<EmergencyRoomSnapshotDTO> rooms =
+                location.thenCompose(userLocationDTO -> async(() -> fetchRoomSnapshot(userLocationDTO)));
+
+        CompletableFuture<List<EmergencyAedDTO>> aeds = findNearestAeds(userLatitude, userLongitude, DEFAULT_AED_LIMIT, DEFAULT_AED_RADIUS_KM)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> location.thenCompose(userLocationDTO -> async(() -> fetchAeds(userLocationDTO))));
+
+        try {
+            CompletableFuture.allOf(rooms, aeds).get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 항목별 상태는 아래에서 future 마다 따로 확인한다
+        }
+
+        SectionStatus roomStatus = statusOf("room", rooms);
+        SectionStatus aedStatus = statusOf("aed", aeds);
+        EmergencyRoomSnapshotDTO snapshot = roomStatus == SectionStatus.OK
+                ? rankRooms(rooms.join(), userLatitude, userLongitude, DEFAULT_ROOM_LIMIT, null)
+                : null;
+
+        return CombinedEmergencyResponseDTO.builder()
+                .emergencyRoomStatus(roomStatus)
+                .emergencyRoomsAsOf(snapshot == null ? null : snapshot.getAsOf())
+                .emergencyRoomsStale(snapshot != null && snapshot.isStale())
+                .emergencyRooms(snapshot == null ? List.of() : snapshot.getRooms())
+                .aedStatus(aedStatus)
+                .aedLocations(aedStatus == SectionStatus.OK ? aeds.join() : List.of())
+                .build();
+    }
+
+
+    private <T> CompletableFuture<T> async(SingleFlight.Task<T, IOException> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.run();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, emergencyExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+
+    // 아직 안 끝났으면 더 기다리지 않고 TIMEOUT 으로 처리한다
+    private SectionStatus statusOf(String section, CompletableFuture<?> future) {
+        if (!future.isDone() && future.cancel(false)) {
+            log.warn("통합 조회 [{}] 제한 시간 {}ms 초과", section, combinedDeadlineMillis);
+            return SectionStatus.TIMEOUT;
+        }
+        try {
+            future.join();
+            return SectionStatus.OK;
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.warn("통합 조회 [{}] 실패: {}", section, cause.getMessage());
+            return SectionStatus.FAILED;
+        }
+    }
+
+
+    private record UpstreamKey(String endpoint, String sido, String sigungu) {
+    }
+}
@@ -0,0 +1,167 @@
+package emp.emp.emergency.service;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.HospitalBasicInfoDTO;
+import emp.emp.emergency.dto.HospitalCoordinateDTO;
+import emp.emp.emergency.entity.HospitalRegistry;
+import emp.emp.emergency.repository.HospitalRegistryRepository;
+import emp.emp.emergency.support.QuotaPriority;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+// 전국 응급의료기관 기본정보(hpid, wgs84 좌표)를 배치로 받아서 hospital_registry 테이블에 저장하고,
+// 메모리에는 hpid → 좌표 맵으로 들고 있는다. 실시간 병상 데이터는 hpid 로 이 맵과 조인하므로 요청마다 좌표를 조회하지 않는다.
+// 레지스트리에 없는 병원(신규 기관, 첫 적재 전)만 기존처럼 카카오 키워드 검색으로 찾는다.
+@Slf4j
+@Service
+public class HospitalRegistryService {
+    private final EmergencyClient emergencyClient;
+    private final HospitalRegistryRepository hospitalRegistryRepository;
+    private final TransactionOperations transactionOperations;
+    // 새 맵은 다 만든 뒤에 참조만 바꿔 끼우므로 조회하는 쪽은 기다리지 않는다
+    private final AtomicReference<Map<String, HospitalCoordinateDTO>> coordinates = new AtomicReference<>(Map.of());
+
+    @Value("${emergency.hospital-registry.enabled:true}")
+    private boolean enabled;
+
+    @Value("${emergency.hospital-registry.page-size:1000}")
+    private int pageSize;
+
+    // 페이지 수 상한 (응답이 이상할 때 무한히 돌지 않도록)
+    @Value("${emergency.hospital-registry.max-pages:50}")
+    private int maxPages;
+
+
+    public HospitalRegistryService(EmergencyClient emergencyClient,
+                                   HospitalRegistryRepository hospitalRegistryRepository,
+                                   TransactionOperations transactionOperations) {
+        this.emergencyClient = emergencyClient;
+        this.hospitalRegistryRepository = hospitalRegistryRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+
+    // 서버가 뜨면 배치를 기다리지 않고 지난번에 저장해 둔 레지스트리부터 올린다
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromDatabase() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            coordinates.set(toCoordinateMap(hospitalRegistryRepository.findAll()));
+            log.info("병원 레지스트리 적재 (DB): {}건", coordinates.get().size());
+        } catch (Exception e) {
+            log.warn("병원 레지스트리 DB 적재 실패: {}", e.getMessage());
+        }
+    }
+
+
+    @Scheduled(initialDelayString = "${emergency.hospital-registry.initial-delay-ms:15000}",
+            fixedDelayString = "${emergency.hospital-registry.refresh-ms:86400000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 외부 API 호출 동안 DB 커넥션을 잡고 있지 않도록 다 받아온 뒤에 트랜잭션을 연다
+            List<HospitalBasicInfoDTO> hospitals = new ArrayList<>();
+            for (int pageNo = 1; pageNo <= maxPages; pageNo++) {
+                // 하루 한 번 미리 받아두는 작업이라 호출 한도가 부족하면 다음 주기로 미룬다
+                int requestedPage = pageNo;
+                List<HospitalBasicInfoDTO> page = QuotaPriority.callAs(QuotaPriority.PREFETCH,
+                        () -> emergencyClient.GetEmergencyHospitalPage(requestedPage, pageSize));
+                for (HospitalBasicInfoDTO hospital : page) {
+                    if (hospital.isValid()) {
+                        hospitals.add(hospital);
+                    }
+                }
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+
+            if (hospitals.isEmpty()) {
+                // 빈 응답으로 기존 레지스트리를 덮어쓰지 않는다
+                log.warn("병원 레지스트리 갱신 실패: 받아온 데이터가 없습니다");
+                return;
+            }
+
+            List<HospitalRegistry> registry = transactionOperations.execute(status -> upsert(hospitals));
+            coordinates.set(toCoordinateMap(registry));
+            log.info("병원 레지스트리 갱신: {}건 ({}ms)", coordinates.get().size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 실패하면 이전 레지스트리를 계속 쓴다
+            log.warn("병원 레지스트리 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+
+    // 병상 목록에 레지스트리 좌표를 채우고, 레지스트리에 없는 병원만 돌려준다 (키워드 검색 대상)
+    public List<EmergencyRoomDTO> attachCoordinates(List<EmergencyRoomDTO> rooms) {
+        Map<String, HospitalCoordinateDTO> current = coordinates.get();
+        List<EmergencyRoomDTO> missing = new ArrayList<>();
+        for (EmergencyRoomDTO room : rooms) {
+            HospitalCoordinateDTO coordinate = room.getHpid() == null ? null : current.get(room.getHpid());
+            if (coordinate == null) {
+                missing.add(room);
+                continue;
+            }
+            room.setHospitalLatitude(coordinate.getLatitude());
+            room.setHospitalLongitude(coordinate.getLongitude());
+            room.setLocationPending(false);
+        }
+        return missing;
+    }
+
+
+    public int size() {
+        return coordinates.get().size();
+    }
+
+
+    // 이미 있는 기관은 변경 감지로 갱신하고 새 기관만 insert (기본정보에서 빠진 기관은 지우지 않고 둔다)
+    private List<HospitalRegistry> upsert(List<HospitalBasicInfoDTO> hospitals) {
+        Map<String, HospitalRegistry> registry = new HashMap<>();
+        for (HospitalRegistry hospital : hospitalRegistryRepository.findAll()) {
+            registry.put(hospital.getHpid(), hospital);
+        }
+
+        List<HospitalRegistry> created = new ArrayList<>();
+        for (HospitalBasicInfoDTO info : hospitals) {
+            HospitalRegistry hospital = registry.get(info.getHpid());
+            if (hospital == null) {
+                hospital = HospitalRegistry.from(info);
+                registry.put(info.getHpid(), hospital);
+                created.add(hospital);
+            } else {
+                hospital.update(info);
+            }
+        }
+        hospitalRegistryRepository.saveAll(created);
+        return new ArrayList<>(registry.values());
+    }
+
+
+    private static Map<String, HospitalCoordinateDTO> toCoordinateMap(List<HospitalRegistry> registry) {
+        Map<String, HospitalCoordinateDTO> result = new HashMap<>(registry.size() * 2);
+        for (HospitalRegistry hospital : registry) {
+            result.put(hospital.getHpid(), new HospitalCoordinateDTO(hospital.getLatitude(), hospital.getLongitude()));
+        }
+        return Map.copyOf(result);
+    }
+}
@@ -0,0 +1,173 @@
+package emp.emp.emergency.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// upstream 하나에 대한 서킷 브레이커
+//
+// - CLOSED: 최근 windowSize 번의 호출 중 실패 비율이나 느린 호출(slowCallMillis 초과) 비율이 기준을 넘으면 OPEN
+// - OPEN: openMillis 동안은 호출하지 않고 바로 CircuitOpenException. 시간이 지나면 HALF_OPEN
+// - HALF_OPEN: halfOpenProbes 개의 호출만 보내 본다. 모두 성공하면 CLOSED, 하나라도 실패하거나 느리면 다시 OPEN
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN,
+    }
+
+    @FunctionalInterface
+    public interface Task<V, E extends Exception> {
+        V run() throws E;
+    }
+
+    public record Settings(int failureRateThreshold, int slowCallRateThreshold, long slowCallMillis,
+                           int windowSize, int minimumCalls, long openMillis, int halfOpenProbes) {
+    }
+
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    private final String name;
+    private final Settings settings;
+    private final LongSupplier nanoClock;
+
+    // 최근 호출 결과를 담는 원형 버퍼
+    private final byte[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long rejected;
+
+    public CircuitBreaker(String name, Settings settings) {
+        this(name, settings, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Settings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.outcomes = new byte[Math.max(1, settings.windowSize())];
+    }
+
+    public <V, E extends Exception> V execute(Task<V, E> task) throws E, CircuitOpenException {
+        boolean probe = acquirePermission();
+        long started = nanoClock.getAsLong();
+        try {
+            V value = task.run();
+            onResult(probe, true, nanoClock.getAsLong() - started);
+            return value;
+        } catch (Exception | Error e) {
+            onResult(probe, false, nanoClock.getAsLong() - started);
+            throw e;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // 회로가 열려 있어서 호출하지 않고 거절한 횟수
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    // HALF_OPEN 에서 보낸 호출이면 true
+    private synchronized boolean acquirePermission() throws CircuitOpenException {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < TimeUnit.MILLISECONDS.toNanos(settings.openMillis())) {
+                rejected++;
+                throw new CircuitOpenException(name);
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= settings.halfOpenProbes()) {
+                rejected++;
+                throw new CircuitOpenException(name);
+            }
+            probesInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void onResult(boolean probe, boolean success, long elapsedNanos) {
+        boolean slow = elapsedNanos > TimeUnit.MILLISECONDS.toNanos(settings.slowCallMillis());
+
+        if (probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probesInFlight--;
+            if (!success || slow) {
+                open();
+            } else if (++probeSuccesses >= settings.halfOpenProbes()) {
+                close();
+            }
+            return;
+        }
+
+        // OPEN 되기 전에 시작한 호출의 결과는 무시한다
+        if (state != State.CLOSED) {
+            return;
+        }
+        record(success ? (slow ? SLOW : SUCCESS) : FAILURE);
+        if (recorded < settings.minimumCalls()) {
+            return;
+        }
+        if (failures * 100 >= settings.failureRateThreshold() * recorded
+                || slowCalls * 100 >= settings.slowCallRateThreshold() * recorded) {
+            open();
+        }
+    }
+
+    private void record(byte outcome) {
+        if (recorded == outcomes.length) {
+            forget(outcomes[next]);
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        if (outcome == FAILURE) {
+            failures++;
+        } else if (outcome == SLOW) {
+            slowCalls++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void forget(byte outcome) {
+        if (outcome == FAILURE) {
+            failures--;
+        } else if (outcome == SLOW) {
+            slowCalls--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
@@ -0,0 +1,12 @@
+package emp.emp.emergency.support;
+
+import java.io.IOException;
+
+// 회로가 열려 있어서 upstream 을 호출하지 않고 바로 실패한 경우
+// IOException 이라서 기존 호출부의 upstream 실패 처리(이전 스냅샷 사용 등)를 그대로 탄다
+public class CircuitOpenException extends IOException {
+
+    public CircuitOpenException(String name) {
+        super("circuit open: " + name);
+    }
+}
@@ -0,0 +1,165 @@
+package emp.emp.emergency.support;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// upstream 키 하나의 일일 호출 한도를 우선순위별로 나눠 쓰는 토큰 버킷
+//
+// 하루 한도 Q 를 하루 동안 고르게 채워지는 버킷으로 본다: 지금까지 쓸 수 있는 양 = min(Q, Q × (지난 시간 비율 + burstRatio))
+// 남은 토큰 = 쓸 수 있는 양 - 오늘 쓴 양
+// - USER_FACING: 한도(Q)를 다 쓰기 전까지는 항상 보낸다
+// - REFRESH / PREFETCH: 남은 토큰이 각자의 예비분(Q × reserveRatio)보다 많을 때만 보낸다
+// 그래서 오전에 사용자 요청이 몰려 버킷이 비면 배경 작업부터 멈추고, 한도는 마지막까지 사용자 요청에 남는다.
+// 쓴 양은 counter(여러 인스턴스가 같이 보는 공용 카운터)에 날짜별로 센다.
+// acquire 는 counter 를 부르지 않는다: 마지막으로 맞춘 공용 값 + 아직 보내지 않은 로컬 사용량으로 판단하고,
+// sync() 가 배경에서 로컬 사용량을 한 번에 더하면서 다른 인스턴스가 쓴 양을 받아온다. counter 가 응답하지 않으면 로컬에 쌓아두고 다음 sync 에 보낸다.
+public class QuotaBudget {
+
+    // 날짜(yyyyMMdd) 카운터에 delta 를 더한 값. 카운터를 쓸 수 없으면 null
+    @FunctionalInterface
+    public interface Counter {
+        Long add(String day, long delta);
+    }
+
+    // dailyLimit 가 0 이하면 한도 없이 세지도 않는다
+    public record Settings(long dailyLimit, double burstRatio, double refreshReserveRatio, double prefetchReserveRatio) {
+    }
+
+    // 공공데이터 / 카카오 한도는 한국 시간 자정에 초기화된다
+    public static final ZoneId KOREA = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final double SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final String name;
+    private final Settings settings;
+    private final Counter counter;
+    private final Supplier<ZonedDateTime> clock;
+    private final Map<String, DayCount> days = new ConcurrentHashMap<>();
+    private final Map<QuotaPriority, LongAdder> rejected = new EnumMap<>(QuotaPriority.class);
+    private volatile long used;
+
+    public QuotaBudget(String name, Settings settings, Counter counter) {
+        this(name, settings, counter, () -> ZonedDateTime.now(KOREA));
+    }
+
+    QuotaBudget(String name, Settings settings, Counter counter, Supplier<ZonedDateTime> clock) {
+        this.name = name;
+        this.settings = settings;
+        this.counter = counter;
+        this.clock = clock;
+        for (QuotaPriority priority : QuotaPriority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    // 호출 한 번을 쓴다. 보내지 않아야 하면 QuotaExceededException (쓴 양은 늘지 않는다)
+    public void acquire(QuotaPriority priority) throws QuotaExceededException {
+        if (settings.dailyLimit() <= 0) {
+            return;
+        }
+        ZonedDateTime now = clock.get();
+        DayCount count = today(now.format(DAY));
+        double elapsedRatio = elapsedRatio(now);
+        while (true) {
+            long unsynced = count.unsynced.get();
+            long usedBefore = count.shared + unsynced;
+            if (!admits(priority, usedBefore, elapsedRatio)) {
+                used = usedBefore;
+                rejected.get(priority).increment();
+                throw new QuotaExceededException(name, priority);
+            }
+            if (count.unsynced.compareAndSet(unsynced, unsynced + 1)) {
+                used = usedBefore + 1;
+                return;
+            }
+        }
+    }
+
+    // acquire 했지만 실제로 보내지 않은 호출(서킷이 열려 있던 경우 등)을 돌려준다
+    public void release() {
+        if (settings.dailyLimit() <= 0) {
+            return;
+        }
+        DayCount count = today(clock.get().format(DAY));
+        used = count.shared + count.unsynced.decrementAndGet();
+    }
+
+    // 로컬에 쌓인 사용량을 공용 카운터에 보내고 다른 인스턴스가 쓴 양까지 포함된 값을 받아온다
+    // 실패하면 그대로 두고 다음 sync 에 다시 보낸다. 지난 날짜는 다 보낸 뒤 버린다
+    public void sync() {
+        if (settings.dailyLimit() <= 0) {
+            return;
+        }
+        String day = clock.get().format(DAY);
+        today(day);
+        for (DayCount count : days.values()) {
+            long delta = count.unsynced.get();
+            Long shared = counter.add(count.day, delta);
+            if (shared == null) {
+                continue;
+            }
+            // 공용 값을 먼저 바꾸고 보낸 만큼 뺀다 (그 사이에는 조금 많게 보일 뿐 적게 보이지 않는다)
+            count.shared = shared;
+            count.unsynced.addAndGet(-delta);
+            if (count.day.equals(day)) {
+                used = shared + count.unsynced.get();
+            } else if (count.unsynced.get() == 0) {
+                days.remove(count.day);
+            }
+        }
+    }
+
+    boolean admits(QuotaPriority priority, long usedBefore, double elapsedRatio) {
+        long limit = settings.dailyLimit();
+        if (usedBefore >= limit) {
+            return false;
+        }
+        if (priority == QuotaPriority.USER_FACING) {
+            return true;
+        }
+        double allowance = Math.min(limit, limit * (elapsedRatio + settings.burstRatio()));
+        double reserveRatio = priority == QuotaPriority.REFRESH
+                ? settings.refreshReserveRatio()
+                : settings.prefetchReserveRatio();
+        return allowance - usedBefore > limit * reserveRatio;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // 마지막으로 확인한 오늘 사용량
+    public long getUsed() {
+        return used;
+    }
+
+    public long getRejectedCount(QuotaPriority priority) {
+        return rejected.get(priority).sum();
+    }
+
+    private DayCount today(String day) {
+        return days.computeIfAbsent(day, DayCount::new);
+    }
+
+    private static double elapsedRatio(ZonedDateTime now) {
+        return now.toLocalTime().toSecondOfDay() / SECONDS_PER_DAY;
+    }
+
+    // 하루치 사용량: 마지막으로 받은 공용 카운터 값과 아직 보내지 않은 로컬 사용량
+    private static final class DayCount {
+        private final String day;
+        private final AtomicLong unsynced = new AtomicLong();
+        private volatile long shared;
+
+        private DayCount(String day) {
+            this.day = day;
+        }
+    }
+}
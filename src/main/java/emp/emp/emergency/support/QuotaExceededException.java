@@ -0,0 +1,12 @@
+package emp.emp.emergency.support;
+
+import java.io.IOException;
+
+// 일일 호출 한도를 아끼려고 이번 호출을 보내지 않은 경우
+// CircuitOpenException 과 같이 IOException 이라서 호출부의 upstream 실패 처리(이전 스냅샷 사용 등)를 그대로 탄다
+public class QuotaExceededException extends IOException {
+
+    public QuotaExceededException(String name, QuotaPriority priority) {
+        super("quota exceeded: " + name + " (" + priority + ")");
+    }
+}
@@ -0,0 +1,31 @@
+package emp.emp.emergency.support;
+
+// 외부 API 일일 호출 한도를 나눠 쓸 때의 우선순위 (위에 있을수록 먼저)
+// 호출하는 스레드에 현재 우선순위를 걸어두면 EmergencyClient 가 읽어서 QuotaBudget 에 넘긴다. 지정하지 않으면 USER_FACING
+public enum QuotaPriority {
+    USER_FACING, // 사용자 요청으로 바로 나가는 조회
+    REFRESH,     // 이미 요청된 지역의 주기적 폴링
+    PREFETCH;    // 전국 스냅샷 / 레지스트리 적재처럼 미리 받아두는 작업
+
+    private static final ThreadLocal<QuotaPriority> CURRENT = new ThreadLocal<>();
+
+    public static QuotaPriority current() {
+        QuotaPriority priority = CURRENT.get();
+        return priority != null ? priority : USER_FACING;
+    }
+
+    // task 가 도는 동안만 현재 스레드의 우선순위를 priority 로 바꾼다
+    public static <V, E extends Exception> V callAs(QuotaPriority priority, CircuitBreaker.Task<V, E> task) throws E {
+        QuotaPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return task.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
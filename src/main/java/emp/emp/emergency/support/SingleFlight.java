@@ -0,0 +1,64 @@
+package emp.emp.emergency.support;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+// 같은 key 로 동시에 들어온 호출은 하나만 실제로 실행하고 나머지는 그 결과를 같이 받는다.
+// 먼저 들어온 호출자의 스레드에서 실행하고, 뒤에 들어온 호출자는 블로킹으로 기다린다.
+//
+// - 실행 중 예외가 나면 기다리던 호출자 모두 같은 예외를 받는다. 실패한 결과는 남겨두지 않으므로 다음 호출은 새로 실행된다.
+// - 기다리던 스레드가 interrupt 되면 그 스레드만 기다리기를 멈춘다. 실제 작업은 먼저 들어온 호출자가 끝까지 실행한다.
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    public interface Task<V, E extends Exception> {
+        V run() throws E;
+    }
+
+    // 호출한 스레드에서 바로 실행한다 (이미 실행 중이면 그 결과를 기다림)
+    public <E extends Exception> V call(K key, Task<V, E> task) throws E {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> flight = inFlight.compute(key, (k, existing) ->
+                existing != null && !existing.isDone() ? existing : created);
+
+        if (flight != created) {
+            return await(flight);
+        }
+
+        try {
+            V value = task.run();
+            created.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> V await(CompletableFuture<V> flight) throws E {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("결과를 기다리는 중 interrupt 되었습니다");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            // 먼저 실행한 호출자와 같은 task 타입이므로 같은 checked 예외로 던진다
+            throw (E) cause;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package emp.emp.emergency.support;
+
+// EmergencyClient 가 보내는 외부 API 호출 종류 (지표의 upstream / call 태그)
+public enum UpstreamCall {
+    REGION("kakao", "region"),               // 좌표 → 시도/시군구 (coord2regioncode)
+    KEYWORD("kakao", "keyword"),             // 병원 이름 → 좌표 (키워드 검색)
+    ROOM("public-data", "room"),             // 응급실 실시간 병상
+    AED("public-data", "aed"),               // 시군구 AED 목록
+    AED_PAGE("public-data", "aed-page"),     // 전국 AED 스냅샷 페이지
+    HOSPITAL_PAGE("public-data", "hospital-page"); // 병원 레지스트리 페이지
+
+    private final String upstream;
+    private final String tag;
+
+    UpstreamCall(String upstream, String tag) {
+        this.upstream = upstream;
+        this.tag = tag;
+    }
+
+    public String upstream() {
+        return upstream;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public boolean isKakao() {
+        return "kakao".equals(upstream);
+    }
+}
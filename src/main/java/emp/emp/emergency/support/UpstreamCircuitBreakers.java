@@ -0,0 +1,50 @@
+package emp.emp.emergency.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 응급 기능이 호출하는 외부 API 별 서킷 브레이커
+// 상태는 emergency.upstream.circuit.state (0: CLOSED, 1: OPEN, 2: HALF_OPEN) 게이지로 확인한다
+@Component
+public class UpstreamCircuitBreakers {
+
+    private final CircuitBreaker publicData;
+    private final CircuitBreaker kakao;
+
+    public UpstreamCircuitBreakers(MeterRegistry meterRegistry,
+                                   @Value("${emergency.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                                   @Value("${emergency.circuit.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+                                   @Value("${emergency.circuit.slow-call-ms:3000}") long slowCallMillis,
+                                   @Value("${emergency.circuit.window-size:20}") int windowSize,
+                                   @Value("${emergency.circuit.minimum-calls:10}") int minimumCalls,
+                                   @Value("${emergency.circuit.open-ms:30000}") long openMillis,
+                                   @Value("${emergency.circuit.half-open-probes:3}") int halfOpenProbes) {
+        CircuitBreaker.Settings settings = new CircuitBreaker.Settings(failureRateThreshold, slowCallRateThreshold,
+                slowCallMillis, windowSize, minimumCalls, openMillis, halfOpenProbes);
+        this.publicData = register(meterRegistry, new CircuitBreaker("public-data", settings));
+        this.kakao = register(meterRegistry, new CircuitBreaker("kakao", settings));
+    }
+
+    // apis.data.go.kr (응급실 병상, AED)
+    public CircuitBreaker publicData() {
+        return publicData;
+    }
+
+    // dapi.kakao.com (역지오코딩, 병원 좌표 검색)
+    public CircuitBreaker kakao() {
+        return kakao;
+    }
+
+    private static CircuitBreaker register(MeterRegistry meterRegistry, CircuitBreaker breaker) {
+        Gauge.builder("emergency.upstream.circuit.state", breaker, b -> b.getState().ordinal())
+                .tag("upstream", breaker.getName())
+                .register(meterRegistry);
+        FunctionCounter.builder("emergency.upstream.circuit.rejected", breaker, CircuitBreaker::getRejectedCount)
+                .tag("upstream", breaker.getName())
+                .register(meterRegistry);
+        return breaker;
+    }
+}
@@ -0,0 +1,107 @@
+package emp.emp.emergency.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// EmergencyClient 의 외부 API 호출 지표 (/actuator/prometheus 로 노출)
+//
+// - emergency.upstream.latency   (timer, upstream/call/outcome): 한도/서킷 확인부터 응답 파싱까지. outcome = success | error | rejected
+// - emergency.upstream.parse     (timer, upstream/call): 응답 헤더를 받은 뒤 본문을 읽고 파싱하는 시간 (스트리밍 파싱이라 본문 수신 포함)
+// - emergency.upstream.payload   (summary, bytes, upstream/call): 응답 본문 크기
+// - emergency.upstream.errors    (counter, upstream/call/status/exception): 실패한 호출. status 는 HTTP 상태 코드, 응답이 없으면 none
+// 지연 시간과 본문 크기는 히스토그램 버킷까지 내보내서 백분위를 서버 쪽에서 집계할 수 있다
+@Component
+public class UpstreamMetrics {
+
+    private static final String NO_STATUS = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<UpstreamCall, Timer> successTimers = new EnumMap<>(UpstreamCall.class);
+    private final Map<UpstreamCall, Timer> errorTimers = new EnumMap<>(UpstreamCall.class);
+    private final Map<UpstreamCall, Timer> rejectedTimers = new EnumMap<>(UpstreamCall.class);
+    private final Map<UpstreamCall, Timer> parseTimers = new EnumMap<>(UpstreamCall.class);
+    private final Map<UpstreamCall, DistributionSummary> payloadSizes = new EnumMap<>(UpstreamCall.class);
+
+    public UpstreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (UpstreamCall call : UpstreamCall.values()) {
+            successTimers.put(call, latencyTimer(call, "success"));
+            errorTimers.put(call, latencyTimer(call, "error"));
+            rejectedTimers.put(call, latencyTimer(call, "rejected"));
+            parseTimers.put(call, Timer.builder("emergency.upstream.parse")
+                    .tag("upstream", call.upstream())
+                    .tag("call", call.tag())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            payloadSizes.put(call, DistributionSummary.builder("emergency.upstream.payload")
+                    .baseUnit("bytes")
+                    .tag("upstream", call.upstream())
+                    .tag("call", call.tag())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(256.0)
+                    .maximumExpectedValue(32.0 * 1024 * 1024)
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordSuccess(UpstreamCall call, long elapsedNanos) {
+        successTimers.get(call).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 한도 초과 / 서킷 열림으로 보내지 않은 호출은 rejected, 나머지 실패는 error 로 지연 시간을 나눠서 기록한다
+    public void recordFailure(UpstreamCall call, long elapsedNanos, Throwable error) {
+        boolean rejected = error instanceof QuotaExceededException || error instanceof CircuitOpenException;
+        (rejected ? rejectedTimers : errorTimers).get(call).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder("emergency.upstream.errors")
+                .tag("upstream", call.upstream())
+                .tag("call", call.tag())
+                .tag("status", statusOf(error))
+                .tag("exception", exceptionOf(error).getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordParse(UpstreamCall call, long elapsedNanos) {
+        parseTimers.get(call).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordPayload(UpstreamCall call, long bytes) {
+        payloadSizes.get(call).record(bytes);
+    }
+
+    private Timer latencyTimer(UpstreamCall call, String outcome) {
+        return Timer.builder("emergency.upstream.latency")
+                .tag("upstream", call.upstream())
+                .tag("call", call.tag())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // RestTemplate 예외를 감싼 IOException 이면 감싸진 예외 이름으로 (HTTP 오류 종류가 보이도록)
+    private static Throwable exceptionOf(Throwable error) {
+        if (error.getClass() == IOException.class && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    // 4xx / 5xx 응답이면 상태 코드, 연결 실패 / 타임아웃처럼 응답이 없으면 none
+    private static String statusOf(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RestClientResponseException response) {
+                return String.valueOf(response.getStatusCode().value());
+            }
+        }
+        return NO_STATUS;
+    }
+}
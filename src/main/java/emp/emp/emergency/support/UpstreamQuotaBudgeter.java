@@ -0,0 +1,95 @@
+package emp.emp.emergency.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 응급 기능이 쓰는 외부 API 키별 일일 호출 한도
+// 사용량은 Redis 의 emergency:quota:{upstream}:{yyyyMMdd} 카운터에 모든 인스턴스가 같이 센다 (Redis 장애 시 인스턴스별로 센다)
+// 호출마다 Redis 를 부르지 않고 인스턴스에서 세다가 emergency.quota.sync-ms 마다 한 번에 더한다
+// emergency.upstream.quota.used 게이지와 emergency.upstream.quota.rejected (priority 태그) 카운터로 확인한다
+@Component
+public class UpstreamQuotaBudgeter {
+
+    private static final String KEY_PREFIX = "emergency:quota:";
+    // 날짜가 바뀐 뒤에도 늦게 끝난 호출이 되돌릴 수 있도록 이틀 둔다
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate redisTemplate;
+    private final QuotaBudget publicData;
+    private final QuotaBudget kakao;
+
+    public UpstreamQuotaBudgeter(StringRedisTemplate redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${emergency.quota.enabled:true}") boolean enabled,
+                                 @Value("${emergency.quota.public-data.daily-limit:10000}") long publicDataDailyLimit,
+                                 @Value("${emergency.quota.kakao.daily-limit:100000}") long kakaoDailyLimit,
+                                 @Value("${emergency.quota.burst-ratio:0.1}") double burstRatio,
+                                 @Value("${emergency.quota.refresh-reserve-ratio:0.02}") double refreshReserveRatio,
+                                 @Value("${emergency.quota.prefetch-reserve-ratio:0.05}") double prefetchReserveRatio) {
+        this.redisTemplate = redisTemplate;
+        this.publicData = register(meterRegistry, new QuotaBudget("public-data",
+                new QuotaBudget.Settings(enabled ? publicDataDailyLimit : 0, burstRatio, refreshReserveRatio, prefetchReserveRatio),
+                redisCounter("public-data")));
+        this.kakao = register(meterRegistry, new QuotaBudget("kakao",
+                new QuotaBudget.Settings(enabled ? kakaoDailyLimit : 0, burstRatio, refreshReserveRatio, prefetchReserveRatio),
+                redisCounter("kakao")));
+    }
+
+    @Scheduled(initialDelayString = "${emergency.quota.sync-ms:1000}",
+            fixedDelayString = "${emergency.quota.sync-ms:1000}")
+    public void sync() {
+        publicData.sync();
+        kakao.sync();
+    }
+
+    // apis.data.go.kr 서비스 키 (응급실 병상, AED, 병원 기본정보)
+    public QuotaBudget publicData() {
+        return publicData;
+    }
+
+    // dapi.kakao.com REST 키 (역지오코딩, 병원 좌표 검색)
+    public QuotaBudget kakao() {
+        return kakao;
+    }
+
+    private QuotaBudget.Counter redisCounter(String upstream) {
+        return (day, delta) -> {
+            String key = KEY_PREFIX + upstream + ":" + day;
+            try {
+                if (delta == 0) {
+                    // 보낼 게 없으면 키를 만들지 않고 읽기만 한다
+                    String value = redisTemplate.opsForValue().get(key);
+                    return value == null ? 0L : Long.valueOf(value);
+                }
+                Long value = redisTemplate.opsForValue().increment(key, delta);
+                if (value != null && value == delta) {
+                    // 그날 첫 기록일 때만 만료 시간을 건다
+                    redisTemplate.expire(key, KEY_TTL);
+                }
+                return value;
+            } catch (RuntimeException e) {
+                return null;
+            }
+        };
+    }
+
+    private static QuotaBudget register(MeterRegistry meterRegistry, QuotaBudget budget) {
+        Gauge.builder("emergency.upstream.quota.used", budget, QuotaBudget::getUsed)
+                .tag("upstream", budget.getName())
+                .register(meterRegistry);
+        for (QuotaPriority priority : QuotaPriority.values()) {
+            FunctionCounter.builder("emergency.upstream.quota.rejected", budget, b -> b.getRejectedCount(priority))
+                    .tag("upstream", budget.getName())
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry);
+        }
+        return budget;
+    }
+}
@@ -0,0 +1,104 @@
+package emp.emp.emergency.util;
+
+import emp.emp.emergency.dto.EmergencyAedDTO;
+
+import java.time.LocalDateTime;
+
+// AED 요일별 운영 시간("0900" ~ "1800" 문자열 14개)을 요일마다 int 하나로 줄여서 다룬다.
+// 하루 값은 (시작 분 << 16) | 종료 분 이고, 운영 정보가 없거나 이상하면 CLOSED.
+// 종료가 시작보다 이르면 자정을 넘겨 다음 날 종료 시각까지 운영, 시작과 종료가 같으면 24시간 운영으로 본다.
+public final class AedOpeningHours {
+
+    public static final int DAYS = 7;
+    public static final int CLOSED = -1;
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private AedOpeningHours() {
+    }
+
+    // 월요일(0) ~ 일요일(6) 순서로 out[offset ..< offset + 7] 에 채운다
+    public static void encode(EmergencyAedDTO aed, int[] out, int offset) {
+        out[offset] = slot(aed.getMondayStartDay(), aed.getMondayEndDay());
+        out[offset + 1] = slot(aed.getTuesdayStartDay(), aed.getTuesdayEndDay());
+        out[offset + 2] = slot(aed.getWednesdayStartDay(), aed.getWednesdayEndDay());
+        out[offset + 3] = slot(aed.getThursdayStartDay(), aed.getThursdayEndDay());
+        out[offset + 4] = slot(aed.getFridayStartDay(), aed.getFridayEndDay());
+        out[offset + 5] = slot(aed.getSaturdayStartDay(), aed.getSaturdayEndDay());
+        out[offset + 6] = slot(aed.getSundayStartDay(), aed.getSundayEndDay());
+    }
+
+    public static int[] encode(EmergencyAedDTO aed) {
+        int[] slots = new int[DAYS];
+        encode(aed, slots, 0);
+        return slots;
+    }
+
+    // 월요일 0시부터 지난 분 (0 ~ 10079)
+    public static int minuteOfWeek(LocalDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    // slots[offset ..< offset + 7] 기준으로 minuteOfWeek 에 운영 중인지
+    public static boolean isOpen(int[] slots, int offset, int minuteOfWeek) {
+        int day = minuteOfWeek / MINUTES_PER_DAY;
+        int minute = minuteOfWeek % MINUTES_PER_DAY;
+
+        int today = slots[offset + day];
+        if (today != CLOSED) {
+            int start = today >>> 16;
+            int end = today & 0xFFFF;
+            if (start == end) {
+                return true;
+            }
+            if (start < end ? minute >= start && minute < end : minute >= start) {
+                return true;
+            }
+        }
+
+        // 전날 자정을 넘겨 이어지는 운영 시간
+        int yesterday = slots[offset + (day + DAYS - 1) % DAYS];
+        if (yesterday != CLOSED) {
+            int start = yesterday >>> 16;
+            int end = yesterday & 0xFFFF;
+            return end < start && minute < end;
+        }
+        return false;
+    }
+
+    public static boolean isOpen(EmergencyAedDTO aed, LocalDateTime time) {
+        return isOpen(encode(aed), 0, minuteOfWeek(time));
+    }
+
+    static int slot(String start, String end) {
+        int startMinute = parseMinute(start);
+        int endMinute = parseMinute(end);
+        if (startMinute < 0 || endMinute < 0 || startMinute == MINUTES_PER_DAY) {
+            return CLOSED;
+        }
+        // "2400" 은 0 으로 저장하므로 "0000" ~ "2400" 은 시작 == 종료, 즉 24시간
+        return (startMinute << 16) | (endMinute % MINUTES_PER_DAY);
+    }
+
+    // "0930" / "930" / "09:30" → 570. 이상한 값이면 -1 ("2400" 은 1440)
+    private static int parseMinute(String value) {
+        if (value == null) {
+            return -1;
+        }
+        String digits = value.trim().replace(":", "");
+        if (digits.isEmpty() || digits.length() > 4) {
+            return -1;
+        }
+        try {
+            int hhmm = Integer.parseInt(digits);
+            int hour = hhmm / 100;
+            int minute = hhmm % 100;
+            if (hhmm < 0 || minute >= 60 || hour > 24 || (hour == 24 && minute != 0)) {
+                return -1;
+            }
+            return hour * 60 + minute;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package emp.emp.emergency.util;
+
+// 위도/경도를 geohash 문자열로 변환한다. 같은 칸(cell) 안의 좌표는 같은 문자열이 된다.
+// precision 5 ≒ 4.9km x 4.9km, 6 ≒ 1.2km x 0.6km, 7 ≒ 153m x 153m
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("precision 은 1 ~ 12 사이여야 합니다: " + precision);
+        }
+
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+        boolean evenBit = true; // 짝수 번째 비트는 경도, 홀수 번째는 위도
+        int bit = 0;
+        int ch = 0;
+
+        StringBuilder geohash = new StringBuilder(precision);
+        while (geohash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                geohash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return geohash.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package emp.emp.emergency.util;
+
+// 거리(key)가 가장 작은 k 개만 남기는 고정 크기 최대 힙. 인덱스(value)만 들고 있어서 객체를 만들지 않는다
+public final class TopKHeap {
+
+    private final double[] keys;
+    private final int[] values;
+    private int size;
+
+    public TopKHeap(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다: " + capacity);
+        }
+        this.keys = new double[capacity];
+        this.values = new int[capacity];
+    }
+
+    // 들어갔으면 true
+    public boolean offer(double key, int value) {
+        if (size < keys.length) {
+            keys[size] = key;
+            values[size] = value;
+            siftUp(size++);
+            return true;
+        }
+        if (key >= keys[0]) {
+            return false;
+        }
+        keys[0] = key;
+        values[0] = value;
+        siftDown(0);
+        return true;
+    }
+
+    public boolean isFull() {
+        return size == keys.length;
+    }
+
+    // 현재 남아있는 것 중 가장 큰 key (비어있으면 +무한대)
+    public double maxKey() {
+        return size == 0 ? Double.POSITIVE_INFINITY : keys[0];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // key 오름차순으로 꺼내서 outValues/outKeys 에 채우고 힙은 비운다. 꺼낸 개수를 반환
+    public int drainAscending(int[] outValues, double[] outKeys) {
+        int count = size;
+        for (int i = count - 1; i >= 0; i--) {
+            outValues[i] = values[0];
+            if (outKeys != null) {
+                outKeys[i] = keys[0];
+            }
+            size--;
+            if (size > 0) {
+                keys[0] = keys[size];
+                values[0] = values[size];
+                siftDown(0);
+            }
+        }
+        return count;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] >= keys[index]) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int largest = left;
+            int right = left + 1;
+            if (right < size && keys[right] > keys[left]) {
+                largest = right;
+            }
+            if (keys[index] >= keys[largest]) {
+                return;
+            }
+            swap(index, largest);
+            index = largest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        double key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        int value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+}
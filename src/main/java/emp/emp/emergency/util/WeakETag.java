@@ -0,0 +1,28 @@
+package emp.emp.emergency.util;
+
+import java.util.Objects;
+
+// 응답 데이터의 버전(스냅샷 기준 시각 등)과 요청 조건으로 만드는 weak ETag
+// 본문을 만들어 보지 않고도 같은 응답인지 판단하려는 용도라서 본문 해시 대신 버전 값을 이어 붙여 64비트 FNV-1a 로 줄인다.
+// ageSeconds 처럼 매번 달라지는 파생 값은 빼고 보므로 weak(W/) 로 내려준다
+public final class WeakETag {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private WeakETag() {
+    }
+
+    public static String of(Object... parts) {
+        long hash = FNV_OFFSET;
+        for (Object part : parts) {
+            String value = Objects.toString(part);
+            for (int i = 0; i < value.length(); i++) {
+                hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+            }
+            // 구분자 ("ab","c" 와 "a","bc" 가 같아지지 않도록)
+            hash = (hash ^ 0x1F) * FNV_PRIME;
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
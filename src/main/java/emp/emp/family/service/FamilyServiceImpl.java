@@ -17,6 +17,7 @@ import emp.emp.family.exception.FamilyErrorCode;
 import emp.emp.family.repository.FamilyRepository;
 import emp.emp.member.entity.Member;
 import emp.emp.member.service.HealthTagService;
+import emp.emp.util.security.MemberIdentity;
 import emp.emp.util.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 
@@ -48,6 +49,7 @@ public class FamilyServiceImpl implements FamilyService {
 			.build();
 
 		currentMember.setFamily(family);
+		securityUtil.evictMember(currentMember.getVerifyId());
 
 		familyRepository.save(family);
 	}
@@ -69,6 +71,7 @@ public class FamilyServiceImpl implements FamilyService {
 			.orElseThrow(() -> new BusinessException(FamilyErrorCode.INVALID_FAMILY_CODE));
 
 		family.addMember(currentMember);
+		securityUtil.evictMember(currentMember.getVerifyId());
 	}
 
 	/**
@@ -83,9 +86,11 @@ public class FamilyServiceImpl implements FamilyService {
 		Family family = validateFamilyHead(currentMember);
 
 		currentMember.setFamily(null);
+		securityUtil.evictMember(currentMember.getVerifyId());
 
 		for (Member member : family.getMembers()) {
 			member.setFamily(null);
+			securityUtil.evictMember(member.getVerifyId());
 		}
 
 		familyRepository.delete(family);
@@ -100,9 +105,13 @@ public class FamilyServiceImpl implements FamilyService {
 	@Transactional
 	public void changeFamilyName(ChangeFamilyNameReq request) {
 
-		Member currentMember = securityUtil.getCurrentMember();
+		MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
-		Family family = validateFamilyHead(currentMember);
+		Family family = findFamily(currentMember);
+
+		if (!family.getHead().getId().equals(currentMember.getId())) {
+			throw new BusinessException(FamilyErrorCode.NOT_FAMILY_HEAD);
+		}
 
 		family.changeName(request.getName());
 
@@ -126,6 +135,7 @@ public class FamilyServiceImpl implements FamilyService {
 		}
 
 		currentMember.setFamily(null);
+		securityUtil.evictMember(currentMember.getVerifyId());
 	}
 
 	/**
@@ -135,11 +145,9 @@ public class FamilyServiceImpl implements FamilyService {
 	@Override
 	public FamilyRes getFamilyInfo() {
 
-		Member currentMember = securityUtil.getCurrentMember();
-
-		validateFamilyIsNotNull(currentMember);
+		MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
-		Family family = currentMember.getFamily();
+		Family family = findFamily(currentMember);
 
 		return buildFamilyRes(family);
 	}
@@ -177,6 +185,21 @@ public class FamilyServiceImpl implements FamilyService {
 		return family;
 	}
 
+	/**
+	 * 현재 유저가 속한 가족 조회 (회원 엔티티를 불러오지 않고 식별 정보의 가족 id 로 찾는다)
+	 *
+	 * @param currentMember 현재 유저 식별 정보
+	 * @return 현재 유저가 속한 가족
+	 */
+	private Family findFamily(MemberIdentity currentMember) {
+		if (currentMember.getFamilyId() == null) {
+			throw new BusinessException(FamilyErrorCode.FAMILY_NOT_EXISTS);
+		}
+
+		return familyRepository.findById(currentMember.getFamilyId())
+			.orElseThrow(() -> new BusinessException(FamilyErrorCode.FAMILY_NOT_EXISTS));
+	}
+
 	/**
 	 * 가족이 없을 경우 예외 처리
 	 * @param currentMember 현재 유저
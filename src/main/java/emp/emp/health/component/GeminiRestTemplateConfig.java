@@ -3,6 +3,7 @@ package emp.emp.health.component;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import lombok.RequiredArgsConstructor;
@@ -11,10 +12,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class GeminiRestTemplateConfig {
 
+	// 공용 커넥션 풀(OutboundHttpConfig)을 같이 쓴다
+	private final ClientHttpRequestFactory outboundRequestFactory;
+
 	@Bean
 	@Qualifier("geminiRestTemplate")
 	public RestTemplate geminiRestTemplate() {
-		RestTemplate restTemplate = new RestTemplate();
+		RestTemplate restTemplate = new RestTemplate(outboundRequestFactory);
 		restTemplate.getInterceptors().add((request, body, execution) -> execution.execute(request, body));
 
 		return restTemplate;
@@ -43,7 +43,8 @@ public class HealthServiceImpl implements HealthService {
 	@Override
 	@Transactional
 	public void recordHealth(HealthRecordReq request) {
-		Member currentMember = securityUtil.getCurrentMember();
+		// 기록 저장과 중복 검사 모두 회원 id 만 쓰므로 회원을 불러오지 않는 참조로 충분하다
+		Member currentMember = securityUtil.getCurrentMemberReference();
 
 		Type type = validateType(request.getType());
 
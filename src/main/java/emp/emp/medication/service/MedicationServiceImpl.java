@@ -17,6 +17,7 @@ import emp.emp.medication.entity.MedicationTiming;
 import emp.emp.medication.exception.MedicationErrorCode;
 import emp.emp.medication.repository.MedicationManagementRepository;
 import emp.emp.member.entity.Member;
+import emp.emp.util.security.MemberIdentity;
 import emp.emp.util.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,7 +48,7 @@ public class MedicationServiceImpl implements MedicationService{
   public MedicationManagementResponse createMedication(CustomUserDetails userDetails, Long eventId, MedicationManagementRequest request) {
     try {
       // 현재 로그인한 회원 정보 가져오기
-      Member currentMember = securityUtil.getCurrentMember();
+      MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
       // 캘린더 이벤트 조회 & 소유권 검증
       CalendarEvent calendarEvent = findEventByIdAndValidate(eventId, currentMember);
@@ -67,7 +68,7 @@ public class MedicationServiceImpl implements MedicationService{
       // 복약관리Entity 생성
       MedicationManagement medicationManagement = MedicationManagement.builder()
               .calendarEvent(calendarEvent)
-              .member(currentMember)
+              .member(securityUtil.getCurrentMemberReference())
               .diseaseName(request.getDiseaseName())
               .startDate(request.getStartDate())
               .endDate(request.getEndDate())
@@ -96,7 +97,7 @@ public class MedicationServiceImpl implements MedicationService{
       medicationManagementRepository.save(medicationManagement);
 
       // 응답 DTO로
-      return convertToResponse(medicationManagement);
+      return convertToResponse(medicationManagement, currentMember);
 
     } catch (BusinessException e) {
       throw e;
@@ -117,7 +118,7 @@ public class MedicationServiceImpl implements MedicationService{
   public MedicationManagementResponse getMedication(CustomUserDetails userDetails, Long eventId) {
     try {
       // 현재 로그인한 회원정보 가져오기
-      Member currentMember = securityUtil.getCurrentMember();
+      MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
       // 캘린더 이벤트 조회 & 소유권 검증
       CalendarEvent calendarEvent = findEventByIdAndValidate(eventId, currentMember);
@@ -130,7 +131,7 @@ public class MedicationServiceImpl implements MedicationService{
               .orElseThrow(() -> new BusinessException(MedicationErrorCode.MEDICATION_NOT_FOUND));
 
       // 응답 DTO로
-      return convertToResponse(medicationManagement);
+      return convertToResponse(medicationManagement, currentMember);
 
     } catch (BusinessException e) {
       throw e;
@@ -152,7 +153,7 @@ public class MedicationServiceImpl implements MedicationService{
   public MedicationManagementResponse updateMedication(CustomUserDetails userDetails, Long eventId, MedicationManagementRequest request){
 
     try{
-      Member currentMember = securityUtil.getCurrentMember();
+      MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
       CalendarEvent calendarEvent = findEventByIdAndValidate(eventId, currentMember);
 
@@ -189,7 +190,7 @@ public class MedicationServiceImpl implements MedicationService{
                 .build();
         medicationManagement.addTiming(timing);
       }
-      return convertToResponse(medicationManagement);
+      return convertToResponse(medicationManagement, currentMember);
     }catch(BusinessException e){
       throw e;
     } catch(Exception e){
@@ -208,7 +209,7 @@ public class MedicationServiceImpl implements MedicationService{
   @Transactional
   public void deleteMedication(CustomUserDetails userDetails, Long eventId) {
     try {
-      Member currentMember = securityUtil.getCurrentMember();
+      MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
       CalendarEvent calendarEvent = findEventByIdAndValidate(eventId, currentMember);
 
@@ -237,14 +238,15 @@ public class MedicationServiceImpl implements MedicationService{
   @Transactional(readOnly = true)
   public List<MedicationManagementResponse> getMyMedications(CustomUserDetails userDetails) {
     try {
-      Member currentMember = securityUtil.getCurrentMember();
+      MemberIdentity currentMember = securityUtil.getCurrentMemberIdentity();
 
       // 해당 회원의 모든 복약관리 조회
-      List<MedicationManagement> medications = medicationManagementRepository.findByMemberOrderByStartDateDesc(currentMember);
+      List<MedicationManagement> medications = medicationManagementRepository.findByMemberOrderByStartDateDesc(
+              securityUtil.getCurrentMemberReference());
 
       // 응답 DTO 리스트로
       return medications.stream()
-              .map(this::convertToResponse)
+              .map(medication -> convertToResponse(medication, currentMember))
               .collect(Collectors.toList());
     } catch (Exception e) {
       log.error("내 복약관리 목록 조회 중 오류 발생", e);
@@ -299,13 +301,13 @@ public class MedicationServiceImpl implements MedicationService{
    * @param currentMember
    * @return
    */
-  private CalendarEvent findEventByIdAndValidate(Long eventId,Member currentMember) {
+  private CalendarEvent findEventByIdAndValidate(Long eventId,MemberIdentity currentMember) {
     // 캘린더 이벤트 조회
     CalendarEvent calendarEvent = calendarRepository.findById(eventId)
             .orElseThrow(() -> new BusinessException(MedicationErrorCode.CALENDAR_EVENT_NOT_FOUND));
 
-    // 로그인한 사용자의 일정인지 확인
-    if(!calendarEvent.getMember().equals(currentMember)){
+    // 로그인한 사용자의 일정인지 확인 (프록시의 id 만 비교해서 회원을 불러오지 않는다)
+    if(!calendarEvent.getMember().getId().equals(currentMember.getId())){
       throw new BusinessException(MedicationErrorCode.ACCESS_DENIED);
     }
     return calendarEvent;
@@ -324,9 +326,10 @@ public class MedicationServiceImpl implements MedicationService{
   /**
    * MedicationManagement 엔티티를 MedicationManagementResponse DTO로 변환
    * @param medicationManagement 변환할 복약관리 Entity
+   * @param owner 복약관리 주인 (로그인한 사용자)
    * @return 변환된 응답 DTO
    */
-  private MedicationManagementResponse convertToResponse(MedicationManagement medicationManagement) {
+  private MedicationManagementResponse convertToResponse(MedicationManagement medicationManagement, MemberIdentity owner) {
     // 캘린더 이벤트 정보 가져오기
     CalendarEvent calendarEvent = medicationManagement.getCalendarEvent();
 
@@ -353,7 +356,7 @@ public class MedicationServiceImpl implements MedicationService{
     return MedicationManagementResponse.builder()
             .mdeicationId(medicationManagement.getMedicationId())
             .eventId(calendarEvent.getEventId())
-            .verifyId(calendarEvent.getMember().getVerifyId())
+            .verifyId(owner.getVerifyId())
             .diseaseName(medicationManagement.getDiseaseName())
             .startDate(medicationManagement.getStartDate())
             .endDate(medicationManagement.getEndDate())
@@ -14,6 +14,7 @@ import emp.emp.member.entity.Member;
 import emp.emp.member.enums.Role;
 import emp.emp.member.repository.MemberRepository;
 import emp.emp.util.jwt.JwtTokenProvider;
+import emp.emp.util.jwt.TokenRevocationService;
 import emp.emp.util.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +25,7 @@ public class MemberServiceImpl implements MemberService {
 	private final MemberRepository memberRepository;
 	private final SecurityUtil securityUtil;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final TokenRevocationService tokenRevocationService;
 
 	/**
 	 * 유저 피처 입력
@@ -41,7 +43,11 @@ public class MemberServiceImpl implements MemberService {
 
 		inputUserInfo(currentMember, request);
 		currentMember.setRole(Role.ROLE_USER);
+		securityUtil.evictMember(currentMember.getVerifyId());
 
+		// 예전 권한이 담긴 액세스 토큰도 더 이상 쓰지 못하게 한다.
+		// 폐기를 기록하지 못하면 예외로 요청을 실패시켜 권한 변경도 롤백한다
+		tokenRevocationService.revokeMember(currentMember.getVerifyId());
 		jwtTokenProvider.deleteRefreshToken(currentMember.getVerifyId());
 
 		LoginDto updatedLoginDto = LoginDto.builder()
@@ -84,6 +90,7 @@ public class MemberServiceImpl implements MemberService {
 		Member currentMember = securityUtil.getCurrentMember();
 
 		updateUserInfo(currentMember, request);
+		securityUtil.evictMember(currentMember.getVerifyId());
 	}
 
 	private void updateUserInfo(Member member, UpdateFeatureReq request) {
@@ -0,0 +1,77 @@
+package emp.emp.util.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter. mightContain 이 false 면 넣은 적이 없는 값이다 (true 는 오탐일 수 있다).
+ * 지우기는 지원하지 않으므로 오래된 값을 빼려면 새로 만들어서 바꿔 끼운다.
+ * put 과 mightContain 은 락 없이 여러 스레드에서 같이 불러도 된다.
+ */
+public class BloomFilter {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions 넣을 값 수 (넘겨도 동작하지만 오탐률이 올라간다)
+	 * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+	 */
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		int n = Math.max(1, expectedInsertions);
+		double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+		long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int) Math.max(1, (bits + 63) / 64);
+
+		this.words = new AtomicLongArray(wordCount);
+		this.bitCount = wordCount * 64L;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+	}
+
+	public void put(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			long mask = 1L << (bit & 63);
+			int word = (int) (bit >>> 6);
+			long current;
+			while (((current = words.get(word)) & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+				// 다른 스레드가 같은 word 를 바꾼 경우 다시 시도
+			}
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash1 = hash(value);
+		long hash2 = mix(hash1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// FNV-1a 64bit
+	private static long hash(String value) {
+		long hash = FNV_OFFSET;
+		for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	// 두 번째 해시 (splitmix64 finalizer)
+	private static long mix(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+}
@@ -0,0 +1,100 @@
+package emp.emp.util.jwt;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리에 들고 있는 RefreshTokenStore. 테스트와 Redis 없이 띄우는 로컬 환경용이다 (jwt.refresh.store=memory).
+ * 동작(세션 상한, 재사용 감지)은 RedisRefreshTokenStore 와 같다. 인스턴스끼리 세션을 나누지 않으므로 여러 대로 띄울 때는 쓰지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+	private final int maxSessions;
+	private final LongSupplier clock;
+	private final Map<String, Map<String, Stored>> sessions = new HashMap<>();
+
+	@Autowired
+	public InMemoryRefreshTokenStore(@Value("${jwt.refresh.max-sessions:10}") int maxSessions) {
+		this(maxSessions, System::currentTimeMillis);
+	}
+
+	InMemoryRefreshTokenStore(int maxSessions, LongSupplier clock) {
+		this.maxSessions = maxSessions;
+		this.clock = clock;
+	}
+
+	@Override
+	public synchronized void save(String verifyId, String sessionId, String refreshToken, long issuedAtMillis,
+		long ttlMillis) {
+		Map<String, Stored> member = live(verifyId);
+		member.put(sessionId, new Stored(VerifiedTokenCache.keyOf(refreshToken), issuedAtMillis,
+			clock.getAsLong() + ttlMillis));
+
+		List<Map.Entry<String, Stored>> oldest = new ArrayList<>(member.entrySet());
+		oldest.removeIf(entry -> entry.getKey().equals(sessionId));
+		oldest.sort(Comparator.comparingLong(entry -> entry.getValue().issuedAt));
+		int excess = member.size() - maxSessions;
+		for (int i = 0; i < excess && i < oldest.size(); i++) {
+			member.remove(oldest.get(i).getKey());
+		}
+	}
+
+	@Override
+	public synchronized Rotation rotate(String verifyId, String sessionId, String currentToken, String newToken,
+		long issuedAtMillis, long ttlMillis) {
+		Map<String, Stored> member = live(verifyId);
+		Stored stored = member.get(sessionId);
+		if (stored == null) {
+			return Rotation.NOT_FOUND;
+		}
+		if (!stored.tokenHash.equals(VerifiedTokenCache.keyOf(currentToken))) {
+			member.remove(sessionId);
+			return Rotation.REUSED;
+		}
+		member.put(sessionId, new Stored(VerifiedTokenCache.keyOf(newToken), issuedAtMillis,
+			clock.getAsLong() + ttlMillis));
+		return Rotation.ROTATED;
+	}
+
+	@Override
+	public synchronized List<RefreshSession> findSessions(String verifyId) {
+		List<RefreshSession> result = new ArrayList<>();
+		live(verifyId).forEach((sessionId, stored) -> result.add(new RefreshSession(sessionId,
+			Instant.ofEpochMilli(stored.issuedAt), Instant.ofEpochMilli(stored.expiresAt))));
+		result.sort(Comparator.comparing(RefreshSession::getIssuedAt));
+		return result;
+	}
+
+	@Override
+	public synchronized boolean revoke(String verifyId, String sessionId) {
+		return live(verifyId).remove(sessionId) != null;
+	}
+
+	@Override
+	public synchronized void revokeAll(String verifyId) {
+		sessions.remove(verifyId);
+	}
+
+	// 만료된 세션을 걷어낸 회원의 세션 맵
+	private Map<String, Stored> live(String verifyId) {
+		long now = clock.getAsLong();
+		Map<String, Stored> member = sessions.computeIfAbsent(verifyId, key -> new HashMap<>());
+		member.values().removeIf(stored -> stored.expiresAt <= now);
+		return member;
+	}
+
+	private record Stored(String tokenHash, long issuedAt, long expiresAt) {
+	}
+}
@@ -3,11 +3,11 @@ package emp.emp.util.jwt;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import emp.emp.auth.custom.CustomUserDetails;
@@ -16,25 +16,52 @@ import emp.emp.exception.BusinessException;
 import emp.emp.member.entity.Member;
 import emp.emp.member.repository.MemberRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SecurityException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
 	private final MemberRepository memberRepository;
-	private final StringRedisTemplate redisTemplate;
+	private final RefreshTokenStore refreshTokenStore;
 
 	// 액세스 토큰 만료 시간
 	private final long ACCESS_TOKEN_EXPIRE_TIME = 60 * 60 * 1000;
 	// 리프레시 토큰 만료 시간
 	private final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000;
+	// 리프레시 토큰에 담는 세션(기기) id 클레임
+	public static final String SESSION_ID_CLAIM = "sid";
 
-	@Value("${jwt.secret}")
-	private String JWT_SECRET;
+	// 서명 키와 파서는 생성할 때 한 번만 만든다
+	private final Key key;
+	private final JwtParser parser;
+	// 검증이 끝난 토큰 캐시 (크기가 0 이면 null, 캐시하지 않음)
+	private final VerifiedTokenCache verifiedCache;
+
+	/**
+	 * @param jwtSecret                 서명 키 문자열
+	 * @param verifiedCacheMaxSize      검증이 끝난 토큰 캐시 크기 (0 이면 캐시하지 않음)
+	 * @param verifiedCacheMaxTtlMillis 토큰 만료 전이라도 이 시간이 지나면 다시 서명을 검증한다
+	 */
+	public JwtTokenProvider(MemberRepository memberRepository,
+		RefreshTokenStore refreshTokenStore,
+		@Value("${jwt.secret}") String jwtSecret,
+		@Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize,
+		@Value("${jwt.verified-cache.max-ttl-ms:300000}") long verifiedCacheMaxTtlMillis) {
+		this.memberRepository = memberRepository;
+		this.refreshTokenStore = refreshTokenStore;
+		this.key = getKeyFromString(jwtSecret);
+		this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+		this.verifiedCache = verifiedCacheMaxSize > 0
+			? new VerifiedTokenCache(verifiedCacheMaxSize, verifiedCacheMaxTtlMillis)
+			: null;
+	}
 
 	public static Key getKeyFromString(String secret) {
 		return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
@@ -58,48 +85,46 @@ public class JwtTokenProvider {
 	}
 
 	/**
-	 * 리프레시 토큰 생성
+	 * 리프레시 토큰 생성. 로그인할 때마다 새 세션을 만들어서 다른 기기의 세션은 건드리지 않는다.
 	 *
 	 * @param userDetails 인증된 사용자 정보
 	 * @return JWT 리프레시 토큰 문자열
 	 */
 	public String generateRefreshToken(CustomUserDetails userDetails) {
+		String verifyId = String.valueOf(userDetails.getName());
+		String sessionId = UUID.randomUUID().toString();
 		Date now = new Date();
-		Date expiryDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRE_TIME);
-
-		String refreshToken = createToken(String.valueOf(userDetails.getName()), now, expiryDate, null);
 
-		// 키: verifyId, 값: refreshToken
-		redisTemplate.opsForValue()
-			.set(userDetails.getName(), refreshToken, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+		String refreshToken = createRefreshToken(verifyId, sessionId, now);
+		refreshTokenStore.save(verifyId, sessionId, refreshToken, now.getTime(), REFRESH_TOKEN_EXPIRE_TIME);
 
 		return refreshToken;
 	}
 
 	/**
 	 * 리프레시 토큰을 이용해 새 토큰 발급 (토큰 로테이션)
+	 * 같은 세션의 토큰만 바꾸고, 이미 바뀐 예전 토큰이 들어오면 그 세션을 지운다.
 	 *
 	 * @param refreshToken 리프레시 토큰
 	 * @return AccessToken, RefreshToken
 	 */
 	public Map<String, String> refreshTokens(String refreshToken) {
 
-		if (!validateToken(refreshToken)) {
+		TokenVerification verification = verify(refreshToken);
+		if (!verification.isValid()) {
 			throw new BusinessException(AuthErrorCode.INVALID_REFRESH_TOKEN);
 		}
 
-		String verifyId = getClaims(refreshToken).getSubject();
-
-		String storedRefreshToken = redisTemplate.opsForValue().get(verifyId);
-		if (!storedRefreshToken.equals(refreshToken)) {
+		Claims claims = verification.getClaims();
+		String verifyId = claims.getSubject();
+		String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+		// 세션 id 가 없는 예전 토큰은 다시 로그인해야 한다
+		if (sessionId == null) {
 			throw new BusinessException(AuthErrorCode.INVALID_REFRESH_TOKEN);
 		}
 
-		deleteRefreshToken(verifyId);
-
 		Date now = new Date();
 		Date accessExpiryDate = new Date(now.getTime() + ACCESS_TOKEN_EXPIRE_TIME);
-		Date refreshExpiryDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRE_TIME);
 		Member member = memberRepository.findByVerifyId(verifyId)
 			.orElseThrow(() -> new BusinessException(AuthErrorCode.USER_NOT_FOUND));
 		Map<String, Object> accessClaims = Map.of(
@@ -107,10 +132,14 @@ public class JwtTokenProvider {
 			"role", member.getRole()
 		);
 
-		String newAccessToken = createToken(verifyId, now, accessExpiryDate, accessClaims);
-		String newRefreshToken = createToken(verifyId, now, refreshExpiryDate, null);
+		String newRefreshToken = createRefreshToken(verifyId, sessionId, now);
+		RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(verifyId, sessionId, refreshToken,
+			newRefreshToken, now.getTime(), REFRESH_TOKEN_EXPIRE_TIME);
+		if (rotation != RefreshTokenStore.Rotation.ROTATED) {
+			throw new BusinessException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+		}
 
-		redisTemplate.opsForValue().set(verifyId, newRefreshToken, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+		String newAccessToken = createToken(verifyId, now, accessExpiryDate, accessClaims);
 
 		return Map.of(
 			"accessToken", newAccessToken,
@@ -118,23 +147,87 @@ public class JwtTokenProvider {
 		);
 	}
 
-	public boolean validateToken(String token) {
+	/**
+	 * 토큰을 한 번만 파싱해서 서명/만료를 확인하고 claims 를 돌려준다.
+	 * 이미 검증한 토큰이면 캐시에서 바로 돌려준다.
+	 *
+	 * @param token JWT 문자열
+	 * @return 검증 성공 시 claims, 실패 시 실패 사유
+	 */
+	public TokenVerification verify(String token) {
+		if (token == null || token.isBlank()) {
+			return TokenVerification.failed(TokenVerification.Failure.EMPTY);
+		}
+
+		String cacheKey = verifiedCache != null ? VerifiedTokenCache.keyOf(token) : null;
+		if (cacheKey != null) {
+			Claims cached = verifiedCache.get(cacheKey);
+			if (cached != null) {
+				return TokenVerification.verified(cached);
+			}
+		}
+
 		try {
-			Key key = getKeyFromString(JWT_SECRET);
-			Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-			return true;
-		} catch (Exception ex) {
-			return false;
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			if (cacheKey != null) {
+				verifiedCache.put(cacheKey, claims);
+			}
+			return TokenVerification.verified(claims);
+		} catch (ExpiredJwtException e) {
+			return TokenVerification.failed(TokenVerification.Failure.EXPIRED);
+		} catch (SecurityException e) {
+			return TokenVerification.failed(TokenVerification.Failure.INVALID_SIGNATURE);
+		} catch (UnsupportedJwtException e) {
+			return TokenVerification.failed(TokenVerification.Failure.UNSUPPORTED);
+		} catch (JwtException | IllegalArgumentException e) {
+			return TokenVerification.failed(TokenVerification.Failure.MALFORMED);
 		}
 	}
 
+	public boolean validateToken(String token) {
+		return verify(token).isValid();
+	}
+
 	public Claims getClaims(String token) {
-		Key key = getKeyFromString(JWT_SECRET);
-		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+		return parser.parseClaimsJws(token).getBody();
 	}
 
+	/**
+	 * 회원의 모든 세션(기기)의 리프레시 토큰을 지운다
+	 *
+	 * @param verifyId 회원 verifyId
+	 */
 	public void deleteRefreshToken(String verifyId) {
-		redisTemplate.delete(verifyId);
+		refreshTokenStore.revokeAll(verifyId);
+	}
+
+	/**
+	 * @param verifyId 회원 verifyId
+	 * @return 로그인 중인 세션(기기) 목록
+	 */
+	public List<RefreshSession> getSessions(String verifyId) {
+		return refreshTokenStore.findSessions(verifyId);
+	}
+
+	/**
+	 * 세션(기기) 하나를 로그아웃시킨다
+	 *
+	 * @param verifyId  회원 verifyId
+	 * @param sessionId 세션 id
+	 */
+	public void revokeSession(String verifyId, String sessionId) {
+		if (!refreshTokenStore.revoke(verifyId, sessionId)) {
+			throw new BusinessException(AuthErrorCode.SESSION_NOT_FOUND);
+		}
+	}
+
+	// 같은 초에 다시 발급해도 토큰이 겹치지 않도록 jti 를 넣는다
+	private String createRefreshToken(String verifyId, String sessionId, Date issuedAt) {
+		Date expiryDate = new Date(issuedAt.getTime() + REFRESH_TOKEN_EXPIRE_TIME);
+		return createToken(verifyId, issuedAt, expiryDate, Map.of(
+			SESSION_ID_CLAIM, sessionId,
+			Claims.ID, UUID.randomUUID().toString()
+		));
 	}
 
 	/**
@@ -147,7 +240,6 @@ public class JwtTokenProvider {
 	 * @return JWT 토큰 문자열
 	 */
 	private String createToken(String subject, Date issuedAt, Date expiration, Map<String, Object> claims) {
-		Key key = getKeyFromString(JWT_SECRET);
 		var builder = Jwts.builder()
 			.setSubject(subject)
 			.setIssuedAt(issuedAt)
@@ -0,0 +1,141 @@
+package emp.emp.util.jwt;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원마다 Redis 해시 하나에 세션을 담는 RefreshTokenStore.
+ * 키는 refresh:{verifyId}, 필드는 세션 id, 값은 "토큰 해시|발급 시각|만료 시각" 이다.
+ * 저장과 교체는 Lua 스크립트 한 번으로 확인 · 변경 · TTL 갱신을 같이 해서 왕복 한 번에 끝나고,
+ * 같은 리프레시 토큰으로 동시에 들어온 요청 중 하나만 교체에 성공한다.
+ * 기본 저장소이고, jwt.refresh.store=memory 면 InMemoryRefreshTokenStore 를 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+	private static final String KEY_PREFIX = "refresh:";
+
+	// ARGV: 세션 id, 값, TTL(ms), 현재 시각(ms), 세션 상한
+	// 만료된 세션을 지우고, 상한을 넘으면 새 세션을 뺀 나머지 중 오래된 것부터 지운다
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+		local now = tonumber(ARGV[4])
+		local fields = redis.call('HGETALL', KEYS[1])
+		local others = {}
+		for i = 1, #fields, 2 do
+			local issued, expires = string.match(fields[i + 1], '^[^|]*|(%d+)|(%d+)$')
+			if expires == nil or tonumber(expires) <= now then
+				redis.call('HDEL', KEYS[1], fields[i])
+			elseif fields[i] ~= ARGV[1] then
+				table.insert(others, {fields[i], tonumber(issued)})
+			end
+		end
+		local excess = #others + 1 - tonumber(ARGV[5])
+		if excess > 0 then
+			table.sort(others, function(a, b) return a[2] < b[2] end)
+			for i = 1, excess do
+				redis.call('HDEL', KEYS[1], others[i][1])
+			end
+		end
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		return #others + 1
+		""", Long.class);
+
+	// ARGV: 세션 id, 지금 토큰 해시, 새 값, TTL(ms)
+	// 1 = 교체, 0 = 세션 없음, -1 = 예전 토큰 재사용 (세션 삭제)
+	private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+		local current = redis.call('HGET', KEYS[1], ARGV[1])
+		if not current then
+			return 0
+		end
+		if string.sub(current, 1, string.len(ARGV[2]) + 1) ~= ARGV[2] .. '|' then
+			redis.call('HDEL', KEYS[1], ARGV[1])
+			return -1
+		end
+		redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+		redis.call('PEXPIRE', KEYS[1], ARGV[4])
+		return 1
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final int maxSessions;
+
+	public RedisRefreshTokenStore(StringRedisTemplate redisTemplate,
+		@Value("${jwt.refresh.max-sessions:10}") int maxSessions) {
+		this.redisTemplate = redisTemplate;
+		this.maxSessions = maxSessions;
+	}
+
+	@Override
+	public void save(String verifyId, String sessionId, String refreshToken, long issuedAtMillis, long ttlMillis) {
+		long now = System.currentTimeMillis();
+		redisTemplate.execute(SAVE_SCRIPT, List.of(key(verifyId)), sessionId,
+			value(refreshToken, issuedAtMillis, now + ttlMillis), String.valueOf(ttlMillis), String.valueOf(now),
+			String.valueOf(maxSessions));
+	}
+
+	@Override
+	public Rotation rotate(String verifyId, String sessionId, String currentToken, String newToken,
+		long issuedAtMillis, long ttlMillis) {
+		long now = System.currentTimeMillis();
+		Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(verifyId)), sessionId,
+			VerifiedTokenCache.keyOf(currentToken), value(newToken, issuedAtMillis, now + ttlMillis),
+			String.valueOf(ttlMillis));
+
+		if (result == null || result == 0) {
+			return Rotation.NOT_FOUND;
+		}
+		return result > 0 ? Rotation.ROTATED : Rotation.REUSED;
+	}
+
+	@Override
+	public List<RefreshSession> findSessions(String verifyId) {
+		long now = System.currentTimeMillis();
+		Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(verifyId));
+
+		List<RefreshSession> result = new ArrayList<>(fields.size());
+		fields.forEach((sessionId, value) -> {
+			String[] parts = String.valueOf(value).split("\\|");
+			if (parts.length != 3) {
+				return;
+			}
+			long expiresAt = Long.parseLong(parts[2]);
+			if (expiresAt > now) {
+				result.add(new RefreshSession(String.valueOf(sessionId),
+					Instant.ofEpochMilli(Long.parseLong(parts[1])), Instant.ofEpochMilli(expiresAt)));
+			}
+		});
+		result.sort(Comparator.comparing(RefreshSession::getIssuedAt));
+		return result;
+	}
+
+	@Override
+	public boolean revoke(String verifyId, String sessionId) {
+		Long removed = redisTemplate.opsForHash().delete(key(verifyId), sessionId);
+		return removed != null && removed > 0;
+	}
+
+	@Override
+	public void revokeAll(String verifyId) {
+		redisTemplate.delete(key(verifyId));
+	}
+
+	private static String key(String verifyId) {
+		return KEY_PREFIX + verifyId;
+	}
+
+	private static String value(String refreshToken, long issuedAtMillis, long expiresAtMillis) {
+		return VerifiedTokenCache.keyOf(refreshToken) + "|" + issuedAtMillis + "|" + expiresAtMillis;
+	}
+}
@@ -0,0 +1,18 @@
+package emp.emp.util.jwt;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인한 기기(세션) 하나의 리프레시 토큰 정보. 토큰 원문은 들고 있지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshSession {
+
+	private final String sessionId;
+	private final Instant issuedAt;
+	private final Instant expiresAt;
+}
@@ -0,0 +1,45 @@
+package emp.emp.util.jwt;
+
+import java.util.List;
+
+/**
+ * 회원별 · 세션(기기)별 리프레시 토큰 저장소.
+ * 세션마다 토큰 해시 하나를 들고 있어서 다른 기기에서 로그인해도 기존 기기의 세션은 그대로 남는다.
+ */
+public interface RefreshTokenStore {
+
+	/**
+	 * 토큰 교체 결과
+	 */
+	enum Rotation {
+		// 저장된 토큰과 같아서 새 토큰으로 바꿨다
+		ROTATED,
+		// 세션이 없다 (만료, 로그아웃, 다른 기기에서 해제)
+		NOT_FOUND,
+		// 이미 교체된 예전 토큰이 다시 들어왔다. 탈취로 보고 세션을 지운다
+		REUSED
+	}
+
+	/**
+	 * 새 세션을 저장한다. 세션 수가 상한을 넘으면 가장 오래된 세션부터 지운다.
+	 */
+	void save(String verifyId, String sessionId, String refreshToken, long issuedAtMillis, long ttlMillis);
+
+	/**
+	 * 저장된 토큰이 currentToken 과 같을 때만 newToken 으로 바꾸고 만료 시간을 늘린다.
+	 */
+	Rotation rotate(String verifyId, String sessionId, String currentToken, String newToken, long issuedAtMillis,
+		long ttlMillis);
+
+	/**
+	 * @return 만료되지 않은 세션 목록 (오래된 순)
+	 */
+	List<RefreshSession> findSessions(String verifyId);
+
+	/**
+	 * @return 세션이 있어서 지웠으면 true
+	 */
+	boolean revoke(String verifyId, String sessionId);
+
+	void revokeAll(String verifyId);
+}
@@ -0,0 +1,55 @@
+package emp.emp.util.jwt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드마다 메모리에 들고 있는 액세스 토큰 폐기 목록. 회원별로 "이 시각(초) 전에 발급된 토큰은 무효" 를 담는다.
+ * 대부분의 회원은 폐기된 적이 없으므로 Bloom filter 로 먼저 거르고, 걸린 경우에만 정확한 맵을 본다.
+ */
+public class RevokedTokenIndex {
+
+	private final BloomFilter bloomFilter;
+	private final Map<String, Long> notBefore = new ConcurrentHashMap<>();
+
+	public RevokedTokenIndex(int expectedInsertions, double falsePositiveRate) {
+		this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+	}
+
+	/**
+	 * @param verifyId          회원 verifyId
+	 * @param notBeforeSeconds  이 시각(epoch 초) 전에 발급된 토큰을 무효로 본다. 이미 더 늦은 값이 있으면 그대로 둔다.
+	 */
+	public void revokeMember(String verifyId, long notBeforeSeconds) {
+		// 맵에 먼저 넣어야 Bloom filter 에 걸린 직후 조회해도 값이 있다
+		notBefore.merge(verifyId, notBeforeSeconds, Math::max);
+		bloomFilter.put(verifyId);
+	}
+
+	/**
+	 * @param verifyId        토큰 subject
+	 * @param issuedAtSeconds 토큰 발급 시각 (epoch 초)
+	 */
+	public boolean isRevoked(String verifyId, long issuedAtSeconds) {
+		if (!bloomFilter.mightContain(verifyId)) {
+			return false;
+		}
+		Long revokedBefore = notBefore.get(verifyId);
+		return revokedBefore != null && issuedAtSeconds < revokedBefore;
+	}
+
+	/**
+	 * notBefore 가 minNotBeforeSeconds 이상인 항목을 target 에 옮겨 담는다 (새 인덱스로 바꿔 끼울 때 사용)
+	 */
+	public void copyTo(RevokedTokenIndex target, long minNotBeforeSeconds) {
+		notBefore.forEach((verifyId, seconds) -> {
+			if (seconds >= minNotBeforeSeconds) {
+				target.revokeMember(verifyId, seconds);
+			}
+		});
+	}
+
+	public int size() {
+		return notBefore.size();
+	}
+}
@@ -0,0 +1,166 @@
+package emp.emp.util.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import emp.emp.auth.exception.AuthErrorCode;
+import emp.emp.exception.BusinessException;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 액세스 토큰 폐기. 회원 단위로 "이 시각 전에 발급된 토큰은 무효" 를 Redis 정렬 집합에 저장하고,
+ * pub/sub 으로 모든 노드에 알려서 각 노드의 RevokedTokenIndex 에 반영한다.
+ * JwtFilter 는 요청마다 메모리의 인덱스만 보므로 Redis 를 다시 조회하지 않는다.
+ * 메시지를 놓친 경우를 대비해 주기적으로 Redis 전체를 다시 읽어 인덱스를 새로 만든다.
+ * 인덱스 쓰기와 새 인덱스로 바꿔 끼우기는 indexLock 으로 묶어서, 바꾸는 사이에 들어온 폐기가 빠지지 않게 한다 (읽기는 잠그지 않는다).
+ */
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener {
+
+	public static final String CHANNEL = "token-revocation";
+	// member: verifyId, score: notBefore (epoch 초)
+	private static final String MEMBERS_KEY = "token-revocation:members";
+
+	private final StringRedisTemplate redisTemplate;
+	private final int expectedInsertions;
+	private final double falsePositiveRate;
+	// 액세스 토큰 유효 시간보다 오래된 폐기 기록은 더 막을 토큰이 없으므로 버린다
+	private final long retentionSeconds;
+	private final LongSupplier clock;
+
+	private final Object indexLock = new Object();
+	private volatile RevokedTokenIndex index;
+
+	@Autowired
+	public TokenRevocationService(StringRedisTemplate redisTemplate,
+		@Value("${jwt.revocation.bloom.expected-insertions:10000}") int expectedInsertions,
+		@Value("${jwt.revocation.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+		@Value("${jwt.revocation.retention-seconds:3600}") long retentionSeconds) {
+		this(redisTemplate, expectedInsertions, falsePositiveRate, retentionSeconds, System::currentTimeMillis);
+	}
+
+	TokenRevocationService(StringRedisTemplate redisTemplate, int expectedInsertions, double falsePositiveRate,
+		long retentionSeconds, LongSupplier clock) {
+		this.redisTemplate = redisTemplate;
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.retentionSeconds = retentionSeconds;
+		this.clock = clock;
+		this.index = new RevokedTokenIndex(expectedInsertions, falsePositiveRate);
+	}
+
+	/**
+	 * 회원의 지금까지 발급된 액세스 토큰을 모두 무효로 만든다.
+	 * JWT 발급 시각(iat)이 초 단위라서 같은 초에 새로 발급한 토큰은 유효하다.
+	 * Redis 에 기록하지 못하면 다른 노드에서는 예전 토큰이 계속 통하므로, 이 노드에도 반영하지 않고 실패로 돌려준다.
+	 * 기록한 뒤의 pub/sub 알림이 실패하면 다른 노드는 다음 resync 때 반영하므로 요청은 실패시키지 않는다.
+	 *
+	 * @param verifyId 회원 verifyId
+	 * @throws BusinessException Redis 에 기록하지 못한 경우 (TOKEN_REVOCATION_FAILED)
+	 */
+	public void revokeMember(String verifyId) {
+		long notBefore = clock.getAsLong() / 1000;
+		try {
+			redisTemplate.opsForZSet().add(MEMBERS_KEY, verifyId, notBefore);
+		} catch (DataAccessException e) {
+			log.warn("토큰 폐기 기록 실패 [{}]: {}", verifyId, e.getMessage());
+			throw new BusinessException(AuthErrorCode.TOKEN_REVOCATION_FAILED);
+		}
+
+		apply(verifyId, notBefore);
+
+		try {
+			redisTemplate.convertAndSend(CHANNEL, notBefore + " " + verifyId);
+		} catch (DataAccessException e) {
+			log.warn("토큰 폐기 알림 실패, 다음 동기화 때 반영 [{}]: {}", verifyId, e.getMessage());
+		}
+	}
+
+	/**
+	 * @param claims 서명 검증을 마친 액세스 토큰 claims
+	 * @return 폐기된 토큰이면 true
+	 */
+	public boolean isRevoked(Claims claims) {
+		Date issuedAt = claims.getIssuedAt();
+		if (claims.getSubject() == null || issuedAt == null) {
+			return false;
+		}
+		return index.isRevoked(claims.getSubject(), issuedAt.getTime() / 1000);
+	}
+
+	/**
+	 * 다른 노드에서 폐기한 내용 ("notBefore verifyId")
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int space = body.indexOf(' ');
+		if (space < 0) {
+			return;
+		}
+		try {
+			apply(body.substring(space + 1), Long.parseLong(body.substring(0, space)));
+		} catch (NumberFormatException e) {
+			log.warn("토큰 폐기 메시지 형식 오류: {}", body);
+		}
+	}
+
+	/**
+	 * Redis 의 폐기 목록으로 인덱스를 새로 만든다. 보관 기간이 지난 기록은 Redis 에서도 지운다.
+	 * 다시 읽는 동안 메시지로 들어온 항목을 잃지 않도록 기존 인덱스의 유효한 항목도 옮겨 담는다.
+	 * Redis 는 잠그지 않고 읽고, 옮겨 담기와 바꿔 끼우기만 indexLock 안에서 한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(initialDelayString = "${jwt.revocation.resync-ms:60000}",
+		fixedDelayString = "${jwt.revocation.resync-ms:60000}")
+	public void resync() {
+		long oldest = clock.getAsLong() / 1000 - retentionSeconds;
+		try {
+			ZSetOperations<String, String> revoked = redisTemplate.opsForZSet();
+			revoked.removeRangeByScore(MEMBERS_KEY, Double.NEGATIVE_INFINITY, oldest - 1);
+			Set<ZSetOperations.TypedTuple<String>> members = revoked.rangeWithScores(MEMBERS_KEY, 0, -1);
+
+			RevokedTokenIndex rebuilt = new RevokedTokenIndex(expectedInsertions, falsePositiveRate);
+			if (members != null) {
+				for (ZSetOperations.TypedTuple<String> member : members) {
+					if (member.getValue() != null && member.getScore() != null) {
+						rebuilt.revokeMember(member.getValue(), member.getScore().longValue());
+					}
+				}
+			}
+			synchronized (indexLock) {
+				index.copyTo(rebuilt, oldest);
+				index = rebuilt;
+			}
+		} catch (Exception e) {
+			// Redis 를 못 읽으면 지금 인덱스를 계속 쓴다
+			log.warn("토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+		}
+	}
+
+	private void apply(String verifyId, long notBefore) {
+		synchronized (indexLock) {
+			index.revokeMember(verifyId, notBefore);
+		}
+	}
+
+	public int size() {
+		return index.size();
+	}
+}
@@ -0,0 +1,37 @@
+package emp.emp.util.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰을 한 번 파싱한 결과. 검증에 성공하면 claims, 실패하면 실패 사유를 담는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerification {
+
+	public enum Failure {
+		EMPTY,             // 토큰 없음
+		EXPIRED,           // 만료
+		INVALID_SIGNATURE, // 서명 불일치
+		MALFORMED,         // 형식 오류
+		UNSUPPORTED        // 서명되지 않은 토큰 등 지원하지 않는 형식
+	}
+
+	private final Claims claims;
+	private final Failure failure;
+
+	public static TokenVerification verified(Claims claims) {
+		return new TokenVerification(claims, null);
+	}
+
+	public static TokenVerification failed(Failure failure) {
+		return new TokenVerification(null, failure);
+	}
+
+	public boolean isValid() {
+		return failure == null;
+	}
+}
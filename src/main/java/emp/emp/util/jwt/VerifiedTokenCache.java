@@ -0,0 +1,99 @@
+package emp.emp.util.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 마친 토큰의 claims 를 토큰 해시로 들고 있는 캐시.
+ * 같은 토큰으로 들어오는 요청은 HMAC 검증과 JSON 파싱 없이 claims 를 돌려준다.
+ *
+ * - 키는 토큰 전체의 SHA-256 이다. 서명 부분만 키로 쓰면 payload 를 바꾼 토큰이 캐시에 걸릴 수 있다.
+ * - 항목은 토큰 만료 시각(exp)과 maxTtlMillis 중 이른 쪽에 만료된다.
+ * - 요청마다 읽으므로 락 없이 읽는다. 가득 차면 만료된 항목을 먼저 지우고, 그래도 가득 차면 오래된 순서와 상관없이 일부를 비운다.
+ */
+public class VerifiedTokenCache {
+
+	private final int maxSize;
+	private final long maxTtlMillis;
+	private final LongSupplier clock;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	public VerifiedTokenCache(int maxSize, long maxTtlMillis) {
+		this(maxSize, maxTtlMillis, System::currentTimeMillis);
+	}
+
+	VerifiedTokenCache(int maxSize, long maxTtlMillis, LongSupplier clock) {
+		this.maxSize = maxSize;
+		this.maxTtlMillis = maxTtlMillis;
+		this.clock = clock;
+	}
+
+	public static String keyOf(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return 캐시에 있고 아직 만료되지 않은 claims, 없으면 null
+	 */
+	public Claims get(String key) {
+		Entry entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt <= clock.getAsLong()) {
+			entries.remove(key, entry);
+			return null;
+		}
+		return entry.claims;
+	}
+
+	public void put(String key, Claims claims) {
+		long now = clock.getAsLong();
+		long expiresAt = now + maxTtlMillis;
+		if (claims.getExpiration() != null) {
+			expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+		}
+		if (expiresAt <= now) {
+			return;
+		}
+		if (entries.size() >= maxSize) {
+			evict(now);
+		}
+		entries.put(key, new Entry(claims, expiresAt));
+	}
+
+	public void clear() {
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evict(long now) {
+		entries.values().removeIf(entry -> entry.expiresAt <= now);
+		// 만료된 항목이 없으면 1/4 정도를 비운다
+		Iterator<String> keys = entries.keySet().iterator();
+		int toRemove = entries.size() - maxSize * 3 / 4;
+		while (toRemove-- > 0 && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	private record Entry(Claims claims, long expiresAt) {
+	}
+}
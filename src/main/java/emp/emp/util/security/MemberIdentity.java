@@ -0,0 +1,24 @@
+package emp.emp.util.security;
+
+import emp.emp.member.entity.Member;
+import emp.emp.member.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 사이에 캐시해 두는 회원 식별 정보 (엔티티가 아니라서 트랜잭션 밖에서도 그대로 쓸 수 있다)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberIdentity {
+
+	private final Long id;
+	private final String verifyId;
+	private final Role role;
+	private final Long familyId; // 가족이 없으면 null
+
+	public static MemberIdentity from(Member member) {
+		return new MemberIdentity(member.getId(), member.getVerifyId(), member.getRole(),
+			member.getFamily() == null ? null : member.getFamily().getId());
+	}
+}
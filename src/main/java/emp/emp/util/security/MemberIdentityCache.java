@@ -0,0 +1,128 @@
+package emp.emp.util.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * verifyId → 회원 식별 정보(id, role, 가족) 캐시. 모든 요청이 같이 쓴다.
+ * 역할/프로필/가족이 바뀌면 evict 로 지운다. 트랜잭션 안에서 지우면 커밋 뒤에 한 번 더 지워서
+ * 커밋 전에 다른 요청이 옛 값을 다시 넣어둔 경우도 정리한다.
+ * role / 가족 id 는 권한 확인에 쓰이므로, 지운 사실을 (커밋 뒤에) pub/sub 으로 알려 다른 노드의 캐시에서도 지운다.
+ */
+@Slf4j
+@Component
+public class MemberIdentityCache implements MessageListener {
+
+	public static final String CHANNEL = "member-identity-evict";
+
+	private final int maxSize;
+	private final long ttlMillis;
+	private final LongSupplier clock;
+	private final StringRedisTemplate redisTemplate;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	@Autowired
+	public MemberIdentityCache(StringRedisTemplate redisTemplate,
+		@Value("${security.member-cache.max-size:10000}") int maxSize,
+		@Value("${security.member-cache.ttl-ms:600000}") long ttlMillis) {
+		this(redisTemplate, maxSize, ttlMillis, System::currentTimeMillis);
+	}
+
+	MemberIdentityCache(StringRedisTemplate redisTemplate, int maxSize, long ttlMillis, LongSupplier clock) {
+		this.redisTemplate = redisTemplate;
+		this.maxSize = maxSize;
+		this.ttlMillis = ttlMillis;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return 캐시에 있고 만료되지 않은 식별 정보, 없으면 null
+	 */
+	public MemberIdentity get(String verifyId) {
+		Entry entry = entries.get(verifyId);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt <= clock.getAsLong()) {
+			entries.remove(verifyId, entry);
+			return null;
+		}
+		return entry.identity;
+	}
+
+	public void put(MemberIdentity identity) {
+		if (maxSize <= 0) {
+			return;
+		}
+		long now = clock.getAsLong();
+		if (entries.size() >= maxSize) {
+			evictExpired(now);
+		}
+		entries.put(identity.getVerifyId(), new Entry(identity, now + ttlMillis));
+	}
+
+	public void evict(String verifyId) {
+		entries.remove(verifyId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					entries.remove(verifyId);
+					publish(verifyId);
+				}
+			});
+		} else {
+			publish(verifyId);
+		}
+	}
+
+	/**
+	 * 다른 노드에서 지운 회원 (verifyId). 자기가 보낸 메시지도 받지만 한 번 더 지울 뿐이다
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		entries.remove(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+
+	private void publish(String verifyId) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, verifyId);
+		} catch (DataAccessException e) {
+			// 이미 커밋된 뒤라 되돌릴 수 없다. 다른 노드는 TTL 이 지나면 새로 읽는다
+			log.warn("회원 캐시 삭제 알림 실패 [{}]: {}", verifyId, e.getMessage());
+		}
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evictExpired(long now) {
+		entries.values().removeIf(entry -> entry.expiresAt <= now);
+		// 그래도 가득 차 있으면 1/4 정도를 비운다
+		Iterator<String> keys = entries.keySet().iterator();
+		int toRemove = entries.size() - maxSize * 3 / 4;
+		while (toRemove-- > 0 && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	private record Entry(MemberIdentity identity, long expiresAt) {
+	}
+}
@@ -1,30 +1,112 @@
 package emp.emp.util.security;
 
+import java.util.Optional;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import emp.emp.auth.custom.CustomUserDetails;
 import emp.emp.auth.exception.AuthErrorCode;
 import emp.emp.exception.BusinessException;
 import emp.emp.member.entity.Member;
 import emp.emp.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class SecurityUtil {
 
+	// 한 요청 안에서 이미 불러온 회원을 담아두는 요청 속성 이름
+	private static final String CURRENT_MEMBER_ATTRIBUTE = SecurityUtil.class.getName() + ".currentMember";
+
 	private final MemberRepository memberRepository;
+	private final MemberIdentityCache memberIdentityCache;
+	private final EntityManager entityManager;
 
+	/**
+	 * 로그인한 회원 엔티티를 돌려준다.
+	 * 같은 요청 안에서는 한 번만 불러오고, 요청 사이에는 verifyId → id 캐시로 verifyId 조회 대신 PK 로 찾는다.
+	 *
+	 * @return 현재 회원
+	 */
 	public Member getCurrentMember() {
+		String verifyId = currentVerifyId();
+
+		// 같은 요청에서 불러온 엔티티가 아직 영속성 컨텍스트에 있으면 그대로 쓴다
+		RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		if (request != null
+			&& request.getAttribute(CURRENT_MEMBER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Member memo
+			&& verifyId.equals(memo.getVerifyId())
+			&& entityManager.contains(memo)) {
+			return memo;
+		}
+
+		Member member = loadMember(verifyId);
+		if (request != null) {
+			request.setAttribute(CURRENT_MEMBER_ATTRIBUTE, member, RequestAttributes.SCOPE_REQUEST);
+		}
+		return member;
+	}
+
+	/**
+	 * 로그인한 회원의 식별 정보 (id, role, 가족 id). 캐시에 있으면 DB 를 조회하지 않는다.
+	 *
+	 * @return 현재 회원 식별 정보
+	 */
+	public MemberIdentity getCurrentMemberIdentity() {
+		String verifyId = currentVerifyId();
+		MemberIdentity identity = memberIdentityCache.get(verifyId);
+		if (identity != null) {
+			return identity;
+		}
+		return MemberIdentity.from(getCurrentMember());
+	}
+
+	/**
+	 * 로그인한 회원의 참조(프록시). 연관관계로 저장하거나 회원 조건으로 조회하는 것처럼 id 만 필요할 때 쓴다.
+	 * 식별 정보가 캐시에 있으면 회원 조회 쿼리가 나가지 않는다 (id 외의 필드를 읽으면 그때 불러온다).
+	 *
+	 * @return 현재 회원 참조
+	 */
+	public Member getCurrentMemberReference() {
+		return memberRepository.getReferenceById(getCurrentMemberIdentity().getId());
+	}
+
+	/**
+	 * 역할/프로필/가족이 바뀐 회원의 캐시를 지운다 (현재 요청에서 불러둔 엔티티는 변경이 반영된 같은 객체라 그대로 둔다)
+	 *
+	 * @param verifyId 회원 verifyId
+	 */
+	public void evictMember(String verifyId) {
+		memberIdentityCache.evict(verifyId);
+	}
+
+	private Member loadMember(String verifyId) {
+		MemberIdentity identity = memberIdentityCache.get(verifyId);
+		if (identity != null) {
+			Optional<Member> byId = memberRepository.findById(identity.getId());
+			if (byId.isPresent() && verifyId.equals(byId.get().getVerifyId())) {
+				return byId.get();
+			}
+			// 탈퇴 등으로 id 가 더 이상 맞지 않으면 verifyId 로 다시 찾는다
+			memberIdentityCache.evict(verifyId);
+		}
+
+		Member member = memberRepository.findByVerifyId(verifyId)
+			.orElseThrow(() -> new BusinessException(AuthErrorCode.USER_NOT_FOUND));
+		memberIdentityCache.put(MemberIdentity.from(member));
+		return member;
+	}
+
+	private String currentVerifyId() {
 		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
 		if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
-			String verifyId = userDetails.getName();
-
-			return memberRepository.findByVerifyId(verifyId)
-				.orElseThrow(() -> new BusinessException(AuthErrorCode.USER_NOT_FOUND));
+			return userDetails.getName();
 		}
 
 		throw new BusinessException(AuthErrorCode.USER_NOT_FOUND);
@@ -0,0 +1,71 @@
+package emp.emp.auth.code;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryOneTimeCodeStoreTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final InMemoryOneTimeCodeStore store = new InMemoryOneTimeCodeStore(60_000L, now::get);
+
+	@Test
+	void codeRedeemsOnlyOnce() {
+		String code = store.issue(new LoginTokens("access", "refresh", "ROLE_USER"));
+		assertEquals(16, code.length());
+
+		LoginTokens tokens = store.redeem(code).orElseThrow();
+		assertEquals("access", tokens.getAccessToken());
+		assertEquals("refresh", tokens.getRefreshToken());
+		assertEquals("ROLE_USER", tokens.getRole());
+
+		assertTrue(store.redeem(code).isEmpty());
+	}
+
+	@Test
+	void expiredCodeIsRejected() {
+		String code = store.issue(new LoginTokens("access", "refresh", "ROLE_USER"));
+		now.addAndGet(60_000L);
+
+		assertTrue(store.redeem(code).isEmpty());
+	}
+
+	@Test
+	void concurrentRedeemGivesTokensOnce() throws Exception {
+		String code = store.issue(new LoginTokens("access", "refresh", "ROLE_SEMI_USER"));
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		CountDownLatch start = new CountDownLatch(1);
+
+		List<Future<Optional<LoginTokens>>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			results.add(pool.submit(() -> {
+				start.await();
+				return store.redeem(code);
+			}));
+		}
+		start.countDown();
+
+		int redeemed = 0;
+		for (Future<Optional<LoginTokens>> result : results) {
+			redeemed += result.get().isPresent() ? 1 : 0;
+		}
+		pool.shutdown();
+		assertEquals(1, redeemed);
+	}
+
+	@Test
+	void malformedPayloadIsIgnored() {
+		assertNull(LoginTokens.deserialize("access-only"));
+		assertEquals("ROLE_USER", LoginTokens.deserialize(
+			new LoginTokens("a.b.c", "d.e.f", "ROLE_USER").serialize()).getRole());
+	}
+}
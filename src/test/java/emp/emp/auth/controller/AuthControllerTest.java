@@ -6,7 +6,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.net.URI;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import emp.emp.auth.code.LoginTokens;
+import emp.emp.auth.code.OneTimeCodeStore;
 import emp.emp.auth.own.dto.LoginRequest;
 import emp.emp.auth.own.dto.RegisterRequest;
 import emp.emp.member.entity.Member;
@@ -49,6 +50,9 @@ class AuthControllerTest {
 	@Autowired
 	private StringRedisTemplate redisTemplate;
 
+	@Autowired
+	private OneTimeCodeStore oneTimeCodeStore;
+
 	@BeforeEach
 	public void setup() {
 		redisTemplate.getConnectionFactory().getConnection().flushDb();
@@ -148,20 +152,20 @@ class AuthControllerTest {
 	@DisplayName("임시 코드로 토큰 발급 성공 테스트")
 	@Transactional
 	void testTokenExchangeSuccess() throws Exception {
-		String tempCode = "temp123456789012"; // 16자리
-		Map<String, String> tokenData = Map.of(
-			"accessToken", "dummyAccessToken",
-			"refreshToken", "dummyRefreshToken"
-		);
-
-		String tokenDataJson = objectMapper.writeValueAsString(tokenData);
-		redisTemplate.opsForValue().set(tempCode, tokenDataJson, 5, TimeUnit.MINUTES);
+		String tempCode = oneTimeCodeStore.issue(
+			new LoginTokens("dummyAccessToken", "dummyRefreshToken", "ROLE_USER"));
 
 		mockMvc.perform(post("/api/token/exchange")
 				.param("code", tempCode))
 			.andExpect(status().isOk())
 			.andExpect(jsonPath("$.data.accessToken").value("dummyAccessToken"))
-			.andExpect(jsonPath("$.data.refreshToken").value("dummyRefreshToken"));
+			.andExpect(jsonPath("$.data.refreshToken").value("dummyRefreshToken"))
+			.andExpect(jsonPath("$.data.role").value("ROLE_USER"));
+
+		// 한 번 교환한 코드는 다시 쓸 수 없다
+		mockMvc.perform(post("/api/token/exchange")
+				.param("code", tempCode))
+			.andExpect(status().isBadRequest());
 	}
 
 	@Test
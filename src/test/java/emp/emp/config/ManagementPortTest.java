@@ -0,0 +1,66 @@
+package emp.emp.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import emp.emp.auth.oauth2.handler.OAuth2FailureHandler;
+import emp.emp.auth.oauth2.handler.OAuth2SuccessHandler;
+import emp.emp.auth.oauth2.service.CustomOAuth2UserService;
+import emp.emp.util.jwt.JwtTokenProvider;
+import emp.emp.util.jwt.TokenRevocationService;
+
+// 관리 포트에서는 토큰 없이 수집되고, 서비스 포트에서는 actuator 가 열리지 않는다
+// (@AutoConfigureObservability: 테스트에서 기본으로 꺼지는 prometheus 지표 수집을 켠다)
+@AutoConfigureObservability
+@SpringBootTest(classes = ManagementTestApplication.class,
+	webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+	properties = "management.server.port=0")
+class ManagementPortTest {
+
+	private final TestRestTemplate restTemplate = new TestRestTemplate();
+
+	@LocalServerPort
+	private int serverPort;
+
+	@LocalManagementPort
+	private int managementPort;
+
+	@MockitoBean
+	private CustomOAuth2UserService customOAuth2UserService;
+
+	@MockitoBean
+	private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+	@MockitoBean
+	private OAuth2FailureHandler oAuth2FailureHandler;
+
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	@MockitoBean
+	private TokenRevocationService tokenRevocationService;
+
+	@MockitoBean
+	private ClientRegistrationRepository clientRegistrationRepository;
+
+	@Test
+	void prometheusIsScrapedOnManagementPortOnly() {
+		ResponseEntity<String> management = restTemplate.getForEntity(
+			"http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+		assertEquals(HttpStatus.OK, management.getStatusCode());
+
+		ResponseEntity<String> service = restTemplate.getForEntity(
+			"http://localhost:" + serverPort + "/actuator/prometheus", String.class);
+		assertNotEquals(HttpStatus.OK, service.getStatusCode());
+	}
+}
@@ -0,0 +1,71 @@
+package emp.emp.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import emp.emp.auth.oauth2.handler.OAuth2FailureHandler;
+import emp.emp.auth.oauth2.handler.OAuth2SuccessHandler;
+import emp.emp.auth.oauth2.service.CustomOAuth2UserService;
+import emp.emp.util.jwt.JwtTokenProvider;
+import emp.emp.util.jwt.TokenRevocationService;
+
+/**
+ * actuator 전용 체인 확인. MockMvc 는 관리 포트의 별도 컨텍스트에 요청할 수 없으므로
+ * 관리 포트를 비워서 서비스와 같은 컨텍스트에 actuator 를 띄운다 (포트 분리는 ManagementPortTest).
+ * 테스트에서 기본으로 꺼지는 prometheus 지표 수집은 @AutoConfigureObservability 로 켠다.
+ */
+@AutoConfigureObservability
+@SpringBootTest(classes = ManagementTestApplication.class, properties = "management.server.port=")
+@AutoConfigureMockMvc
+class ManagementSecurityTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private CustomOAuth2UserService customOAuth2UserService;
+
+	@MockitoBean
+	private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+	@MockitoBean
+	private OAuth2FailureHandler oAuth2FailureHandler;
+
+	@MockitoBean
+	private JwtTokenProvider jwtTokenProvider;
+
+	@MockitoBean
+	private TokenRevocationService tokenRevocationService;
+
+	@MockitoBean
+	private ClientRegistrationRepository clientRegistrationRepository;
+
+	@Test
+	void anonymousPrometheusScrapeIsAllowed() throws Exception {
+		mockMvc.perform(get("/actuator/prometheus"))
+			.andExpect(status().isOk());
+		mockMvc.perform(get("/actuator/health"))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	void unexposedEndpointIsNotOpened() throws Exception {
+		mockMvc.perform(get("/actuator/env"))
+			.andExpect(status().is4xxClientError());
+	}
+
+	@Test
+	void serviceApiStillRequiresToken() throws Exception {
+		mockMvc.perform(get("/api/sessions"))
+			.andExpect(status().isUnauthorized());
+	}
+}
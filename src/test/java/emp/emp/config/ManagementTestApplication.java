@@ -0,0 +1,21 @@
+package emp.emp.config;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+// DB / Redis 없이 보안 설정과 actuator 만 띄우는 테스트용 애플리케이션
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+	DataSourceAutoConfiguration.class,
+	HibernateJpaAutoConfiguration.class,
+	RedisAutoConfiguration.class,
+	RedisRepositoriesAutoConfiguration.class
+})
+@Import({SecurityConfig.class, ManagementConfig.class})
+class ManagementTestApplication {
+}
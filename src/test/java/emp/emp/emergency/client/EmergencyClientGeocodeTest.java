@@ -0,0 +1,74 @@
+package emp.emp.emergency.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import emp.emp.emergency.cache.HospitalLocationCache;
+import emp.emp.emergency.cache.ReverseGeocodeCache;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.support.UpstreamCircuitBreakers;
+import emp.emp.emergency.support.UpstreamMetrics;
+import emp.emp.emergency.support.UpstreamQuotaBudgeter;
+import emp.emp.health.apiKey.ApiKeyProvider;
+
+// 좌표 조회 대기열이 가득 찼을 때 마감 시간까지 기다리지 않고 바로 locationPending 으로 응답하는지 확인
+class EmergencyClientGeocodeTest {
+
+    private EmergencyClient emergencyClient;
+
+    @BeforeEach
+    void setUp() {
+        // 모든 작업을 거절하는 좌표 조회 풀 (대기열이 가득 찬 상태)
+        ExecutorService saturated = mock(ExecutorService.class);
+        doThrow(new RejectedExecutionException("full")).when(saturated).execute(any());
+
+        emergencyClient = new EmergencyClient(mock(ApiKeyProvider.class), saturated,
+                mock(HospitalLocationCache.class), mock(ReverseGeocodeCache.class),
+                mock(ClientHttpRequestFactory.class), mock(UpstreamCircuitBreakers.class),
+                mock(UpstreamQuotaBudgeter.class), mock(UpstreamMetrics.class));
+        ReflectionTestUtils.setField(emergencyClient, "geocodeDeadlineMillis", 5_000L);
+    }
+
+    @Test
+    void rejectedLookupsArePendingWithoutWaitingForDeadline() {
+        List<EmergencyRoomDTO> rooms = List.of(room("서울병원"), room("강남병원"));
+
+        assertTimeout(Duration.ofSeconds(1), () -> emergencyClient.GetEmergencyRoomLocations(rooms));
+
+        assertTrue(rooms.stream().allMatch(EmergencyRoomDTO::isLocationPending));
+        assertEquals(0.0, rooms.get(0).getHospitalLatitude());
+    }
+
+    @Test
+    void rejectedStreamLookupsFailImmediatelyWithoutResolving() {
+        EmergencyRoomDTO room = room("서울병원");
+        room.setLocationPending(true);
+        List<EmergencyRoomDTO> resolved = new ArrayList<>();
+
+        List<CompletableFuture<EmergencyRoomDTO>> futures =
+                emergencyClient.StreamEmergencyRoomLocations(List.of(room), resolved::add);
+
+        assertTrue(futures.get(0).isCompletedExceptionally());
+        assertTrue(resolved.isEmpty());
+        assertTrue(room.isLocationPending());
+    }
+
+    private static EmergencyRoomDTO room(String name) {
+        EmergencyRoomDTO room = new EmergencyRoomDTO();
+        room.setHospitalName(name);
+        return room;
+    }
+}
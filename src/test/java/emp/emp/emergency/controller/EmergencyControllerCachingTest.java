@@ -0,0 +1,131 @@
+package emp.emp.emergency.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import emp.emp.emergency.dto.EmergencyAedDTO;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.service.EmergencyService;
+
+class EmergencyControllerCachingTest {
+
+    private static final Instant AS_OF = Instant.parse("2025-06-09T03:00:00Z");
+
+    private EmergencyService emergencyService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        emergencyService = mock(EmergencyService.class);
+        EmergencyController controller = new EmergencyController(emergencyService);
+        ReflectionTestUtils.setField(controller, "maxAgeSeconds", 5L);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        when(emergencyService.rankRooms(any(), anyString(), anyString(), anyInt(), any(), anyLong()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void roomReturns304ForSameSnapshotWithoutRanking() throws Exception {
+        when(emergencyService.getEmergencyRoomSnapshot(anyString(), anyString())).thenReturn(snapshot(AS_OF));
+
+        MvcResult first = mockMvc.perform(roomRequest())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5, private"))
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        assertTrue(eTag.startsWith("W/\""));
+
+        MvcResult second = mockMvc.perform(roomRequest().header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=5, private"))
+                .andReturn();
+        assertEquals(0, second.getResponse().getContentLength());
+        verify(emergencyService, times(1)).rankRooms(any(), anyString(), anyString(), anyInt(), any(), anyLong());
+    }
+
+    @Test
+    void roomKeepsArrayBodyAndSendsFreshnessInHeaders() throws Exception {
+        when(emergencyService.getEmergencyRoomSnapshot(anyString(), anyString())).thenReturn(snapshot(AS_OF).asStale());
+
+        mockMvc.perform(roomRequest())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(jsonPath("$[0].hospitalName").value("서울병원"))
+                // 좌표는 예전처럼 문자열
+                .andExpect(jsonPath("$[0].hospitalLatitude").value("37.5665"))
+                .andExpect(jsonPath("$[0].hospitalLongitude").value("126.978"))
+                .andExpect(header().string(EmergencyController.DATA_AS_OF_HEADER, AS_OF.toString()))
+                .andExpect(header().string(EmergencyController.DATA_STALE_HEADER, "true"))
+                .andExpect(header().exists(HttpHeaders.AGE));
+    }
+
+    @Test
+    void roomETagChangesWithSnapshotAndRequest() throws Exception {
+        when(emergencyService.getEmergencyRoomSnapshot(anyString(), anyString()))
+                .thenReturn(snapshot(AS_OF), snapshot(AS_OF.plusSeconds(30)), snapshot(AS_OF));
+
+        String eTag = mockMvc.perform(roomRequest()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 폴링으로 스냅샷이 바뀌면 다시 200
+        mockMvc.perform(roomRequest().header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+        // 스냅샷이 같아도 조회 조건이 다르면 200
+        mockMvc.perform(roomRequest().param("limit", "5").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void aedUsesSnapshotVersionOnlyWhenSnapshotIsReady() throws Exception {
+        when(emergencyService.getEmergencyAedInformation(anyString(), anyString(), anyInt(), anyDouble(), any()))
+                .thenReturn(List.of(new EmergencyAedDTO()));
+
+        // 스냅샷이 없으면 매번 API 결과라 ETag 를 붙이지 않는다
+        when(emergencyService.getAedSnapshotLoadedAt()).thenReturn(null);
+        mockMvc.perform(aedRequest())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        when(emergencyService.getAedSnapshotLoadedAt()).thenReturn(AS_OF);
+        String eTag = mockMvc.perform(aedRequest()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(aedRequest().header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(emergencyService, times(2)).getEmergencyAedInformation(anyString(), anyString(), anyInt(), anyDouble(), any());
+    }
+
+    private static MockHttpServletRequestBuilder roomRequest() {
+        return get("/api/emergency/room").param("userLatitude", "37.5665").param("userLongitude", "126.9780");
+    }
+
+    private static MockHttpServletRequestBuilder aedRequest() {
+        return get("/api/emergency/aed").param("userLatitude", "37.5665").param("userLongitude", "126.9780");
+    }
+
+    private static EmergencyRoomSnapshotDTO snapshot(Instant asOf) {
+        EmergencyRoomDTO room = new EmergencyRoomDTO();
+        room.setHospitalName("서울병원");
+        room.setEmergencyBedCount(3);
+        room.setHospitalLatitude(37.5665);
+        room.setHospitalLongitude(126.978);
+        return new EmergencyRoomSnapshotDTO("서울특별시", "중구", List.of(room), asOf);
+    }
+}
@@ -0,0 +1,103 @@
+package emp.emp.emergency.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class EmergencyXmlParserTest {
+
+    private static final String ROOM_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<response><header><resultCode>00</resultCode></header><body><items>"
+            + "<item><dutyName>서울대학교병원</dutyName><dutyTel3>02-2072-2473</dutyTel3><hpid>A1100017</hpid>"
+            + "<hvctayn>Y</hvctayn><hvec>12</hvec><hvmriayn>N</hvmriayn>"
+            + "<hvangioayn>Y</hvangioayn><hvventiayn>N</hvventiayn><hvoc>4</hvoc><hvicc>2</hvicc><hvncc>0</hvncc></item>"
+            + "<item><dutyName>국립중앙의료원</dutyName><hvec>-3</hvec><hvctayn>N</hvctayn><hvmriayn>Y</hvmriayn></item>"
+            + "<item><dutyName>강북삼성병원</dutyName><hvec></hvec></item>"
+            + "</items><totalCount>3</totalCount></body></response>";
+
+    private static final String AED_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<response><header><resultCode>00</resultCode></header><body><items>"
+            + "<item><buildPlace>1층 로비</buildPlace><clerkTel>02-000-0000</clerkTel><mfg>나눔테크</mfg>"
+            + "<monSttTme>0900</monSttTme><monEndTme>1800</monEndTme>"
+            + "<wgs84Lat>37.5663174</wgs84Lat><wgs84Lon>126.9779692</wgs84Lon></item>"
+            + "</items></body></response>";
+
+    private static final String HOSPITAL_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<response><header><resultCode>00</resultCode></header><body><items>"
+            + "<item><dutyAddr>서울특별시 종로구 대학로 101</dutyAddr><dutyName>서울대학교병원</dutyName>"
+            + "<dutyTel3>02-2072-2473</dutyTel3><hpid>A1100017</hpid>"
+            + "<wgs84Lat>37.57966</wgs84Lat><wgs84Lon>126.99896</wgs84Lon></item>"
+            + "<item><dutyName>좌표없는병원</dutyName><hpid>A1100099</hpid><wgs84Lat></wgs84Lat><wgs84Lon>0</wgs84Lon></item>"
+            + "</items></body></response>";
+
+    @Test
+    void parseEmergencyRooms() throws IOException {
+        List<EmergencyRoomDTO> rooms = EmergencyRoomXmlParser.parse(ROOM_XML);
+
+        assertEquals(3, rooms.size());
+
+        EmergencyRoomDTO first = rooms.get(0);
+        assertEquals("서울대학교병원", first.getHospitalName());
+        assertEquals("02-2072-2473", first.getHospitalTel());
+        assertEquals("A1100017", first.getHpid());
+        assertTrue(first.isCtAvailable());
+        assertFalse(first.isMriAvailable());
+        assertEquals(12, first.getEmergencyBedCount());
+        assertTrue(first.isAngiographyAvailable());
+        assertFalse(first.isVentilatorAvailable());
+        assertEquals(4, first.getOperatingRoomCount());
+        assertEquals(2, first.getIcuBedCount());
+        assertEquals(0, first.getNeonatalIcuBedCount());
+        assertEquals(0.0, first.getHospitalLatitude());
+
+        assertEquals(-3, rooms.get(1).getEmergencyBedCount());
+        assertTrue(rooms.get(1).isMriAvailable());
+        // 값이 비어있으면 0, 없는 태그는 빈 문자열
+        assertEquals(0, rooms.get(2).getEmergencyBedCount());
+        assertEquals("", rooms.get(2).getHospitalTel());
+    }
+
+    @Test
+    void parseEmergencyAeds() throws IOException {
+        List<EmergencyAedDTO> aeds = EmergencyAedXmlParser.parse(AED_XML);
+
+        assertEquals(1, aeds.size());
+        EmergencyAedDTO aed = aeds.get(0);
+        assertEquals("37.5663174", aed.getAedLatitude());
+        assertEquals("126.9779692", aed.getAedLongitude());
+        assertEquals("나눔테크", aed.getInstallationOrg());
+        assertEquals("1층 로비", aed.getBuildPlace());
+        assertEquals("0900", aed.getMondayStartDay());
+        assertEquals("", aed.getSundayStartDay());
+    }
+
+    @Test
+    void parseHospitalBasicInfo() throws IOException {
+        List<HospitalBasicInfoDTO> hospitals = HospitalBasicInfoXmlParser.parse(HOSPITAL_XML);
+
+        assertEquals(2, hospitals.size());
+        HospitalBasicInfoDTO first = hospitals.get(0);
+        assertEquals("A1100017", first.getHpid());
+        assertEquals("서울대학교병원", first.getDutyName());
+        assertEquals(37.57966, first.getLatitude());
+        assertEquals(126.99896, first.getLongitude());
+        assertTrue(first.isValid());
+        // 좌표가 비어 있거나 0 이면 레지스트리에 넣지 않는다
+        assertFalse(hospitals.get(1).isValid());
+    }
+
+    @Test
+    void emptyBodyReturnsEmptyList() throws IOException {
+        String xml = "<response><header><resultCode>03</resultCode></header><body><items/></body></response>";
+        assertTrue(EmergencyRoomXmlParser.parse(xml).isEmpty());
+        assertTrue(EmergencyAedXmlParser.parse(xml).isEmpty());
+    }
+
+    @Test
+    void malformedXmlThrowsIOException() {
+        assertThrows(IOException.class, () -> EmergencyRoomXmlParser.parse("<response><item><dutyName>"));
+    }
+}
@@ -0,0 +1,124 @@
+package emp.emp.emergency.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import emp.emp.emergency.dto.EmergencyAedDTO;
+import emp.emp.emergency.util.AedOpeningHours;
+import emp.emp.emergency.util.GeoDistance;
+
+class AedSpatialIndexTest {
+
+    @Test
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+        List<EmergencyAedDTO> aeds = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            // 대한민국 범위 안의 임의 좌표
+            aeds.add(aed(33.0 + random.nextDouble() * 5.5, 125.0 + random.nextDouble() * 4.5));
+        }
+        AedSpatialIndex index = AedSpatialIndex.build(aeds, Instant.now());
+
+        for (int q = 0; q < 200; q++) {
+            double lat = 33.0 + random.nextDouble() * 5.5;
+            double lng = 125.0 + random.nextDouble() * 4.5;
+            double radiusKm = 5 + random.nextDouble() * 30;
+
+            List<EmergencyAedDTO> expected = aeds.stream()
+                .filter(aed -> distance(lat, lng, aed) <= radiusKm)
+                .sorted(Comparator.comparingDouble(aed -> distance(lat, lng, aed)))
+                .limit(7)
+                .toList();
+
+            assertEquals(expected, index.nearest(lat, lng, 7, radiusKm));
+        }
+    }
+
+    @Test
+    void skipsInvalidCoordinates() {
+        EmergencyAedDTO valid = aed(37.5663, 126.9779);
+        EmergencyAedDTO blank = new EmergencyAedDTO();
+        blank.setAedLatitude("");
+        blank.setAedLongitude("");
+        EmergencyAedDTO zero = aed(0.0, 0.0);
+
+        AedSpatialIndex index = AedSpatialIndex.build(List.of(valid, blank, zero), Instant.now());
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(valid), index.nearest(37.5665, 126.9780, 10, 1.0));
+        assertTrue(index.nearest(35.1796, 129.0756, 10, 1.0).isEmpty());
+    }
+
+    @Test
+    void nearestWithOpeningTimeMatchesBruteForce() {
+        Random random = new Random(7);
+        List<EmergencyAedDTO> aeds = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            EmergencyAedDTO aed = aed(37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4);
+            // 절반은 평일 09~18시, 나머지는 매일 24시간
+            if (random.nextBoolean()) {
+                aed.setMondayStartDay("0900");
+                aed.setMondayEndDay("1800");
+                aed.setTuesdayStartDay("0900");
+                aed.setTuesdayEndDay("1800");
+            } else {
+                setEveryDay(aed, "0000", "2400");
+            }
+            aeds.add(aed);
+        }
+        AedSpatialIndex index = AedSpatialIndex.build(aeds, Instant.now());
+        // 2025-06-09 은 월요일
+        LocalDateTime mondayNight = LocalDateTime.of(2025, 6, 9, 22, 0);
+        LocalDateTime mondayNoon = LocalDateTime.of(2025, 6, 9, 12, 0);
+
+        for (LocalDateTime at : List.of(mondayNight, mondayNoon)) {
+            List<EmergencyAedDTO> expected = aeds.stream()
+                    .filter(aed -> AedOpeningHours.isOpen(aed, at))
+                    .filter(aed -> distance(37.5665, 126.9780, aed) <= 5.0)
+                    .sorted(Comparator.comparingDouble(aed -> distance(37.5665, 126.9780, aed)))
+                    .limit(10)
+                    .toList();
+
+            assertEquals(expected, index.nearest(37.5665, 126.9780, 10, 5.0, AedOpeningHours.minuteOfWeek(at)));
+        }
+        assertTrue(index.nearest(37.5665, 126.9780, 10, 5.0, AedOpeningHours.minuteOfWeek(mondayNight)).stream()
+                .allMatch(aed -> "0000".equals(aed.getSundayStartDay())));
+    }
+
+    private static void setEveryDay(EmergencyAedDTO aed, String start, String end) {
+        aed.setMondayStartDay(start);
+        aed.setMondayEndDay(end);
+        aed.setTuesdayStartDay(start);
+        aed.setTuesdayEndDay(end);
+        aed.setWednesdayStartDay(start);
+        aed.setWednesdayEndDay(end);
+        aed.setThursdayStartDay(start);
+        aed.setThursdayEndDay(end);
+        aed.setFridayStartDay(start);
+        aed.setFridayEndDay(end);
+        aed.setSaturdayStartDay(start);
+        aed.setSaturdayEndDay(end);
+        aed.setSundayStartDay(start);
+        aed.setSundayEndDay(end);
+    }
+
+    private static EmergencyAedDTO aed(double lat, double lng) {
+        EmergencyAedDTO aed = new EmergencyAedDTO();
+        aed.setAedLatitude(String.valueOf(lat));
+        aed.setAedLongitude(String.valueOf(lng));
+        return aed;
+    }
+
+    private static double distance(double lat, double lng, EmergencyAedDTO aed) {
+        return GeoDistance.haversineKm(lat, lng,
+            Double.parseDouble(aed.getAedLatitude()), Double.parseDouble(aed.getAedLongitude()));
+    }
+}
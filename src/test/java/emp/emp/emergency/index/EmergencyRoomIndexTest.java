@@ -0,0 +1,132 @@
+package emp.emp.emergency.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.enums.EmergencyCapability;
+import emp.emp.emergency.util.GeoDistance;
+
+class EmergencyRoomIndexTest {
+
+    @Test
+    void returnsNearestRoomsHavingEveryRequiredCapability() {
+        Random random = new Random(11);
+        List<EmergencyRoomDTO> rooms = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            EmergencyRoomDTO room = room("병원" + i, 37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4);
+            room.setEmergencyBedCount(random.nextInt(3));
+            room.setCtAvailable(random.nextBoolean());
+            room.setMriAvailable(random.nextBoolean());
+            rooms.add(room);
+        }
+        double lat = 37.5665;
+        double lng = 126.9780;
+        long required = EmergencyCapability.parseMask("emergency_bed, CT");
+
+        List<EmergencyRoomDTO> ranked = EmergencyRoomIndex.build(rooms).nearest(lat, lng, 5, required, null);
+
+        List<Double> expected = rooms.stream()
+                .filter(room -> room.getEmergencyBedCount() > 0 && room.isCtAvailable())
+                .map(room -> GeoDistance.haversineKm(lat, lng, room.getHospitalLatitude(), room.getHospitalLongitude()))
+                .sorted(Comparator.naturalOrder())
+                .limit(5)
+                .toList();
+        assertEquals(expected.size(), ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            EmergencyRoomDTO room = ranked.get(i);
+            assertEquals(expected.get(i), room.getDistanceKm(), 1e-9);
+            assertTrue(room.getEmergencyBedCount() > 0 && room.isCtAvailable());
+        }
+    }
+
+    @Test
+    void returnsNearestFirstWithinLimitAndRadius() {
+        Random random = new Random(7);
+        List<EmergencyRoomDTO> rooms = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            rooms.add(room("병원" + i, 37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4));
+        }
+        double lat = 37.5665;
+        double lng = 126.9780;
+
+        List<EmergencyRoomDTO> ranked = EmergencyRoomIndex.build(rooms).nearest(lat, lng, 10, 0L, 8.0);
+
+        List<Double> expected = rooms.stream()
+                .map(room -> GeoDistance.haversineKm(lat, lng, room.getHospitalLatitude(), room.getHospitalLongitude()))
+                .filter(distance -> distance <= 8.0)
+                .sorted(Comparator.naturalOrder())
+                .limit(10)
+                .toList();
+        assertEquals(expected.size(), ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            assertEquals(expected.get(i), ranked.get(i).getDistanceKm(), 1e-9);
+        }
+        // 원본 스냅샷 DTO 에는 거리를 쓰지 않는다
+        assertTrue(rooms.stream().allMatch(room -> room.getDistanceKm() == null));
+    }
+
+    @Test
+    void roomsWithoutCoordinatesGoLastOnlyWithoutRadius() {
+        EmergencyRoomDTO pending = room("조회중", 0.0, 0.0);
+        pending.setLocationPending(true);
+        EmergencyRoomIndex index = EmergencyRoomIndex.build(
+                List.of(pending, room("가까운", 37.5665, 126.9790), room("먼", 37.60, 127.05)));
+
+        List<EmergencyRoomDTO> all = index.nearest(37.5665, 126.9780, 10, 0L, null);
+        assertEquals(List.of("가까운", "먼", "조회중"), all.stream().map(EmergencyRoomDTO::getHospitalName).toList());
+        assertNull(all.get(2).getDistanceKm());
+
+        List<EmergencyRoomDTO> near = index.nearest(37.5665, 126.9780, 10, 0L, 1.0);
+        assertEquals(List.of("가까운"), near.stream().map(EmergencyRoomDTO::getHospitalName).toList());
+    }
+
+    @Test
+    void unlocatedRoomsAreFilteredToo() {
+        EmergencyRoomDTO pendingWithCt = room("조회중CT", 0.0, 0.0);
+        pendingWithCt.setLocationPending(true);
+        pendingWithCt.setCtAvailable(true);
+        EmergencyRoomDTO pendingWithoutCt = room("조회중", 0.0, 0.0);
+        pendingWithoutCt.setLocationPending(true);
+        EmergencyRoomDTO near = room("가까운CT", 37.5665, 126.9790);
+        near.setCtAvailable(true);
+        EmergencyRoomIndex index = EmergencyRoomIndex.build(
+                List.of(pendingWithoutCt, pendingWithCt, near, room("먼", 37.60, 127.05)));
+
+        List<EmergencyRoomDTO> result = index.nearest(37.5665, 126.9780, 10, EmergencyCapability.CT.bit(), null);
+        assertEquals(List.of("가까운CT", "조회중CT"), result.stream().map(EmergencyRoomDTO::getHospitalName).toList());
+
+        assertEquals(List.of("조회중CT", "가까운CT"),
+                index.matching(10, EmergencyCapability.CT.bit()).stream().map(EmergencyRoomDTO::getHospitalName).toList());
+        assertEquals(4, index.matching(10, 0L).size());
+    }
+
+    @Test
+    void capabilityBitsCoverParsedFields() {
+        EmergencyRoomDTO room = room("병원", 37.5, 127.0);
+        room.setOperatingRoomCount(1);
+        room.setNeonatalIcuBedCount(2);
+        room.setVentilatorAvailable(true);
+
+        long bits = EmergencyCapability.of(room);
+
+        assertEquals(EmergencyCapability.OPERATING_ROOM.bit() | EmergencyCapability.NEONATAL_ICU.bit()
+                | EmergencyCapability.VENTILATOR.bit(), bits);
+        assertEquals(0L, EmergencyCapability.parseMask(" "));
+        assertThrows(IllegalArgumentException.class, () -> EmergencyCapability.parseMask("ct,helipad"));
+    }
+
+    private static EmergencyRoomDTO room(String name, double latitude, double longitude) {
+        EmergencyRoomDTO room = new EmergencyRoomDTO();
+        room.setHospitalName(name);
+        room.setHospitalLatitude(latitude);
+        room.setHospitalLongitude(longitude);
+        return room;
+    }
+}
@@ -0,0 +1,114 @@
+package emp.emp.emergency.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.dto.UserLocationDTO;
+import emp.emp.emergency.support.CircuitOpenException;
+
+class EmergencyRoomSnapshotServiceTest {
+
+    private final UserLocationDTO gangnam = new UserLocationDTO("서울특별시", "강남구");
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    private EmergencyClient emergencyClient;
+    private EmergencyRoomSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        emergencyClient = mock(EmergencyClient.class);
+        snapshotService = new EmergencyRoomSnapshotService(emergencyClient, mock(HospitalRegistryService.class), 100,
+                now::get);
+        ReflectionTestUtils.setField(snapshotService, "regionIdleMillis", 600_000L);
+        ReflectionTestUtils.setField(snapshotService, "lastGoodTtlMillis", 3_600_000L);
+    }
+
+    @Test
+    void failedPollKeepsLastSnapshotMarkedStale() throws IOException {
+        when(emergencyClient.GetEmergencyRoomBedsApi(any()))
+                .thenReturn(List.of(new EmergencyRoomDTO()))
+                .thenThrow(new CircuitOpenException("public-data"));
+
+        EmergencyRoomSnapshotDTO fresh = snapshotService.getSnapshot(gangnam);
+        assertFalse(fresh.isStale());
+
+        snapshotService.pollActiveRegions();
+
+        EmergencyRoomSnapshotDTO stale = snapshotService.getSnapshot(gangnam);
+        assertTrue(stale.isStale());
+        assertEquals(fresh.getAsOf(), stale.getAsOf());
+        assertEquals(1, stale.getRooms().size());
+    }
+
+    @Test
+    void evictedRegionFallsBackToLastGoodSnapshot() throws IOException {
+        when(emergencyClient.GetEmergencyRoomBedsApi(any()))
+                .thenReturn(List.of(new EmergencyRoomDTO()))
+                .thenThrow(new IOException("timeout"));
+        snapshotService.getSnapshot(gangnam);
+
+        // 요청이 끊겨 폴링 대상에서 빠진 뒤 장애 중에 다시 요청
+        ReflectionTestUtils.setField(snapshotService, "regionIdleMillis", -1L);
+        snapshotService.pollActiveRegions();
+        assertEquals(0, snapshotService.activeRegionCount());
+
+        EmergencyRoomSnapshotDTO snapshot = snapshotService.getSnapshot(gangnam);
+        assertTrue(snapshot.isStale());
+        assertEquals(1, snapshot.getRooms().size());
+    }
+
+    @Test
+    void failureWithoutAnyDataIsPropagated() throws IOException {
+        when(emergencyClient.GetEmergencyRoomBedsApi(any())).thenThrow(new IOException("timeout"));
+
+        assertThrows(IOException.class, () -> snapshotService.getSnapshot(gangnam));
+    }
+
+    @Test
+    void snapshotPastLastGoodTtlIsNotServedWhenPollFails() throws IOException {
+        when(emergencyClient.GetEmergencyRoomBedsApi(any()))
+                .thenReturn(List.of(new EmergencyRoomDTO()))
+                .thenThrow(new CircuitOpenException("public-data"));
+        snapshotService.getSnapshot(gangnam);
+
+        // 폴링 대상에서는 빠지지 않은 채로 TTL 이 지남
+        ReflectionTestUtils.setField(snapshotService, "regionIdleMillis", 7_200_000L);
+        now.addAndGet(3_600_000L);
+        snapshotService.pollActiveRegions();
+        assertEquals(1, snapshotService.activeRegionCount());
+
+        assertTrue(snapshotService.findSnapshot(gangnam).isEmpty());
+        assertThrows(IOException.class, () -> snapshotService.getSnapshot(gangnam));
+        // 처음 조회 + 폴링 + 동기 재조회
+        verify(emergencyClient, times(3)).GetEmergencyRoomBedsApi(any());
+    }
+
+    @Test
+    void expiredSnapshotIsReloadedSynchronously() throws IOException {
+        when(emergencyClient.GetEmergencyRoomBedsApi(any()))
+                .thenReturn(List.of(new EmergencyRoomDTO()))
+                .thenReturn(List.of(new EmergencyRoomDTO(), new EmergencyRoomDTO()));
+        EmergencyRoomSnapshotDTO first = snapshotService.getSnapshot(gangnam);
+
+        // 폴링 없이 TTL 이 지난 경우
+        now.addAndGet(3_600_000L);
+
+        EmergencyRoomSnapshotDTO reloaded = snapshotService.getSnapshot(gangnam);
+        assertFalse(reloaded.isStale());
+        assertEquals(2, reloaded.getRooms().size());
+        assertTrue(reloaded.getAsOf().isAfter(first.getAsOf()));
+    }
+}
@@ -0,0 +1,120 @@
+package emp.emp.emergency.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.dto.UserLocationDTO;
+
+class EmergencyServiceCoalescingTest {
+
+    private static final int CALLERS = 16;
+
+    private EmergencyClient emergencyClient;
+    private EmergencyRoomSnapshotService snapshotService;
+    private EmergencyService emergencyService;
+    private ExecutorService pool;
+    // 호출자가 모두 요청에 들어왔는지 (시군구 조회 직후 같은 지역 요청에 합류한다)
+    private CountDownLatch entered;
+    private final Queue<Thread> callers = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        emergencyClient = mock(EmergencyClient.class);
+        snapshotService = mock(EmergencyRoomSnapshotService.class);
+        pool = Executors.newFixedThreadPool(CALLERS);
+        emergencyService = new EmergencyService(emergencyClient, mock(AedSnapshotService.class), snapshotService,
+                mock(HospitalRegistryService.class), pool, pool);
+
+        entered = new CountDownLatch(CALLERS);
+        when(emergencyClient.GetUserLocation(anyString(), anyString())).thenAnswer(invocation -> {
+            callers.add(Thread.currentThread());
+            entered.countDown();
+            return new UserLocationDTO("서울특별시", "강남구");
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsForSameRegionShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        EmergencyRoomSnapshotDTO snapshot = new EmergencyRoomSnapshotDTO("서울특별시", "강남구", List.of(), Instant.now());
+        when(snapshotService.getSnapshot(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            awaitOtherCallersJoined();
+            return snapshot;
+        });
+
+        List<Future<EmergencyRoomSnapshotDTO>> results = submitAll();
+
+        for (Future<EmergencyRoomSnapshotDTO> result : results) {
+            assertSame(snapshot, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void upstreamFailureIsDeliveredToEveryWaiterAndNotCached() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(snapshotService.getSnapshot(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            awaitOtherCallersJoined();
+            throw new IOException("upstream down");
+        });
+
+        List<Future<EmergencyRoomSnapshotDTO>> results = submitAll();
+
+        for (Future<EmergencyRoomSnapshotDTO> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IOException.class, e.getCause());
+        }
+        assertEquals(1, upstreamCalls.get());
+
+        // 실패한 결과는 남지 않으므로 다음 요청은 다시 upstream 을 호출한다
+        assertThrows(IOException.class, () -> emergencyService.getEmergencyRoomSnapshot("37.5", "127.0"));
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    // 호출자가 모두 들어오고, 나머지 호출자가 진행 중인 요청의 결과를 기다리는 상태가 될 때까지 upstream 응답을 막아둔다
+    private void awaitOtherCallersJoined() throws InterruptedException {
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread caller : callers) {
+            while (caller != Thread.currentThread() && caller.getState() != Thread.State.WAITING) {
+                assertTrue(System.nanoTime() < deadline, "합류하지 않은 호출자: " + caller.getName());
+                Thread.yield();
+            }
+        }
+    }
+
+    private List<Future<EmergencyRoomSnapshotDTO>> submitAll() {
+        List<Future<EmergencyRoomSnapshotDTO>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(pool.submit(() -> emergencyService.getEmergencyRoomSnapshot("37.5", "127.0")));
+        }
+        return results;
+    }
+}
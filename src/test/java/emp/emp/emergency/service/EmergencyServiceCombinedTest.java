@@ -0,0 +1,110 @@
+package emp.emp.emergency.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.CombinedEmergencyResponseDTO;
+import emp.emp.emergency.dto.EmergencyAedDTO;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.dto.UserLocationDTO;
+import emp.emp.emergency.enums.SectionStatus;
+
+class EmergencyServiceCombinedTest {
+
+    private EmergencyClient emergencyClient;
+    private EmergencyRoomSnapshotService snapshotService;
+    private EmergencyService emergencyService;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        emergencyClient = mock(EmergencyClient.class);
+        snapshotService = mock(EmergencyRoomSnapshotService.class);
+        pool = Executors.newFixedThreadPool(4);
+        emergencyService = new EmergencyService(emergencyClient, mock(AedSnapshotService.class), snapshotService,
+                mock(HospitalRegistryService.class), pool, pool);
+        ReflectionTestUtils.setField(emergencyService, "combinedDeadlineMillis", 1000L);
+
+        when(emergencyClient.GetUserLocation(anyString(), anyString()))
+                .thenReturn(new UserLocationDTO("서울특별시", "중구"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void branchesRunConcurrently() throws IOException {
+        when(snapshotService.getSnapshot(any())).thenAnswer(invocation -> {
+            Thread.sleep(400);
+            return snapshot();
+        });
+        when(emergencyClient.GetEmergencyAedInformationApi(any())).thenAnswer(invocation -> {
+            Thread.sleep(400);
+            return List.of(new EmergencyAedDTO());
+        });
+
+        long started = System.nanoTime();
+        CombinedEmergencyResponseDTO result = emergencyService.getCombinedEmergencyInfo("37.56", "126.97");
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(SectionStatus.OK, result.getEmergencyRoomStatus());
+        assertEquals(SectionStatus.OK, result.getAedStatus());
+        assertEquals(1, result.getEmergencyRooms().size());
+        assertEquals(1, result.getAedLocations().size());
+        // 순서대로 호출했다면 800ms 이상 걸린다
+        assertTrue(elapsedMillis < 750, "elapsed " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void failedBranchKeepsTheOtherSection() throws IOException {
+        when(snapshotService.getSnapshot(any())).thenReturn(snapshot());
+        when(emergencyClient.GetEmergencyAedInformationApi(any())).thenThrow(new IOException("upstream down"));
+
+        CombinedEmergencyResponseDTO result = emergencyService.getCombinedEmergencyInfo("37.56", "126.97");
+
+        assertEquals(SectionStatus.OK, result.getEmergencyRoomStatus());
+        assertEquals(1, result.getEmergencyRooms().size());
+        assertEquals(SectionStatus.FAILED, result.getAedStatus());
+        assertTrue(result.getAedLocations().isEmpty());
+        assertFalse(result.isEmpty());
+    }
+
+    @Test
+    void slowBranchTimesOutAtTheDeadline() throws IOException {
+        ReflectionTestUtils.setField(emergencyService, "combinedDeadlineMillis", 200L);
+        when(snapshotService.getSnapshot(any())).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return snapshot();
+        });
+        when(emergencyClient.GetEmergencyAedInformationApi(any())).thenReturn(List.of(new EmergencyAedDTO()));
+
+        long started = System.nanoTime();
+        CombinedEmergencyResponseDTO result = emergencyService.getCombinedEmergencyInfo("37.56", "126.97");
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(SectionStatus.TIMEOUT, result.getEmergencyRoomStatus());
+        assertNull(result.getEmergencyRoomsAsOf());
+        assertEquals(SectionStatus.OK, result.getAedStatus());
+        assertTrue(elapsedMillis < 1000, "elapsed " + elapsedMillis + "ms");
+    }
+
+    private static EmergencyRoomSnapshotDTO snapshot() {
+        return new EmergencyRoomSnapshotDTO("서울특별시", "중구", List.of(new EmergencyRoomDTO()), Instant.now());
+    }
+}
@@ -0,0 +1,208 @@
+package emp.emp.emergency.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.controller.EmergencyController;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.dto.UserLocationDTO;
+
+class EmergencyServiceStreamTest {
+
+    private EmergencyClient emergencyClient;
+    private EmergencyRoomSnapshotService snapshotService;
+    private HospitalRegistryService hospitalRegistryService;
+    private ExecutorService pool;
+    private ExecutorService combinedExecutor;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        emergencyClient = mock(EmergencyClient.class);
+        snapshotService = mock(EmergencyRoomSnapshotService.class);
+        hospitalRegistryService = mock(HospitalRegistryService.class);
+        pool = Executors.newFixedThreadPool(4);
+        // 스트림은 전용 풀에서만 돈다 (통합 조회 풀은 쓰지 않음)
+        combinedExecutor = mock(ExecutorService.class);
+        EmergencyService emergencyService = new EmergencyService(emergencyClient, mock(AedSnapshotService.class),
+                snapshotService, hospitalRegistryService, combinedExecutor, pool);
+        ReflectionTestUtils.setField(emergencyService, "streamDeadlineMillis", 500L);
+        mockMvc = MockMvcBuilders.standaloneSetup(new EmergencyController(emergencyService)).build();
+
+        when(emergencyClient.GetUserLocation(anyString(), anyString()))
+                .thenReturn(new UserLocationDTO("서울특별시", "중구"));
+        // 기본은 레지스트리가 비어 있어서 모든 병원을 키워드 검색
+        when(hospitalRegistryService.attachCoordinates(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void hospitalsAreSentAsTheirCoordinatesResolve() throws Exception {
+        when(snapshotService.findSnapshot(any())).thenReturn(Optional.empty());
+        when(emergencyClient.GetEmergencyRoomBedsApi(any()))
+                .thenReturn(List.of(room("빠른병원"), room("느린병원"), room("응답없는병원")));
+        List<EmergencyRoomDTO> geocoded = new ArrayList<>();
+        when(emergencyClient.StreamEmergencyRoomLocations(anyList(), any())).thenAnswer(invocation -> {
+            List<EmergencyRoomDTO> rooms = invocation.getArgument(0);
+            geocoded.addAll(rooms);
+            Consumer<EmergencyRoomDTO> onResolved = invocation.getArgument(1);
+            List<CompletableFuture<EmergencyRoomDTO>> futures = new ArrayList<>();
+            futures.add(CompletableFuture.completedFuture(resolve(rooms.get(0), 37.56, 126.98, onResolved)));
+            futures.add(CompletableFuture.supplyAsync(() -> resolve(rooms.get(1), 37.57, 126.99, onResolved),
+                    CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS)));
+            // 마감 시간 안에 끝나지 않는 병원
+            futures.add(new CompletableFuture<>());
+            return futures;
+        });
+
+        String body = stream();
+
+        assertInOrder(body, "event:region", "event:beds", "event:hospital", "빠른병원", "event:hospital", "느린병원", "event:done");
+        assertTrue(body.contains("\"status\":\"TIMEOUT\""), body);
+        assertTrue(body.contains("\"resolved\":2"), body);
+        assertTrue(body.contains("\"pending\":1"), body);
+        // 받아온 결과는 다음 요청을 위해 스냅샷으로 저장. 좌표 조회 콜백이 고치는 DTO 가 아니라 복사본으로
+        ArgumentCaptor<List<EmergencyRoomDTO>> offered = ArgumentCaptor.captor();
+        verify(snapshotService).offer(any(), offered.capture(), any());
+        List<EmergencyRoomDTO> snapshotRooms = offered.getValue();
+        assertEquals(3, snapshotRooms.size());
+        snapshotRooms.forEach(room -> assertTrue(geocoded.stream().noneMatch(original -> original == room)));
+        assertEquals(37.56, snapshotRooms.get(0).getHospitalLatitude());
+        assertFalse(snapshotRooms.get(0).isLocationPending());
+        // 마감 시간 안에 끝나지 않은 병원은 좌표 없이 locationPending
+        assertTrue(snapshotRooms.get(2).isLocationPending());
+        assertEquals(0.0, snapshotRooms.get(2).getHospitalLatitude());
+        verifyNoInteractions(combinedExecutor);
+    }
+
+    @Test
+    void registryHospitalsAreSentWithBedsAndOnlyTheRestAreGeocoded() throws Exception {
+        when(snapshotService.findSnapshot(any())).thenReturn(Optional.empty());
+        when(emergencyClient.GetEmergencyRoomBedsApi(any()))
+                .thenReturn(List.of(room("레지스트리병원"), room("신규병원")));
+        when(hospitalRegistryService.attachCoordinates(anyList())).thenAnswer(invocation -> {
+            List<EmergencyRoomDTO> rooms = invocation.getArgument(0);
+            rooms.get(0).setHospitalLatitude(37.56);
+            rooms.get(0).setHospitalLongitude(126.98);
+            rooms.get(0).setLocationPending(false);
+            return List.of(rooms.get(1));
+        });
+        when(emergencyClient.StreamEmergencyRoomLocations(anyList(), any())).thenAnswer(invocation -> {
+            List<EmergencyRoomDTO> rooms = invocation.getArgument(0);
+            Consumer<EmergencyRoomDTO> onResolved = invocation.getArgument(1);
+            assertEquals(1, rooms.size());
+            return List.of(CompletableFuture.completedFuture(resolve(rooms.get(0), 37.57, 126.99, onResolved)));
+        });
+
+        String body = stream();
+
+        assertInOrder(body, "event:beds", "레지스트리병원", "\"locationPending\":false", "event:hospital", "신규병원", "event:done");
+        assertTrue(body.contains("\"status\":\"OK\""), body);
+        assertTrue(body.contains("\"resolved\":2"), body);
+    }
+
+    @Test
+    void cachedSnapshotIsSentInOneBedsEvent() throws Exception {
+        EmergencyRoomDTO cached = room("스냅샷병원");
+        cached.setHospitalLatitude(37.56);
+        cached.setHospitalLongitude(126.98);
+        when(snapshotService.findSnapshot(any())).thenReturn(Optional.of(
+                new EmergencyRoomSnapshotDTO("서울특별시", "중구", List.of(cached), Instant.now())));
+
+        String body = stream();
+
+        assertInOrder(body, "event:region", "event:beds", "스냅샷병원", "event:done");
+        assertFalse(body.contains("event:hospital"), body);
+        assertTrue(body.contains("\"status\":\"OK\""), body);
+        verify(emergencyClient, never()).GetEmergencyRoomBedsApi(any());
+    }
+
+    @Test
+    void upstreamFailureEndsWithFailedStatus() throws Exception {
+        when(snapshotService.findSnapshot(any())).thenReturn(Optional.empty());
+        when(emergencyClient.GetEmergencyRoomBedsApi(any())).thenThrow(new IOException("upstream down"));
+
+        String body = stream();
+
+        assertInOrder(body, "event:region", "event:done");
+        assertTrue(body.contains("\"status\":\"FAILED\""), body);
+    }
+
+    @Test
+    void locationLookupFailureEndsWithFailedStatus() throws Exception {
+        when(emergencyClient.GetUserLocation(anyString(), anyString()))
+                .thenThrow(new UncheckedIOException(new IOException("kakao down")));
+
+        String body = stream();
+
+        assertTrue(body.contains("event:done"), body);
+        assertTrue(body.contains("\"status\":\"FAILED\""), body);
+        verify(emergencyClient, never()).GetEmergencyRoomBedsApi(any());
+    }
+
+    private String stream() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/emergency/room/stream")
+                        .param("userLatitude", "37.56")
+                        .param("userLongitude", "126.97"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(3000);
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private static EmergencyRoomDTO resolve(EmergencyRoomDTO room, double latitude, double longitude,
+                                            Consumer<EmergencyRoomDTO> onResolved) {
+        room.setHospitalLatitude(latitude);
+        room.setHospitalLongitude(longitude);
+        room.setLocationPending(false);
+        onResolved.accept(room);
+        return room;
+    }
+
+    private static EmergencyRoomDTO room(String name) {
+        EmergencyRoomDTO room = new EmergencyRoomDTO();
+        room.setHospitalName(name);
+        room.setEmergencyBedCount(3);
+        return room;
+    }
+
+    private static void assertInOrder(String body, String... parts) {
+        int from = 0;
+        for (String part : parts) {
+            int index = body.indexOf(part, from);
+            assertTrue(index >= 0, "'" + part + "' 가 순서대로 없습니다: " + body);
+            from = index + part.length();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package emp.emp.emergency.service;
 
+import emp.emp.emergency.dto.CombinedEmergencyResponseDTO;
 import emp.emp.emergency.dto.EmergencyAedDTO;
 import emp.emp.emergency.dto.EmergencyRoomDTO;
 import org.junit.jupiter.api.Assertions;
@@ -60,7 +61,7 @@ public class EmergencyServiceTest {
         String latitude = "37.5665";
         String longitude = "126.9780";
 
-        Map<String, Object> result = emergencyService.getCombinedEmergencyInfo(latitude, longitude);
+        CombinedEmergencyResponseDTO result = emergencyService.getCombinedEmergencyInfo(latitude, longitude);
 
         Assertions.assertNotNull(result);
     }
@@ -0,0 +1,117 @@
+package emp.emp.emergency.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.HospitalBasicInfoDTO;
+import emp.emp.emergency.entity.HospitalRegistry;
+import emp.emp.emergency.repository.HospitalRegistryRepository;
+
+class HospitalRegistryServiceTest {
+
+    private EmergencyClient emergencyClient;
+    private HospitalRegistryRepository repository;
+    private HospitalRegistryService registryService;
+
+    @BeforeEach
+    void setUp() {
+        emergencyClient = mock(EmergencyClient.class);
+        repository = mock(HospitalRegistryRepository.class);
+        registryService = new HospitalRegistryService(emergencyClient, repository, TransactionOperations.withoutTransaction());
+        ReflectionTestUtils.setField(registryService, "enabled", true);
+        ReflectionTestUtils.setField(registryService, "pageSize", 2);
+        ReflectionTestUtils.setField(registryService, "maxPages", 10);
+    }
+
+    @Test
+    void refreshInsertsNewHospitalsAndUpdatesExistingOnes() throws IOException {
+        HospitalRegistry existing = HospitalRegistry.builder().hpid("A1").dutyName("옛이름").latitude(1.0).longitude(1.0).build();
+        when(repository.findAll()).thenReturn(List.of(existing));
+        when(emergencyClient.GetEmergencyHospitalPage(1, 2))
+                .thenReturn(List.of(info("A1", 37.5, 127.0), info("A2", 37.6, 127.1)));
+        when(emergencyClient.GetEmergencyHospitalPage(2, 2))
+                .thenReturn(List.of(info("A3", null, null)));
+
+        registryService.refresh();
+
+        // 좌표가 없는 기관은 빼고, 이미 있는 기관은 변경 감지로 갱신
+        assertEquals(2, registryService.size());
+        assertEquals("A1병원", existing.getDutyName());
+        assertEquals(37.5, existing.getLatitude());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HospitalRegistry>> created = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(created.capture());
+        assertEquals(1, created.getValue().size());
+        assertEquals("A2", created.getValue().get(0).getHpid());
+        verify(emergencyClient, never()).GetEmergencyHospitalPage(eq(3), anyInt());
+    }
+
+    @Test
+    void attachCoordinatesJoinsByHpidAndReturnsUnknownHospitals() throws IOException {
+        when(emergencyClient.GetEmergencyHospitalPage(anyInt(), anyInt())).thenReturn(List.of(info("A1", 37.5, 127.0)));
+        registryService.refresh();
+
+        EmergencyRoomDTO known = room("A1");
+        EmergencyRoomDTO unknown = room("B9");
+        EmergencyRoomDTO withoutHpid = room(null);
+        List<EmergencyRoomDTO> missing = registryService.attachCoordinates(new ArrayList<>(List.of(known, unknown, withoutHpid)));
+
+        assertEquals(List.of(unknown, withoutHpid), missing);
+        assertEquals(37.5, known.getHospitalLatitude());
+        assertEquals(127.0, known.getHospitalLongitude());
+        assertFalse(known.isLocationPending());
+        assertTrue(known.hasLocation());
+    }
+
+    @Test
+    void failedRefreshKeepsPreviousRegistry() throws IOException {
+        when(emergencyClient.GetEmergencyHospitalPage(anyInt(), anyInt()))
+                .thenReturn(List.of(info("A1", 37.5, 127.0)))
+                .thenThrow(new IOException("upstream down"));
+        registryService.refresh();
+        registryService.refresh();
+
+        assertEquals(1, registryService.size());
+        assertTrue(registryService.attachCoordinates(List.of(room("A1"))).isEmpty());
+    }
+
+    @Test
+    void loadFromDatabaseBuildsRegistryWithoutUpstreamCall() throws IOException {
+        when(repository.findAll()).thenReturn(List.of(
+                HospitalRegistry.builder().hpid("A1").latitude(37.5).longitude(127.0).build()));
+
+        registryService.loadFromDatabase();
+
+        assertEquals(1, registryService.size());
+        verify(emergencyClient, never()).GetEmergencyHospitalPage(anyInt(), anyInt());
+    }
+
+    private static HospitalBasicInfoDTO info(String hpid, Double latitude, Double longitude) {
+        HospitalBasicInfoDTO info = new HospitalBasicInfoDTO();
+        info.setHpid(hpid);
+        info.setDutyName(hpid + "병원");
+        info.setLatitude(latitude);
+        info.setLongitude(longitude);
+        return info;
+    }
+
+    private static EmergencyRoomDTO room(String hpid) {
+        EmergencyRoomDTO room = new EmergencyRoomDTO();
+        room.setHpid(hpid);
+        room.setLocationPending(true);
+        return room;
+    }
+}
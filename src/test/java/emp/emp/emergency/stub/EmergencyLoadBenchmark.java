@@ -0,0 +1,206 @@
+package emp.emp.emergency.stub;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import emp.emp.emergency.controller.EmergencyController;
+import emp.emp.emergency.service.AedSnapshotService;
+import emp.emp.emergency.service.HospitalRegistryService;
+import emp.emp.emergency.stub.EmergencyUpstreamStub.Route;
+
+// /api/emergency/room, /aed, /both 부하 측정 (stub 서버 사용, 네트워크 불필요)
+// 실행: ./gradlew loadTest -Dload.threads=32 -Dload.duration-seconds=20 -Dload.upstream.latency-ms=150
+// 엔드포인트마다 처리량(req/s)과 p50/p90/p99 지연을 출력한다. 일반 test 태스크에서는 제외된다.
+@Tag("load")
+@SpringJUnitConfig(EmergencyStubConfig.class)
+class EmergencyLoadBenchmark {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 3);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 10);
+    // 사용자 위치 후보 수. 작을수록 캐시 적중이 많아진다
+    private static final int LOCATIONS = Integer.getInteger("load.locations", 200);
+    private static final long UPSTREAM_LATENCY_MILLIS = Long.getLong("load.upstream.latency-ms", 80);
+    private static final long UPSTREAM_JITTER_MILLIS = Long.getLong("load.upstream.jitter-ms", 40);
+    // false 면 병원 레지스트리 없이 병원마다 키워드 검색으로 좌표를 찾는다 (이전 방식 비교용)
+    private static final boolean USE_REGISTRY =
+            Boolean.parseBoolean(System.getProperty("load.registry", "true"));
+    private static final double UPSTREAM_ERROR_RATE =
+            Double.parseDouble(System.getProperty("load.upstream.error-rate", "0.0"));
+
+    private static final EmergencyUpstreamStub stub = new EmergencyUpstreamStub().start();
+
+    @Autowired
+    private EmergencyController emergencyController;
+
+    @Autowired
+    private AedSnapshotService aedSnapshotService;
+
+    @Autowired
+    private HospitalRegistryService hospitalRegistryService;
+
+    private MockMvc mockMvc;
+    private double[][] locations;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        EmergencyStubConfig.registerProperties(registry, stub);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stub.reset();
+        for (Route route : Route.values()) {
+            stub.latency(route, UPSTREAM_LATENCY_MILLIS, UPSTREAM_JITTER_MILLIS)
+                    .errorRate(route, UPSTREAM_ERROR_RATE);
+        }
+        mockMvc = MockMvcBuilders.standaloneSetup(emergencyController)
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+
+        // 서울 시내 임의 좌표 (매번 같은 값)
+        Random random = new Random(20250609);
+        locations = new double[LOCATIONS][];
+        for (int i = 0; i < LOCATIONS; i++) {
+            locations[i] = new double[]{37.45 + random.nextDouble() * 0.2, 126.85 + random.nextDouble() * 0.3};
+        }
+        // AED 는 스케줄러 대신 직접 스냅샷을 적재해 둔다
+        if (!aedSnapshotService.isReady()) {
+            aedSnapshotService.refresh();
+        }
+        if (USE_REGISTRY && hospitalRegistryService.size() == 0) {
+            hospitalRegistryService.refresh();
+        }
+    }
+
+    @Test
+    void room() throws Exception {
+        run("/api/emergency/room");
+    }
+
+    @Test
+    void aed() throws Exception {
+        run("/api/emergency/aed");
+    }
+
+    @Test
+    void both() throws Exception {
+        run("/api/emergency/both");
+    }
+
+    private void run(String path) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long measureEnd = warmupEnd + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Recorder>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            futures.add(pool.submit(() -> {
+                Recorder recorder = new Recorder();
+                Random random = new Random(seed);
+                start.await();
+                long now;
+                while ((now = System.nanoTime()) < measureEnd) {
+                    double[] location = locations[random.nextInt(locations.length)];
+                    int status = mockMvc.perform(get(path)
+                                    .param("userLatitude", String.valueOf(location[0]))
+                                    .param("userLongitude", String.valueOf(location[1])))
+                            .andReturn().getResponse().getStatus();
+                    long elapsed = System.nanoTime() - now;
+                    if (now >= warmupEnd) {
+                        recorder.record(elapsed, status >= 500);
+                    }
+                }
+                return recorder;
+            }));
+        }
+        start.countDown();
+
+        Recorder total = new Recorder();
+        for (Future<Recorder> future : futures) {
+            total.merge(future.get());
+        }
+        pool.shutdown();
+
+        report(path, total);
+        assertTrue(total.count > 0, "측정 구간에 끝난 요청이 없습니다");
+    }
+
+    private static void report(String path, Recorder recorder) {
+        long[] latencies = Arrays.copyOf(recorder.latencies, recorder.count);
+        Arrays.sort(latencies);
+        System.out.printf(Locale.ROOT,
+                "[load] %-22s threads=%d requests=%d throughput=%.1f req/s p50=%.2fms p90=%.2fms p99=%.2fms max=%.2fms errors=%d"
+                        + " | upstream calls room=%d aed=%d region=%d keyword=%d%n",
+                path, THREADS, recorder.count, recorder.count / (double) DURATION_SECONDS,
+                millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.90)),
+                millis(percentile(latencies, 0.99)), millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]),
+                recorder.errors,
+                stub.requests(Route.ROOM), stub.requests(Route.AED), stub.requests(Route.REGION), stub.requests(Route.KEYWORD));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        private void record(long latencyNanos, boolean error) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (error) {
+                errors++;
+            }
+        }
+
+        private void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], false);
+            }
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package emp.emp.emergency.stub;
+
+import static org.mockito.Mockito.*;
+
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.transaction.support.TransactionOperations;
+
+import emp.emp.config.EmergencyExecutorConfig;
+import emp.emp.config.OutboundHttpConfig;
+import emp.emp.emergency.cache.HospitalLocationCache;
+import emp.emp.emergency.cache.ReverseGeocodeCache;
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.controller.EmergencyController;
+import emp.emp.emergency.repository.HospitalRegistryRepository;
+import emp.emp.emergency.service.AedSnapshotService;
+import emp.emp.emergency.service.EmergencyRoomSnapshotService;
+import emp.emp.emergency.service.EmergencyService;
+import emp.emp.emergency.service.HospitalRegistryService;
+import emp.emp.emergency.support.UpstreamCircuitBreakers;
+import emp.emp.emergency.support.UpstreamMetrics;
+import emp.emp.emergency.support.UpstreamQuotaBudgeter;
+import emp.emp.health.apiKey.ApiKeyProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// DB / Redis / 보안 설정 없이 응급 기능 빈만 띄우는 테스트 설정. 외부 API 는 EmergencyUpstreamStub 으로 보낸다
+// Redis 는 항상 캐시 미스로 동작한다 (로컬 캐시만 사용, 호출 한도도 인스턴스 로컬 카운터로 센다). 병원 레지스트리 테이블은 비어 있는 mock 이다
+@Configuration
+@Import({
+        EmergencyExecutorConfig.class,
+        OutboundHttpConfig.class,
+        ApiKeyProvider.class,
+        HospitalLocationCache.class,
+        ReverseGeocodeCache.class,
+        UpstreamCircuitBreakers.class,
+        UpstreamQuotaBudgeter.class,
+        UpstreamMetrics.class,
+        EmergencyClient.class,
+        HospitalRegistryService.class,
+        EmergencyRoomSnapshotService.class,
+        AedSnapshotService.class,
+        EmergencyService.class,
+        EmergencyController.class
+})
+public class EmergencyStubConfig {
+
+    // @Value 의 "30d", "1h" 같은 Duration 값을 변환하기 위해 부트의 ConversionService 를 쓴다
+    @Bean
+    public static ConversionService conversionService() {
+        return ApplicationConversionService.getSharedInstance();
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public StringRedisTemplate stringRedisTemplate() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        return redisTemplate;
+    }
+
+    @Bean
+    public HospitalRegistryRepository hospitalRegistryRepository() {
+        return mock(HospitalRegistryRepository.class);
+    }
+
+    @Bean
+    public TransactionOperations transactionOperations() {
+        return TransactionOperations.withoutTransaction();
+    }
+
+    // @DynamicPropertySource 에서 호출
+    public static void registerProperties(DynamicPropertyRegistry registry, EmergencyUpstreamStub stub) {
+        registry.add("emergency.upstream.public-data-url", stub::baseUrl);
+        registry.add("emergency.upstream.kakao-url", stub::baseUrl);
+        registry.add("api.public-data.key", () -> "stub-key%2F%3D%3D");
+        registry.add("api.kakao-map.key", () -> "stub-kakao-key");
+        // stub 은 127.0.0.1 이라 호스트별 설정 대신 기본값이 적용된다
+        registry.add("outbound.http.default.max-connections", () -> "64");
+        registry.add("outbound.http.default.read-timeout-ms", () -> "5000");
+    }
+}
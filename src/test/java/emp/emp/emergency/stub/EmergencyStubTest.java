@@ -0,0 +1,148 @@
+package emp.emp.emergency.stub;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import emp.emp.emergency.client.EmergencyClient;
+import emp.emp.emergency.dto.EmergencyAedDTO;
+import emp.emp.emergency.dto.EmergencyRoomDTO;
+import emp.emp.emergency.dto.EmergencyRoomSnapshotDTO;
+import emp.emp.emergency.dto.UserLocationDTO;
+import emp.emp.emergency.service.EmergencyRoomSnapshotService;
+import emp.emp.emergency.service.HospitalRegistryService;
+import emp.emp.emergency.stub.EmergencyUpstreamStub.Route;
+import emp.emp.emergency.support.CircuitOpenException;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 외부 API 없이 stub 서버로 EmergencyClient 전체 흐름을 확인한다 (CI 에서도 실행 가능)
+@SpringJUnitConfig(EmergencyStubConfig.class)
+class EmergencyStubTest {
+
+    private static final EmergencyUpstreamStub stub = new EmergencyUpstreamStub().start();
+
+    @Autowired
+    private EmergencyClient emergencyClient;
+
+    @Autowired
+    private HospitalRegistryService hospitalRegistryService;
+
+    @Autowired
+    private EmergencyRoomSnapshotService emergencyRoomSnapshotService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void upstreamProperties(DynamicPropertyRegistry registry) {
+        EmergencyStubConfig.registerProperties(registry, stub);
+        registry.add("emergency.circuit.minimum-calls", () -> "4");
+        registry.add("emergency.circuit.window-size", () -> "4");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @BeforeEach
+    void resetStub() {
+        stub.reset();
+    }
+
+    @Test
+    void roomsComeBackWithHospitalCoordinates() throws IOException {
+        UserLocationDTO location = emergencyClient.GetUserLocation("37.5003", "127.0364");
+        assertEquals("서울특별시", location.getSido());
+        assertEquals("강남구", location.getSigungu());
+
+        List<EmergencyRoomDTO> rooms = emergencyClient.GetEmergencyRoomInformationApi(location);
+
+        assertEquals(25, rooms.size());
+        assertTrue(rooms.stream().allMatch(EmergencyRoomDTO::hasLocation));
+        assertEquals(25, stub.requests(Route.KEYWORD));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD) // 스냅샷/레지스트리 없이 시작
+    void registryHospitalsNeedNoKeywordLookup() throws IOException {
+        hospitalRegistryService.refresh();
+        assertEquals(25, hospitalRegistryService.size());
+        assertEquals(1, stub.requests(Route.HOSPITAL));
+
+        EmergencyRoomSnapshotDTO snapshot =
+                emergencyRoomSnapshotService.getSnapshot(new UserLocationDTO("서울특별시", "강남구"));
+
+        assertEquals(25, snapshot.getRooms().size());
+        assertTrue(snapshot.getRooms().stream().allMatch(EmergencyRoomDTO::hasLocation));
+        assertEquals(0, stub.requests(Route.KEYWORD));
+    }
+
+    @Test
+    void aedListIsParsedFromFixture() throws IOException {
+        List<EmergencyAedDTO> aeds =
+                emergencyClient.GetEmergencyAedInformationApi(new UserLocationDTO("서울특별시", "강남구"));
+
+        assertEquals(40, aeds.size());
+        assertEquals(1, stub.requests(Route.AED));
+    }
+
+    @Test
+    void failedCoordinateLookupLeavesZeroCoordinates() throws IOException {
+        stub.errorRate(Route.KEYWORD, 1.0);
+
+        // 다른 테스트에서 좌표가 캐시되지 않도록 캐시에 없는 병원 이름으로 확인
+        EmergencyRoomDTO room = new EmergencyRoomDTO();
+        room.setHospitalName("캐시에없는병원");
+        emergencyClient.GetEmergencyRoomLocation(room);
+
+        assertFalse(room.hasLocation());
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD) // 다른 테스트의 성공 기록 없이 시작
+    void circuitOpensAfterRepeatedUpstreamErrors() {
+        stub.errorRate(Route.AED, 1.0);
+        UserLocationDTO location = new UserLocationDTO("서울특별시", "강남구");
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IOException.class, () -> emergencyClient.GetEmergencyAedInformationApi(location));
+        }
+        assertEquals(4, stub.requests(Route.AED));
+
+        // 회로가 열린 뒤에는 stub 까지 가지 않는다
+        assertThrows(CircuitOpenException.class, () -> emergencyClient.GetEmergencyAedInformationApi(location));
+        assertEquals(4, stub.requests(Route.AED));
+
+        // 500 응답은 상태 코드별 오류로, 회로가 막은 호출은 rejected 로 남는다
+        assertEquals(4.0, meterRegistry.get("emergency.upstream.errors")
+                .tags("call", "aed", "status", "500").counter().count());
+        assertEquals(1.0, meterRegistry.get("emergency.upstream.errors")
+                .tags("call", "aed", "exception", "CircuitOpenException").counter().count());
+        assertEquals(4, meterRegistry.get("emergency.upstream.latency")
+                .tags("call", "aed", "outcome", "error").timer().count());
+        assertEquals(1, meterRegistry.get("emergency.upstream.latency")
+                .tags("call", "aed", "outcome", "rejected").timer().count());
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD) // 지표가 0 인 상태에서 시작
+    void upstreamCallsAreTimedWithPayloadSize() throws IOException {
+        emergencyClient.GetEmergencyRoomBedsApi(new UserLocationDTO("서울특별시", "강남구"));
+
+        assertEquals(1, meterRegistry.get("emergency.upstream.latency")
+                .tags("upstream", "public-data", "call", "room", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("emergency.upstream.parse").tags("call", "room").timer().count());
+        assertTrue(meterRegistry.get("emergency.upstream.payload").tags("call", "room").summary().totalAmount() > 0);
+    }
+}
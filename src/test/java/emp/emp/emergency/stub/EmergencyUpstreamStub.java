@@ -0,0 +1,196 @@
+package emp.emp.emergency.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// 카카오 / 공공데이터 API 를 흉내내는 로컬 stub 서버
+// src/test/resources/emergency/stub 의 녹화된 응답을 그대로 돌려주고, 경로별로 지연 시간과 오류 비율을 줄 수 있다.
+// EmergencyClient 의 emergency.upstream.public-data-url / kakao-url 을 baseUrl() 로 바꿔서 쓴다.
+public class EmergencyUpstreamStub implements AutoCloseable {
+
+    public enum Route {
+        ROOM("/B552657/ErmctInfoInqireService/getEmrrmRltmUsefulSckbdInfoInqire", "rooms.xml", "application/xml"),
+        AED("/B552657/AEDInfoInqireService/getEgytAedManageInfoInqire", "aed.xml", "application/xml"),
+        HOSPITAL("/B552657/ErmctInfoInqireService/getEgytListInfoInqire", "hospitals.xml", "application/xml"),
+        REGION("/v2/local/geo/coord2regioncode.json", "region.json", "application/json"),
+        KEYWORD("/v2/local/search/keyword.json", "keyword.json", "application/json");
+
+        private final String path;
+        private final String fixture;
+        private final String contentType;
+
+        Route(String path, String fixture, String contentType) {
+            this.path = path;
+            this.fixture = fixture;
+            this.contentType = contentType;
+        }
+    }
+
+    // 전국 AED 스냅샷 / 병원 레지스트리 적재 시 2페이지부터는 빈 목록
+    private static final String EMPTY_ITEMS =
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?><response><body><items></items></body></response>";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<Route, String> fixtures = new EnumMap<>(Route.class);
+    private final Map<Route, Behavior> behaviors = new EnumMap<>(Route.class);
+    private final Map<Route, AtomicInteger> requests = new EnumMap<>(Route.class);
+
+    public EmergencyUpstreamStub() {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 지연을 주는 동안 다른 요청이 막히지 않도록 넉넉하게
+        this.executor = Executors.newFixedThreadPool(128);
+        server.setExecutor(executor);
+
+        for (Route route : Route.values()) {
+            fixtures.put(route, readFixture(route.fixture));
+            behaviors.put(route, new Behavior());
+            requests.put(route, new AtomicInteger());
+            server.createContext(route.path, exchange -> handle(route, exchange));
+        }
+    }
+
+    public EmergencyUpstreamStub start() {
+        server.start();
+        return this;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // 응답마다 latencyMillis 에 0 ~ jitterMillis 를 더한 만큼 늦게 응답
+    public EmergencyUpstreamStub latency(Route route, long latencyMillis, long jitterMillis) {
+        Behavior behavior = behaviors.get(route);
+        behavior.latencyMillis = latencyMillis;
+        behavior.jitterMillis = jitterMillis;
+        return this;
+    }
+
+    // errorRate(0.0 ~ 1.0) 비율로 500 응답
+    public EmergencyUpstreamStub errorRate(Route route, double errorRate) {
+        behaviors.get(route).errorRate = errorRate;
+        return this;
+    }
+
+    public int requests(Route route) {
+        return requests.get(route).get();
+    }
+
+    public void reset() {
+        for (Route route : Route.values()) {
+            behaviors.put(route, new Behavior());
+            requests.get(route).set(0);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(Route route, HttpExchange exchange) throws IOException {
+        requests.get(route).incrementAndGet();
+        Behavior behavior = behaviors.get(route);
+        try (exchange) {
+            sleep(behavior);
+            if (behavior.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < behavior.errorRate) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            byte[] body = body(route, query(exchange)).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", route.contentType + ";charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private String body(Route route, Map<String, String> query) {
+        String fixture = fixtures.get(route);
+        if ((route == Route.AED || route == Route.HOSPITAL) && query.containsKey("pageNo") && !"1".equals(query.get("pageNo"))) {
+            return EMPTY_ITEMS;
+        }
+        if (route == Route.KEYWORD) {
+            // 병원 이름마다 서울 시내의 서로 다른 (항상 같은) 좌표를 돌려준다
+            String name = query.getOrDefault("query", "");
+            int hash = name.hashCode();
+            double x = 126.90 + Math.floorMod(hash, 2000) / 10000.0;
+            double y = 37.48 + Math.floorMod(hash >>> 11, 1400) / 10000.0;
+            return fixture.replace("{{name}}", name)
+                    .replace("{{x}}", String.valueOf(x))
+                    .replace("{{y}}", String.valueOf(y));
+        }
+        return fixture;
+    }
+
+    private static void sleep(Behavior behavior) {
+        long delay = behavior.latencyMillis;
+        if (behavior.jitterMillis > 0) {
+            delay += ThreadLocalRandom.current().nextLong(behavior.jitterMillis + 1);
+        }
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> result = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null) {
+            return result;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                result.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+    private static String readFixture(String name) {
+        try (InputStream in = EmergencyUpstreamStub.class.getResourceAsStream("/emergency/stub/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Behavior {
+        private volatile long latencyMillis;
+        private volatile long jitterMillis;
+        private volatile double errorRate;
+    }
+}
@@ -0,0 +1,77 @@
+package emp.emp.emergency.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    // 실패율 50%, 느린 호출 100ms 초과가 80%, 최근 10번 중 최소 4번, 1초 open, probe 2개
+    private static final CircuitBreaker.Settings SETTINGS =
+            new CircuitBreaker.Settings(50, 80, 100, 10, 4, 1000, 2);
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker("test", SETTINGS, now::get);
+
+    @Test
+    void opensOnFailureRateAndRejectsWithoutCalling() throws IOException {
+        succeed();
+        succeed();
+        fail();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState()); // 최소 호출 수 전
+        fail();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        AtomicLong calls = new AtomicLong();
+        assertThrows(CircuitOpenException.class, () -> breaker.execute(() -> calls.incrementAndGet()));
+        assertEquals(0, calls.get());
+        assertEquals(1, breaker.getRejectedCount());
+    }
+
+    @Test
+    void opensOnSlowCalls() throws IOException {
+        for (int i = 0; i < 4; i++) {
+            breaker.execute(() -> {
+                now.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+                return "slow";
+            });
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpenProbesCloseOrReopen() throws IOException {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+
+        // 실패한 probe 는 다시 OPEN
+        fail();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+        succeed();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        succeed();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // 닫히면 이전 실패 기록은 지운다
+        fail();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void succeed() throws IOException {
+        assertEquals("ok", breaker.execute(() -> "ok"));
+    }
+
+    private void fail() {
+        assertThrows(IOException.class, () -> breaker.execute(() -> {
+            throw new IOException("upstream down");
+        }));
+    }
+}
@@ -0,0 +1,157 @@
+package emp.emp.emergency.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+class QuotaBudgetTest {
+
+    // 하루 1000번, 버스트 10%, 폴링 예비분 2%, 미리 받기 예비분 5%
+    private static final QuotaBudget.Settings SETTINGS = new QuotaBudget.Settings(1000, 0.1, 0.02, 0.05);
+
+    private final AtomicReference<ZonedDateTime> now =
+            new AtomicReference<>(ZonedDateTime.of(2025, 6, 9, 0, 0, 0, 0, QuotaBudget.KOREA));
+    private final Map<String, Long> shared = new HashMap<>();
+    private final QuotaBudget budget = new QuotaBudget("test", SETTINGS,
+            (day, delta) -> shared.merge(day, delta, Long::sum), now::get);
+
+    @Test
+    void lowPriorityStopsBeforeUserFacingAtStartOfDay() throws QuotaExceededException {
+        // 자정에는 버스트(100)만 쓸 수 있다: 미리 받기는 예비분 50 을 남기고, 폴링은 20 을 남기고 멈춘다
+        assertEquals(50, acquireUntilRejected(QuotaPriority.PREFETCH));
+        assertEquals(30, acquireUntilRejected(QuotaPriority.REFRESH));
+        assertEquals(920, acquireUntilRejected(QuotaPriority.USER_FACING));
+
+        assertEquals(1000, budget.getUsed());
+        budget.sync();
+        assertEquals(1000L, shared.get("20250609")); // 거절된 호출은 세지 않는다
+        assertEquals(1, budget.getRejectedCount(QuotaPriority.PREFETCH));
+        assertEquals(1, budget.getRejectedCount(QuotaPriority.USER_FACING));
+    }
+
+    @Test
+    void allowanceRefillsOverTheDay() throws QuotaExceededException {
+        assertEquals(50, acquireUntilRejected(QuotaPriority.PREFETCH));
+
+        // 정오: 1000 × (0.5 + 0.1) = 600 까지 쓸 수 있으니 예비분 50 을 빼고 500 번 더
+        now.set(now.get().withHour(12));
+        assertEquals(500, acquireUntilRejected(QuotaPriority.PREFETCH));
+    }
+
+    @Test
+    void userFacingStillAdmittedWhenBackgroundIsThrottled() throws QuotaExceededException {
+        acquireUntilRejected(QuotaPriority.REFRESH);
+
+        assertThrows(QuotaExceededException.class, () -> budget.acquire(QuotaPriority.REFRESH));
+        budget.acquire(QuotaPriority.USER_FACING);
+    }
+
+    @Test
+    void resetsOnNextDay() throws QuotaExceededException {
+        acquireUntilRejected(QuotaPriority.USER_FACING);
+
+        now.set(now.get().plusDays(1));
+        budget.acquire(QuotaPriority.USER_FACING);
+        assertEquals(1, budget.getUsed());
+    }
+
+    @Test
+    void releaseReturnsUnsentCall() throws QuotaExceededException {
+        budget.acquire(QuotaPriority.USER_FACING);
+        budget.release();
+        budget.sync();
+        assertEquals(0L, shared.get("20250609"));
+    }
+
+    @Test
+    void acquireCountsLocallyAndSyncSendsOneBatch() throws QuotaExceededException {
+        List<Long> deltas = new ArrayList<>();
+        QuotaBudget batched = new QuotaBudget("batched", SETTINGS, (day, delta) -> {
+            deltas.add(delta);
+            return shared.merge(day, delta, Long::sum);
+        }, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            batched.acquire(QuotaPriority.USER_FACING);
+        }
+        assertTrue(deltas.isEmpty()); // 호출마다 공용 카운터를 부르지 않는다
+
+        batched.sync();
+        assertEquals(List.of(10L), deltas);
+        assertEquals(10L, shared.get("20250609"));
+    }
+
+    @Test
+    void syncPicksUpUsageFromOtherInstances() throws QuotaExceededException {
+        budget.acquire(QuotaPriority.PREFETCH);
+        // 다른 인스턴스가 그 사이 44 번 썼다
+        shared.put("20250609", 44L);
+
+        budget.sync();
+        assertEquals(45, budget.getUsed());
+        assertEquals(5, acquireUntilRejected(QuotaPriority.PREFETCH));
+    }
+
+    @Test
+    void failedSyncKeepsLocalUsageForNextSync() throws QuotaExceededException {
+        AtomicBoolean available = new AtomicBoolean(false);
+        QuotaBudget flaky = new QuotaBudget("flaky", SETTINGS,
+                (day, delta) -> available.get() ? shared.merge(day, delta, Long::sum) : null, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            flaky.acquire(QuotaPriority.USER_FACING);
+        }
+        flaky.sync();
+        assertNull(shared.get("20250609"));
+
+        available.set(true);
+        flaky.acquire(QuotaPriority.USER_FACING);
+        flaky.sync();
+        assertEquals(6L, shared.get("20250609"));
+        flaky.sync();
+        assertEquals(6L, shared.get("20250609"));
+    }
+
+    @Test
+    void fallsBackToLocalCounterWhenSharedCounterIsUnavailable() throws QuotaExceededException {
+        QuotaBudget local = new QuotaBudget("local", SETTINGS, (day, delta) -> null, now::get);
+
+        for (int i = 0; i < 50; i++) {
+            local.acquire(QuotaPriority.PREFETCH);
+        }
+        assertThrows(QuotaExceededException.class, () -> local.acquire(QuotaPriority.PREFETCH));
+        assertEquals(50, local.getUsed());
+    }
+
+    @Test
+    void nonPositiveLimitDisablesBudget() throws QuotaExceededException {
+        QuotaBudget unlimited = new QuotaBudget("off", new QuotaBudget.Settings(0, 0.1, 0.02, 0.05),
+                (day, delta) -> {
+                    throw new AssertionError("카운터를 쓰면 안 된다");
+                }, now::get);
+
+        for (int i = 0; i < 10; i++) {
+            unlimited.acquire(QuotaPriority.PREFETCH);
+        }
+    }
+
+    private int acquireUntilRejected(QuotaPriority priority) {
+        int admitted = 0;
+        while (true) {
+            try {
+                budget.acquire(priority);
+                admitted++;
+            } catch (QuotaExceededException e) {
+                return admitted;
+            }
+        }
+    }
+}
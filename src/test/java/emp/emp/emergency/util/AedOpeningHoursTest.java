@@ -0,0 +1,57 @@
+package emp.emp.emergency.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import emp.emp.emergency.dto.EmergencyAedDTO;
+
+class AedOpeningHoursTest {
+
+    // 2025-06-09 은 월요일
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 6, 9, 0, 0);
+
+    @Test
+    void daytimeHoursAreHalfOpen() {
+        EmergencyAedDTO aed = new EmergencyAedDTO();
+        aed.setMondayStartDay("0900");
+        aed.setMondayEndDay("1800");
+
+        assertFalse(AedOpeningHours.isOpen(aed, MONDAY.withHour(8).withMinute(59)));
+        assertTrue(AedOpeningHours.isOpen(aed, MONDAY.withHour(9)));
+        assertTrue(AedOpeningHours.isOpen(aed, MONDAY.withHour(17).withMinute(59)));
+        assertFalse(AedOpeningHours.isOpen(aed, MONDAY.withHour(18)));
+        // 다른 요일은 정보가 없으므로 운영하지 않는 것으로 본다
+        assertFalse(AedOpeningHours.isOpen(aed, MONDAY.plusDays(1).withHour(12)));
+    }
+
+    @Test
+    void overnightHoursContinueIntoNextDay() {
+        EmergencyAedDTO aed = new EmergencyAedDTO();
+        aed.setSundayStartDay("2200");
+        aed.setSundayEndDay("0600");
+
+        assertTrue(AedOpeningHours.isOpen(aed, MONDAY.minusDays(1).withHour(23)));
+        // 일요일 밤에 시작해서 월요일 새벽까지 (주 경계를 넘어감)
+        assertTrue(AedOpeningHours.isOpen(aed, MONDAY.withHour(5).withMinute(59)));
+        assertFalse(AedOpeningHours.isOpen(aed, MONDAY.withHour(6)));
+    }
+
+    @Test
+    void fullDayAndMalformedValues() {
+        assertTrue(AedOpeningHours.isOpen(new int[]{AedOpeningHours.slot("0000", "2400"), -1, -1, -1, -1, -1, -1},
+                0, AedOpeningHours.minuteOfWeek(MONDAY.withHour(23).withMinute(59))));
+        assertEquals(AedOpeningHours.CLOSED, AedOpeningHours.slot("", "1800"));
+        assertEquals(AedOpeningHours.CLOSED, AedOpeningHours.slot("0960", "1800"));
+        assertEquals(AedOpeningHours.CLOSED, AedOpeningHours.slot("2400", "0100"));
+        assertEquals(AedOpeningHours.slot("0930", "1800"), AedOpeningHours.slot("09:30", "18:00"));
+    }
+
+    @Test
+    void minuteOfWeekStartsOnMonday() {
+        assertEquals(0, AedOpeningHours.minuteOfWeek(MONDAY));
+        assertEquals(6 * 1440 + 23 * 60 + 59, AedOpeningHours.minuteOfWeek(MONDAY.minusMinutes(1)));
+    }
+}
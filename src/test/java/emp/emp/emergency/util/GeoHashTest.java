@@ -0,0 +1,27 @@
+package emp.emp.emergency.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class GeoHashTest {
+
+    @Test
+    void encodeKnownValue() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+    }
+
+    @Test
+    void nearbyCoordinatesShareCell() {
+        // 서울 시청 근처 두 지점 (약 50m 차이)
+        String a = GeoHash.encode(37.5665, 126.9780, 6);
+        String b = GeoHash.encode(37.5667, 126.9784, 6);
+        assertEquals(a, b);
+        assertEquals(6, a.length());
+    }
+
+    @Test
+    void invalidPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> GeoHash.encode(37.5, 127.0, 0));
+    }
+}
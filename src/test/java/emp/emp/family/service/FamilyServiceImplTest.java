@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import emp.emp.exception.BusinessException;
 import emp.emp.family.dto.request.ChangeFamilyNameReq;
@@ -25,6 +26,7 @@ import emp.emp.family.exception.FamilyErrorCode;
 import emp.emp.family.repository.FamilyRepository;
 import emp.emp.member.entity.Member;
 import emp.emp.member.enums.Role;
+import emp.emp.util.security.MemberIdentity;
 import emp.emp.util.security.SecurityUtil;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +56,7 @@ class FamilyServiceImplTest {
 			.birthDay(LocalDate.of(1990, 1, 1))
 			.address("Seoul")
 			.build();
+		ReflectionTestUtils.setField(member, "id", 1L);
 	}
 
 	@Test
@@ -218,7 +221,7 @@ class FamilyServiceImplTest {
 			.build();
 		family.addMember(member);
 		member.setFamily(family);
-		when(securityUtil.getCurrentMember()).thenReturn(member);
+		givenCurrentIdentity(family);
 
 		// 요청 객체에 새 가족 이름 설정
 		ChangeFamilyNameReq req = new ChangeFamilyNameReq();
@@ -255,8 +258,9 @@ class FamilyServiceImplTest {
 		family.addMember(member);
 		// 현재 유저(member)는 head가 아니므로 가족 설정
 		member.setFamily(family);
+		ReflectionTestUtils.setField(headMember, "id", 2L);
 
-		when(securityUtil.getCurrentMember()).thenReturn(member);
+		givenCurrentIdentity(family);
 
 		ChangeFamilyNameReq req = new ChangeFamilyNameReq();
 		req.setName("New Family Name");
@@ -354,7 +358,7 @@ class FamilyServiceImplTest {
 
 		member.setFamily(family);
 
-		when(securityUtil.getCurrentMember()).thenReturn(member);
+		givenCurrentIdentity(family);
 
 		FamilyRes res = familyService.getFamilyInfo();
 
@@ -368,9 +372,18 @@ class FamilyServiceImplTest {
 	@DisplayName("가족 정보 조회 실패: 가족이 없는 경우")
 	void testGetFamilyInfo_FamilyNotExists() {
 		// 가족 정보가 없을 경우 예외 발생 검증
-		when(securityUtil.getCurrentMember()).thenReturn(member);
+		when(securityUtil.getCurrentMemberIdentity()).thenReturn(MemberIdentity.from(member));
 
 		BusinessException ex = assertThrows(BusinessException.class, () -> familyService.getFamilyInfo());
 		assertThat(ex.getMessage()).isEqualTo(FamilyErrorCode.FAMILY_NOT_EXISTS.getMessage());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 현재 유저 식별 정보와 그 가족 조회를 준비
+	 */
+	private void givenCurrentIdentity(Family family) {
+		ReflectionTestUtils.setField(family, "id", 10L);
+		when(securityUtil.getCurrentMemberIdentity()).thenReturn(MemberIdentity.from(member));
+		when(familyRepository.findById(10L)).thenReturn(Optional.of(family));
+	}
+}
@@ -1,6 +1,7 @@
 package emp.emp.member.service;
 
-import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
@@ -14,11 +15,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import emp.emp.auth.custom.CustomUserDetails;
 import emp.emp.auth.dto.LoginDto;
+import emp.emp.auth.exception.AuthErrorCode;
+import emp.emp.exception.BusinessException;
 import emp.emp.member.dto.request.InputFeatureReq;
 import emp.emp.member.dto.response.InputFeatureRes;
 import emp.emp.member.entity.Member;
+import emp.emp.member.enums.Role;
 import emp.emp.member.repository.MemberRepository;
 import emp.emp.util.jwt.JwtTokenProvider;
+import emp.emp.util.jwt.TokenRevocationService;
 import emp.emp.util.security.SecurityUtil;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +38,9 @@ class MemberServiceImplTest {
 	@Mock
 	private JwtTokenProvider jwtTokenProvider;
 
+	@Mock
+	private TokenRevocationService tokenRevocationService;
+
 	@InjectMocks
 	private MemberServiceImpl memberService;
 
@@ -82,4 +90,23 @@ class MemberServiceImplTest {
 		assertThat(result.getRefreshToken()).isEqualTo("dummyRefreshToken");
 	}
 
+	@Test
+	void testInputFeature_RevocationFailureFailsRequest() {
+		// given : 토큰 폐기를 Redis 에 기록하지 못하는 경우
+		InputFeatureReq request = new InputFeatureReq();
+		request.setUsername("newUsername");
+
+		Member semiMember = Member.builder().verifyId("user123").role(Role.ROLE_SEMI_USER).build();
+		when(securityUtil.getCurrentMember()).thenReturn(semiMember);
+		doThrow(new BusinessException(AuthErrorCode.TOKEN_REVOCATION_FAILED))
+			.when(tokenRevocationService).revokeMember("user123");
+
+		// when & then : 요청이 실패하고 (트랜잭션 롤백) 새 토큰은 발급하지 않는다
+		assertThatThrownBy(() -> memberService.inputFeature(customUserDetails, request))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(AuthErrorCode.TOKEN_REVOCATION_FAILED.getMessage());
+		verify(jwtTokenProvider, never()).deleteRefreshToken(anyString());
+		verify(jwtTokenProvider, never()).generateAccessToken(any());
+	}
+
 }
\ No newline at end of file
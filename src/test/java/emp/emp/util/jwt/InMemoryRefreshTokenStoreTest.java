@@ -0,0 +1,42 @@
+package emp.emp.util.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(2, now::get);
+
+	@Test
+	void oldestSessionIsDroppedOverLimit() {
+		store.save("member", "a", "token-a", now.get(), 60_000);
+		store.save("member", "b", "token-b", now.incrementAndGet(), 60_000);
+		store.save("member", "c", "token-c", now.incrementAndGet(), 60_000);
+
+		List<RefreshSession> sessions = store.findSessions("member");
+		assertEquals(List.of("b", "c"), sessions.stream().map(RefreshSession::getSessionId).toList());
+	}
+
+	@Test
+	void rotationChecksStoredToken() {
+		store.save("member", "a", "token-1", now.get(), 60_000);
+
+		assertEquals(RefreshTokenStore.Rotation.ROTATED, store.rotate("member", "a", "token-1", "token-2", now.get(), 60_000));
+		assertEquals(RefreshTokenStore.Rotation.REUSED, store.rotate("member", "a", "token-1", "token-3", now.get(), 60_000));
+		assertEquals(RefreshTokenStore.Rotation.NOT_FOUND, store.rotate("member", "a", "token-2", "token-3", now.get(), 60_000));
+	}
+
+	@Test
+	void expiredSessionIsNotListedOrRotated() {
+		store.save("member", "a", "token-1", now.get(), 60_000);
+		now.addAndGet(60_000);
+
+		assertTrue(store.findSessions("member").isEmpty());
+		assertEquals(RefreshTokenStore.Rotation.NOT_FOUND, store.rotate("member", "a", "token-1", "token-2", now.get(), 60_000));
+	}
+}
@@ -2,16 +2,14 @@ package emp.emp.util.jwt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import emp.emp.auth.custom.CustomUserDetails;
 import emp.emp.auth.dto.LoginDto;
@@ -21,21 +19,21 @@ import emp.emp.member.entity.Member;
 import emp.emp.member.enums.Role;
 import emp.emp.member.repository.MemberRepository;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 
 class JwtTokenProviderTest {
 
-	private final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000;
 	private final String jwtSecretTest = "MySuperSecretKeyForHS512ThatIsAtLeast64BytesLongAndSuperSafeIndeed!";
 	private JwtTokenProvider jwtTokenProvider;
 	private MemberRepository memberRepository;
-	private StringRedisTemplate redisTemplate;
+	private InMemoryRefreshTokenStore refreshTokenStore;
 
 	@BeforeEach
 	void setUp() {
 		memberRepository = Mockito.mock(MemberRepository.class);
-		redisTemplate = Mockito.mock(StringRedisTemplate.class);
-		jwtTokenProvider = new JwtTokenProvider(memberRepository, redisTemplate);
-		ReflectionTestUtils.setField(jwtTokenProvider, "JWT_SECRET", jwtSecretTest);
+		refreshTokenStore = new InMemoryRefreshTokenStore(10);
+		jwtTokenProvider = new JwtTokenProvider(memberRepository, refreshTokenStore, jwtSecretTest, 0, 0L);
 	}
 
 	@Test
@@ -72,15 +70,14 @@ class JwtTokenProviderTest {
 			.build();
 		CustomUserDetails userDetails = CustomUserDetails.create(loginDto);
 
-		ValueOperations<String, String> valueOps = Mockito.mock(ValueOperations.class);
-		Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOps);
-
 		String refreshToken = jwtTokenProvider.generateRefreshToken(userDetails);
 		assertNotNull(refreshToken, "Refresh token should not be null");
 		assertTrue(jwtTokenProvider.validateToken(refreshToken), "Refresh token should be valid");
 
-		Mockito.verify(valueOps).set(userDetails.getName(), refreshToken,
-			REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+		List<RefreshSession> sessions = refreshTokenStore.findSessions(userDetails.getName());
+		assertEquals(1, sessions.size(), "One session should be stored");
+		assertEquals(sessions.get(0).getSessionId(),
+			jwtTokenProvider.getClaims(refreshToken).get(JwtTokenProvider.SESSION_ID_CLAIM));
 	}
 
 	@Test
@@ -104,13 +101,7 @@ class JwtTokenProviderTest {
 
 		CustomUserDetails userDetails = CustomUserDetails.create(loginDto);
 
-		ValueOperations<String, String> valueOps = Mockito.mock(ValueOperations.class);
-		Mockito.when(redisTemplate.opsForValue()).thenReturn(valueOps);
-
 		String oldRefreshToken = jwtTokenProvider.generateRefreshToken(userDetails);
-		Mockito.reset(valueOps);
-
-		Mockito.when(valueOps.get("TestVerifyId123456")).thenReturn(oldRefreshToken);
 		Map<String, String> newTokens = jwtTokenProvider.refreshTokens(oldRefreshToken);
 
 		assertNotNull(newTokens.get("accessToken"), "New access token should not be null");
@@ -119,9 +110,67 @@ class JwtTokenProviderTest {
 		assertTrue(jwtTokenProvider.validateToken(newTokens.get("accessToken")), "New access token should be valid");
 		assertTrue(jwtTokenProvider.validateToken(newTokens.get("refreshToken")), "New refresh token should be valid");
 
-		Mockito.verify(redisTemplate).delete("TestVerifyId123456");
-		Mockito.verify(valueOps).set("TestVerifyId123456", newTokens.get("refreshToken"),
-			REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.MILLISECONDS);
+		assertNotEquals(oldRefreshToken, newTokens.get("refreshToken"), "Refresh token should be rotated");
+		assertEquals(jwtTokenProvider.getClaims(oldRefreshToken).get(JwtTokenProvider.SESSION_ID_CLAIM),
+			jwtTokenProvider.getClaims(newTokens.get("refreshToken")).get(JwtTokenProvider.SESSION_ID_CLAIM),
+			"Rotation should keep the session id");
+		assertEquals(1, refreshTokenStore.findSessions("TestVerifyId123456").size());
+	}
+
+	@Test
+	void testLoginOnSecondDeviceKeepsFirstSession() {
+		Member member = Member.builder()
+			.email("test@example.com")
+			.verifyId("TestVerifyId123456")
+			.role(Role.ROLE_USER)
+			.build();
+		Mockito.when(memberRepository.findByVerifyId("TestVerifyId123456"))
+			.thenReturn(Optional.of(member));
+
+		CustomUserDetails userDetails = CustomUserDetails.create(LoginDto.builder()
+			.email("test@example.com")
+			.verifyId("TestVerifyId123456")
+			.role("ROLE_USER")
+			.build());
+
+		String phone = jwtTokenProvider.generateRefreshToken(userDetails);
+		String laptop = jwtTokenProvider.generateRefreshToken(userDetails);
+		assertEquals(2, jwtTokenProvider.getSessions("TestVerifyId123456").size());
+
+		// 두 기기 모두 각자 토큰을 교체할 수 있다
+		assertNotNull(jwtTokenProvider.refreshTokens(phone).get("refreshToken"));
+		String laptopSession = (String) jwtTokenProvider.getClaims(laptop).get(JwtTokenProvider.SESSION_ID_CLAIM);
+		jwtTokenProvider.refreshTokens(laptop);
+
+		// 한 기기만 로그아웃하면 그 기기의 세션만 사라진다
+		jwtTokenProvider.revokeSession("TestVerifyId123456", laptopSession);
+		assertEquals(1, jwtTokenProvider.getSessions("TestVerifyId123456").size());
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> jwtTokenProvider.revokeSession("TestVerifyId123456", laptopSession));
+		assertEquals(AuthErrorCode.SESSION_NOT_FOUND, exception.getErrorCode());
+	}
+
+	@Test
+	void testReusedRefreshTokenRevokesSession() {
+		Member member = Member.builder()
+			.email("test@example.com")
+			.verifyId("TestVerifyId123456")
+			.role(Role.ROLE_USER)
+			.build();
+		Mockito.when(memberRepository.findByVerifyId("TestVerifyId123456"))
+			.thenReturn(Optional.of(member));
+
+		String oldRefreshToken = jwtTokenProvider.generateRefreshToken(CustomUserDetails.create(LoginDto.builder()
+			.email("test@example.com")
+			.verifyId("TestVerifyId123456")
+			.role("ROLE_USER")
+			.build()));
+		String newRefreshToken = jwtTokenProvider.refreshTokens(oldRefreshToken).get("refreshToken");
+
+		// 이미 교체된 토큰을 다시 쓰면 실패하고, 세션이 지워져서 새 토큰도 쓸 수 없다
+		assertThrows(BusinessException.class, () -> jwtTokenProvider.refreshTokens(oldRefreshToken));
+		assertTrue(jwtTokenProvider.getSessions("TestVerifyId123456").isEmpty());
+		assertThrows(BusinessException.class, () -> jwtTokenProvider.refreshTokens(newRefreshToken));
 	}
 
 	@Test
@@ -133,4 +182,51 @@ class JwtTokenProviderTest {
 		assertEquals(AuthErrorCode.INVALID_REFRESH_TOKEN, exception.getErrorCode(),
 			"Exception error code should match");
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testVerifyReturnsTypedFailure() {
+		Date past = new Date(System.currentTimeMillis() - 60_000);
+		String expired = Jwts.builder()
+			.setSubject("TestVerifyId123456")
+			.setIssuedAt(new Date(past.getTime() - 60_000))
+			.setExpiration(past)
+			.signWith(JwtTokenProvider.getKeyFromString(jwtSecretTest), SignatureAlgorithm.HS512)
+			.compact();
+		String otherKey = Jwts.builder()
+			.setSubject("TestVerifyId123456")
+			.setExpiration(new Date(System.currentTimeMillis() + 60_000))
+			.signWith(JwtTokenProvider.getKeyFromString(jwtSecretTest.replace('M', 'X')), SignatureAlgorithm.HS512)
+			.compact();
+
+		assertEquals(TokenVerification.Failure.EXPIRED, jwtTokenProvider.verify(expired).getFailure());
+		assertEquals(TokenVerification.Failure.INVALID_SIGNATURE, jwtTokenProvider.verify(otherKey).getFailure());
+		assertEquals(TokenVerification.Failure.MALFORMED, jwtTokenProvider.verify("invalid.token").getFailure());
+		assertEquals(TokenVerification.Failure.EMPTY, jwtTokenProvider.verify("").getFailure());
+	}
+
+	@Test
+	void testVerifyUsesVerifiedTokenCache() {
+		jwtTokenProvider = new JwtTokenProvider(memberRepository, refreshTokenStore, jwtSecretTest, 100, 60_000L);
+
+		LoginDto loginDto = LoginDto.builder()
+			.email("test@example.com")
+			.verifyId("TestVerifyId123456")
+			.role("ROLE_USER")
+			.password("dummy")
+			.build();
+		String accessToken = jwtTokenProvider.generateAccessToken(CustomUserDetails.create(loginDto));
+
+		TokenVerification first = jwtTokenProvider.verify(accessToken);
+		TokenVerification second = jwtTokenProvider.verify(accessToken);
+
+		assertTrue(first.isValid());
+		assertEquals("TestVerifyId123456", second.getClaims().getSubject());
+		// 두 번째는 다시 파싱하지 않고 같은 claims 를 돌려준다
+		assertSame(first.getClaims(), second.getClaims());
+		// 한 글자라도 다른 토큰은 캐시에 걸리지 않는다
+		int signature = accessToken.lastIndexOf('.') + 1;
+		char replaced = accessToken.charAt(signature) == 'A' ? 'B' : 'A';
+		String tampered = accessToken.substring(0, signature) + replaced + accessToken.substring(signature + 1);
+		assertFalse(jwtTokenProvider.verify(tampered).isValid());
+	}
+}
@@ -0,0 +1,102 @@
+package emp.emp.util.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis 에 Lua 스크립트를 돌려서 RedisRefreshTokenStore 를 확인한다.
+ * REDIS_HOST / REDIS_PORT (기본 localhost:6379) 의 Redis 에 붙고, 연결되지 않으면 건너뛴다.
+ */
+class RedisRefreshTokenStoreTest {
+
+	private static LettuceConnectionFactory connectionFactory;
+	private static StringRedisTemplate redisTemplate;
+
+	private final String verifyId = "test-" + UUID.randomUUID();
+	private final RedisRefreshTokenStore store = new RedisRefreshTokenStore(redisTemplate, 2);
+
+	@BeforeAll
+	static void connect() {
+		RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(
+			System.getenv().getOrDefault("REDIS_HOST", "localhost"),
+			Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+		connectionFactory = new LettuceConnectionFactory(server,
+			LettuceClientConfiguration.builder().commandTimeout(Duration.ofSeconds(1)).build());
+		connectionFactory.afterPropertiesSet();
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		try {
+			redisTemplate.execute(connection -> connection.ping(), true);
+		} catch (RuntimeException e) {
+			assumeTrue(false, "Redis 에 연결할 수 없음: " + e.getMessage());
+		}
+	}
+
+	@AfterAll
+	static void disconnect() {
+		connectionFactory.destroy();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		store.revokeAll(verifyId);
+	}
+
+	@Test
+	void savedSessionsAreListedWithTtl() {
+		long now = System.currentTimeMillis();
+		store.save(verifyId, "a", "token-a", now, 60_000);
+		store.save(verifyId, "b", "token-b", now + 1, 60_000);
+
+		List<RefreshSession> sessions = store.findSessions(verifyId);
+		assertEquals(List.of("a", "b"), sessions.stream().map(RefreshSession::getSessionId).toList());
+		Long ttl = redisTemplate.getExpire("refresh:" + verifyId);
+		assertTrue(ttl != null && ttl > 0 && ttl <= 60);
+	}
+
+	@Test
+	void oldestSessionIsDroppedOverLimit() {
+		long now = System.currentTimeMillis();
+		store.save(verifyId, "a", "token-a", now, 60_000);
+		store.save(verifyId, "b", "token-b", now + 1, 60_000);
+		store.save(verifyId, "c", "token-c", now + 2, 60_000);
+
+		assertEquals(List.of("b", "c"),
+			store.findSessions(verifyId).stream().map(RefreshSession::getSessionId).toList());
+	}
+
+	@Test
+	void rotationReplacesTokenAndReuseDropsSession() {
+		long now = System.currentTimeMillis();
+		store.save(verifyId, "a", "token-1", now, 60_000);
+		store.save(verifyId, "b", "token-b", now, 60_000);
+
+		assertEquals(RefreshTokenStore.Rotation.ROTATED, store.rotate(verifyId, "a", "token-1", "token-2", now, 60_000));
+		// 이미 바뀐 예전 토큰이 다시 들어오면 그 세션만 지운다
+		assertEquals(RefreshTokenStore.Rotation.REUSED, store.rotate(verifyId, "a", "token-1", "token-3", now, 60_000));
+		assertEquals(RefreshTokenStore.Rotation.NOT_FOUND, store.rotate(verifyId, "a", "token-2", "token-3", now, 60_000));
+		assertEquals(List.of("b"), store.findSessions(verifyId).stream().map(RefreshSession::getSessionId).toList());
+	}
+
+	@Test
+	void revokeRemovesOneSession() {
+		long now = System.currentTimeMillis();
+		store.save(verifyId, "a", "token-a", now, 60_000);
+
+		assertTrue(store.revoke(verifyId, "a"));
+		assertFalse(store.revoke(verifyId, "a"));
+		assertTrue(store.findSessions(verifyId).isEmpty());
+	}
+}
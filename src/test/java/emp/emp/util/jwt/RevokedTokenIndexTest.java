@@ -0,0 +1,60 @@
+package emp.emp.util.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class RevokedTokenIndexTest {
+
+	@Test
+	void tokenIssuedBeforeNotBeforeIsRevoked() {
+		RevokedTokenIndex index = new RevokedTokenIndex(100, 0.01);
+		index.revokeMember("member", 1_000L);
+
+		assertTrue(index.isRevoked("member", 999L));
+		// 같은 초에 새로 발급한 토큰은 유효하다
+		assertFalse(index.isRevoked("member", 1_000L));
+		assertFalse(index.isRevoked("other", 999L));
+	}
+
+	@Test
+	void laterNotBeforeWins() {
+		RevokedTokenIndex index = new RevokedTokenIndex(100, 0.01);
+		index.revokeMember("member", 2_000L);
+		index.revokeMember("member", 1_000L);
+
+		assertTrue(index.isRevoked("member", 1_500L));
+	}
+
+	@Test
+	void copyToSkipsOldEntries() {
+		RevokedTokenIndex index = new RevokedTokenIndex(100, 0.01);
+		index.revokeMember("old", 1_000L);
+		index.revokeMember("recent", 5_000L);
+
+		RevokedTokenIndex rebuilt = new RevokedTokenIndex(100, 0.01);
+		index.copyTo(rebuilt, 2_000L);
+
+		assertEquals(1, rebuilt.size());
+		assertTrue(rebuilt.isRevoked("recent", 4_000L));
+	}
+
+	@Test
+	void bloomFilterHasNoFalseNegativesAndFewFalsePositives() {
+		BloomFilter filter = new BloomFilter(1_000, 0.01);
+		for (int i = 0; i < 1_000; i++) {
+			filter.put("member-" + i);
+		}
+		for (int i = 0; i < 1_000; i++) {
+			assertTrue(filter.mightContain("member-" + i));
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain("other-" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+	}
+}
@@ -0,0 +1,118 @@
+package emp.emp.util.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import emp.emp.exception.BusinessException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class TokenRevocationServiceTest {
+
+	private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+	private StringRedisTemplate redisTemplate;
+	private ZSetOperations<String, String> zSetOperations;
+	private TokenRevocationService service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(StringRedisTemplate.class);
+		zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		service = new TokenRevocationService(redisTemplate, 100, 0.01, 3_600L, now::get);
+	}
+
+	@Test
+	void revokeMemberAppliesLocallyAndPublishes() {
+		Claims before = claims("member", now.get() - 10_000);
+
+		service.revokeMember("member");
+
+		assertTrue(service.isRevoked(before));
+		assertFalse(service.isRevoked(claims("member", now.get())));
+		verify(zSetOperations).add("token-revocation:members", "member", now.get() / 1000);
+		verify(redisTemplate).convertAndSend(TokenRevocationService.CHANNEL, now.get() / 1000 + " member");
+	}
+
+	@Test
+	void redisWriteFailureFailsWithoutLocalRevocation() {
+		when(zSetOperations.add(anyString(), anyString(), anyDouble()))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThrows(BusinessException.class, () -> service.revokeMember("member"));
+
+		assertFalse(service.isRevoked(claims("member", now.get() - 10_000)));
+		verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+	}
+
+	@Test
+	void publishFailureStillRevokes() {
+		when(redisTemplate.convertAndSend(anyString(), anyString()))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		service.revokeMember("member");
+
+		assertTrue(service.isRevoked(claims("member", now.get() - 10_000)));
+	}
+
+	@Test
+	void messageFromOtherNodeRevokesWithoutRedisLookup() {
+		long notBefore = now.get() / 1000;
+		service.onMessage(new DefaultMessage(TokenRevocationService.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			(notBefore + " member").getBytes(StandardCharsets.UTF_8)), null);
+
+		assertTrue(service.isRevoked(claims("member", now.get() - 5_000)));
+		verifyNoInteractions(zSetOperations);
+	}
+
+	@Test
+	void resyncLoadsRedisAndKeepsRecentLocalEntries() {
+		long nowSeconds = now.get() / 1000;
+		when(zSetOperations.rangeWithScores(anyString(), anyLong(), anyLong()))
+			.thenReturn(Set.of(new DefaultTypedTuple<>("fromRedis", (double) nowSeconds)));
+		service.onMessage(new DefaultMessage(new byte[0],
+			(nowSeconds + " fromMessage").getBytes(StandardCharsets.UTF_8)), null);
+
+		service.resync();
+
+		assertEquals(2, service.size());
+		assertTrue(service.isRevoked(claims("fromRedis", now.get() - 5_000)));
+		assertTrue(service.isRevoked(claims("fromMessage", now.get() - 5_000)));
+		verify(zSetOperations).removeRangeByScore(eq("token-revocation:members"),
+			eq(Double.NEGATIVE_INFINITY), eq((double) (nowSeconds - 3_600 - 1)));
+	}
+
+	@Test
+	void revocationDuringResyncIsKept() {
+		long nowSeconds = now.get() / 1000;
+		// Redis 를 읽는 사이에 이 노드에서 폐기
+		when(zSetOperations.rangeWithScores(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+			service.revokeMember("duringResync");
+			return Set.of(new DefaultTypedTuple<>("fromRedis", (double) nowSeconds));
+		});
+
+		service.resync();
+
+		assertTrue(service.isRevoked(claims("duringResync", now.get() - 5_000)));
+		assertTrue(service.isRevoked(claims("fromRedis", now.get() - 5_000)));
+	}
+
+	private static Claims claims(String subject, long issuedAtMillis) {
+		return Jwts.claims().setSubject(subject).setIssuedAt(new Date(issuedAtMillis));
+	}
+}
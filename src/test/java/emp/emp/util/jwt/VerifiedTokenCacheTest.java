@@ -0,0 +1,55 @@
+package emp.emp.util.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class VerifiedTokenCacheTest {
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+	private final VerifiedTokenCache cache = new VerifiedTokenCache(4, 10_000L, now::get);
+
+	@Test
+	void entryExpiresWithTokenOrMaxTtl() {
+		cache.put("short", claimsExpiringAt(now.get() + 3_000));
+		cache.put("long", claimsExpiringAt(now.get() + 60_000));
+
+		now.addAndGet(3_000);
+		assertNull(cache.get("short"));   // 토큰 만료
+		assertNotNull(cache.get("long"));
+
+		now.addAndGet(7_000);
+		assertNull(cache.get("long"));    // maxTtl
+	}
+
+	@Test
+	void expiredTokenIsNotCached() {
+		cache.put("expired", claimsExpiringAt(now.get() - 1));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void staysBoundedWhenFull() {
+		for (int i = 0; i < 20; i++) {
+			cache.put("token-" + i, claimsExpiringAt(now.get() + 60_000));
+			assertTrue(cache.size() <= 4);
+		}
+		assertNotNull(cache.get("token-19"));
+	}
+
+	@Test
+	void keyDependsOnWholeToken() {
+		assertEquals(VerifiedTokenCache.keyOf("a.b.c"), VerifiedTokenCache.keyOf("a.b.c"));
+		assertNotEquals(VerifiedTokenCache.keyOf("a.b.c"), VerifiedTokenCache.keyOf("a.x.c"));
+	}
+
+	private static Claims claimsExpiringAt(long millis) {
+		return Jwts.claims().setSubject("TestVerifyId123456").setExpiration(new Date(millis));
+	}
+}
@@ -0,0 +1,74 @@
+package emp.emp.util.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import emp.emp.member.enums.Role;
+
+class MemberIdentityCacheTest {
+
+	private StringRedisTemplate redisTemplate;
+	private MemberIdentityCache cache;
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = mock(StringRedisTemplate.class);
+		cache = new MemberIdentityCache(redisTemplate, 100, 60_000L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void evictOutsideTransactionPublishesImmediately() {
+		cache.put(identity("member"));
+
+		cache.evict("member");
+
+		assertNull(cache.get("member"));
+		verify(redisTemplate).convertAndSend(MemberIdentityCache.CHANNEL, "member");
+	}
+
+	@Test
+	void evictInTransactionPublishesAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		cache.evict("member");
+		verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+
+		// 커밋 전에 다른 요청이 옛 값을 다시 넣어둔 경우
+		cache.put(identity("member"));
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		assertNull(cache.get("member"));
+		verify(redisTemplate).convertAndSend(MemberIdentityCache.CHANNEL, "member");
+	}
+
+	@Test
+	void messageFromOtherNodeEvicts() {
+		cache.put(identity("member"));
+
+		cache.onMessage(new DefaultMessage(MemberIdentityCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"member".getBytes(StandardCharsets.UTF_8)), null);
+
+		assertNull(cache.get("member"));
+	}
+
+	private static MemberIdentity identity(String verifyId) {
+		return new MemberIdentity(1L, verifyId, Role.ROLE_USER, 10L);
+	}
+}
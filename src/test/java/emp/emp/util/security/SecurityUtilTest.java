@@ -0,0 +1,122 @@
+package emp.emp.util.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import emp.emp.auth.custom.CustomUserDetails;
+import emp.emp.auth.dto.LoginDto;
+import emp.emp.member.entity.Member;
+import emp.emp.member.enums.Role;
+import emp.emp.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityUtilTest {
+
+	private static final String VERIFY_ID = "own_test@test.com";
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private EntityManager entityManager;
+
+	private MemberIdentityCache memberIdentityCache;
+	private SecurityUtil securityUtil;
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		memberIdentityCache = new MemberIdentityCache(mock(StringRedisTemplate.class), 100, 60_000L);
+		securityUtil = new SecurityUtil(memberRepository, memberIdentityCache, entityManager);
+
+		member = Member.builder().verifyId(VERIFY_ID).role(Role.ROLE_USER).build();
+		ReflectionTestUtils.setField(member, "id", 1L);
+
+		CustomUserDetails userDetails = CustomUserDetails.create(
+			LoginDto.builder().verifyId(VERIFY_ID).role(Role.ROLE_USER.name()).build());
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+		newRequest();
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void sameRequestLoadsMemberOnce() {
+		when(memberRepository.findByVerifyId(VERIFY_ID)).thenReturn(Optional.of(member));
+		when(entityManager.contains(member)).thenReturn(true);
+
+		assertSame(member, securityUtil.getCurrentMember());
+		assertSame(member, securityUtil.getCurrentMember());
+
+		verify(memberRepository, times(1)).findByVerifyId(VERIFY_ID);
+		verify(memberRepository, never()).findById(anyLong());
+	}
+
+	@Test
+	void nextRequestFindsMemberByCachedId() {
+		when(memberRepository.findByVerifyId(VERIFY_ID)).thenReturn(Optional.of(member));
+		when(memberRepository.findById(1L)).thenReturn(Optional.of(member));
+
+		securityUtil.getCurrentMember();
+		newRequest();
+		assertSame(member, securityUtil.getCurrentMember());
+
+		verify(memberRepository, times(1)).findByVerifyId(VERIFY_ID);
+		verify(memberRepository, times(1)).findById(1L);
+		assertEquals(Role.ROLE_USER, securityUtil.getCurrentMemberIdentity().getRole());
+	}
+
+	@Test
+	void evictFallsBackToVerifyIdLookup() {
+		when(memberRepository.findByVerifyId(VERIFY_ID)).thenReturn(Optional.of(member));
+
+		securityUtil.getCurrentMember();
+		securityUtil.evictMember(VERIFY_ID);
+		assertNull(memberIdentityCache.get(VERIFY_ID));
+
+		newRequest();
+		securityUtil.getCurrentMember();
+
+		verify(memberRepository, times(2)).findByVerifyId(VERIFY_ID);
+		verify(memberRepository, never()).findById(anyLong());
+	}
+
+	@Test
+	void cachedIdentityGivesReferenceWithoutQuery() {
+		memberIdentityCache.put(MemberIdentity.from(member));
+		when(memberRepository.getReferenceById(1L)).thenReturn(member);
+
+		assertEquals(1L, securityUtil.getCurrentMemberIdentity().getId());
+		assertSame(member, securityUtil.getCurrentMemberReference());
+
+		verify(memberRepository, never()).findByVerifyId(anyString());
+		verify(memberRepository, never()).findById(anyLong());
+	}
+
+	private void newRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+}